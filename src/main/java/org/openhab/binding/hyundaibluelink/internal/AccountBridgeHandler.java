@@ -1,9 +1,21 @@
 package org.openhab.binding.hyundaibluelink.internal;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.hyundaibluelink.internal.api.BlueLinkApi;
@@ -14,6 +26,7 @@ import org.openhab.binding.hyundaibluelink.internal.discovery.HyundaiBlueLinkDis
 import org.openhab.binding.hyundaibluelink.internal.util.EndpointResolver.Endpoints;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
@@ -22,18 +35,31 @@ import org.openhab.core.types.Command;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import org.openhab.binding.hyundaibluelink.internal.util.EndpointResolver;
+import org.openhab.binding.hyundaibluelink.internal.util.EndpointRegistry;
 
 @org.eclipse.jdt.annotation.NonNullByDefault
 public class AccountBridgeHandler extends BaseBridgeHandler {
     private final Logger logger = Objects.requireNonNull(LoggerFactory.getLogger(AccountBridgeHandler.class));
 
+    private static final long FLEET_COMMAND_TIMEOUT_SECONDS = 60;
+    private static final int MAX_CONCURRENT_REQUESTS = 8;
+    private static final long IO_METRICS_INTERVAL_SECONDS = 60;
+
     private @Nullable AccountConfiguration cfg;
     private @Nullable BlueLinkApi api;
+    private volatile Semaphore commandBudget = new Semaphore(3);
+    private volatile AdaptiveRefreshPolicy refreshPolicy = AdaptiveRefreshPolicy.DISABLED;
+    private final StaggeredRefreshScheduler refreshScheduler = new StaggeredRefreshScheduler(scheduler);
+    private volatile BlueLinkIoExecutor ioExecutor;
+    private final EndpointRegistry endpointRegistry = EndpointRegistry.shared();
+    private @Nullable Endpoints endpoints;
+    private @Nullable AutoCloseable endpointWatch;
+    private final VehicleDirectory vehicleDirectory = new VehicleDirectory(this::fetchVehicleList);
+    private @Nullable ScheduledFuture<?> ioMetricsJob;
 
     public AccountBridgeHandler(Bridge bridge) {
         super(bridge);
+        ioExecutor = createIoExecutor();
     }
 
     @Override
@@ -47,29 +73,72 @@ public class AccountBridgeHandler extends BaseBridgeHandler {
     public void initialize() {
         AccountConfiguration localCfg = AccountConfiguration.from(getConfig());
         cfg = localCfg;
+        commandBudget = new Semaphore(localCfg.maxParallelCommands);
+        refreshPolicy = AdaptiveRefreshPolicy.parse(localCfg.refreshPolicy);
+        vehicleDirectory.invalidate();
+        if (ioExecutor.isShutdown()) {
+            ioExecutor = createIoExecutor();
+        }
+        cancelIoMetricsJob();
+        ioMetricsJob = scheduler.scheduleWithFixedDelay(this::publishIoMetrics, IO_METRICS_INTERVAL_SECONDS,
+                IO_METRICS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        resyncVehicleRefreshSlots();
         try {
-            JsonNode root = EndpointResolver.loadTree(this.getClass().getClassLoader(), localCfg.endpointsOverride);
-            Endpoints localEndpoints = Objects
-                    .requireNonNull(EndpointResolver.resolve(root, localCfg.region, localCfg.brand));
-
-            if (localCfg.clientId != null && !localCfg.clientId.isBlank()) {
-                localEndpoints.oauth.clientId = localCfg.clientId;
-            }
-            if (localCfg.clientSecret != null && !localCfg.clientSecret.isBlank()) {
-                localEndpoints.oauth.clientSecret = localCfg.clientSecret;
-            }
+            Endpoints localEndpoints = endpointRegistry.resolve(localCfg.endpointsOverride, localCfg.region,
+                    localCfg.brand);
+            applyClientOverrides(localEndpoints, localCfg);
+            endpoints = localEndpoints;
+            closeEndpointWatch();
+            endpointWatch = endpointRegistry.watch(localCfg.endpointsOverride, localCfg.region, localCfg.brand,
+                    this::endpointsReloaded);
 
             StampProvider localStampProvider = createStampProvider();
             OAuthClient localClient = createOAuthClient(localEndpoints, localStampProvider);
             api = createBlueLinkApi(localEndpoints, localClient, localStampProvider);
 
-            scheduler.execute(() -> loginAfterAuthorization());
+            ioExecutor.execute(() -> loginAfterAuthorization());
         } catch (Exception e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
             logger.warn("Account init failed: {}", e.getMessage());
         }
     }
 
+    private static void applyClientOverrides(Endpoints target, AccountConfiguration localCfg) {
+        if (localCfg.clientId != null && !localCfg.clientId.isBlank()) {
+            target.oauth.clientId = localCfg.clientId;
+        }
+        if (localCfg.clientSecret != null && !localCfg.clientSecret.isBlank()) {
+            target.oauth.clientSecret = localCfg.clientSecret;
+        }
+    }
+
+    /**
+     * Swaps reloaded endpoints into the ones the running clients use; the session and tokens are kept.
+     */
+    private void endpointsReloaded(Endpoints reloaded) {
+        AccountConfiguration localCfg = cfg;
+        Endpoints live = endpoints;
+        if (localCfg == null || live == null) {
+            return;
+        }
+        applyClientOverrides(reloaded, localCfg);
+        live.oauth = reloaded.oauth;
+        live.ccapi = reloaded.ccapi;
+        logger.debug("Applied reloaded endpoints to {}", getThing().getUID());
+    }
+
+    private void closeEndpointWatch() {
+        AutoCloseable watch = endpointWatch;
+        endpointWatch = null;
+        if (watch != null) {
+            try {
+                watch.close();
+            } catch (Exception e) {
+                logger.debug("Failed to stop watching endpoints: {}", e.getMessage());
+            }
+        }
+    }
+
     protected OAuthClient createOAuthClient(Endpoints endpoints, StampProvider stampProvider) {
         AccountConfiguration localCfg = Objects.requireNonNull(cfg);
         OAuthClient client = new OAuthClient(endpoints, localCfg.language,
@@ -101,15 +170,68 @@ public class AccountBridgeHandler extends BaseBridgeHandler {
         return api;
     }
 
-    @SuppressWarnings("null")
+    /**
+     * Returns the vehicles of the account from the {@link #getVehicleDirectory() directory}.
+     */
     public List<VehicleSummary> listVehicles() throws Exception {
+        return vehicleDirectory.getVehicles();
+    }
+
+    /**
+     * Returns the cached vehicle list of the account, shared by discovery and the vehicle ID lookup of all vehicles.
+     */
+    public VehicleDirectory getVehicleDirectory() {
+        return vehicleDirectory;
+    }
+
+    /**
+     * Downloads the vehicle list; only called by the directory when its copy expired.
+     */
+    @SuppressWarnings("null")
+    protected List<VehicleSummary> fetchVehicleList() throws Exception {
         BlueLinkApi localApi = api;
         if (localApi == null) {
-            return List.of();
+            throw new IllegalStateException("Account " + getThing().getUID() + " is not initialized");
         }
         return localApi.listVehicles();
     }
 
+    /**
+     * Returns the scheduler that spreads the refreshes of all vehicles of this account over the interval.
+     */
+    public StaggeredRefreshScheduler getRefreshScheduler() {
+        return refreshScheduler;
+    }
+
+    /**
+     * Returns the executor all blocking requests of this account run on.
+     */
+    public BlueLinkIoExecutor getIoExecutor() {
+        return ioExecutor;
+    }
+
+    private BlueLinkIoExecutor createIoExecutor() {
+        return new BlueLinkIoExecutor("OH-hyundaibluelink-io-" + getThing().getUID().getId(),
+                MAX_CONCURRENT_REQUESTS);
+    }
+
+    private void publishIoMetrics() {
+        updateProperty(HyundaiBlueLinkBindingConstants.PROPERTY_IO_EXECUTOR, ioExecutor.format());
+    }
+
+    public AdaptiveRefreshPolicy getRefreshPolicy() {
+        return refreshPolicy;
+    }
+
+    private void resyncVehicleRefreshSlots() {
+        for (Thing thing : getThing().getThings()) {
+            if (thing.getHandler() instanceof HyundaiBlueLinkVehicleHandler vehicleHandler) {
+                vehicleHandler.ensureRefreshScheduleUpToDate();
+            }
+        }
+        refreshScheduler.resync();
+    }
+
     public int refreshIntervalMinutes() {
         AccountConfiguration localCfg = cfg;
         if (localCfg == null) {
@@ -118,6 +240,120 @@ public class AccountBridgeHandler extends BaseBridgeHandler {
         return Math.max(0, localCfg.refreshMinutes);
     }
 
+    /**
+     * Runs {@code command} on every vehicle of the account concurrently, at most {@code maxParallelCommands} at a
+     * time, and waits for all of them. A vehicle is only handed to the I/O executor once it holds a budget permit, so
+     * queued vehicles never occupy an I/O permit. The control token is fetched once up front and shared by all
+     * requests.
+     *
+     * @return the result per vehicle Thing UID
+     */
+    public Map<String, FleetCommandResult> dispatchToVehicles(String actionName,
+            Function<HyundaiBlueLinkVehicleHandler, VehicleCommandManager.DispatchResult> command) {
+        Map<String, FleetCommandResult> results = new LinkedHashMap<>();
+        Map<String, Future<FleetCommandResult>> pending = new LinkedHashMap<>();
+        BlueLinkApi localApi = api;
+        if (localApi != null) {
+            try {
+                localApi.ensureControlToken();
+            } catch (Exception e) {
+                logger.debug("Control token not available before {}: {}", actionName, e.getMessage());
+            }
+        }
+        Semaphore budget = commandBudget;
+        BlueLinkIoExecutor localExecutor = ioExecutor;
+        Map<String, BudgetPermit> permits = new HashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(FLEET_COMMAND_TIMEOUT_SECONDS);
+        for (Thing thing : getThing().getThings()) {
+            if (!(thing.getHandler() instanceof HyundaiBlueLinkVehicleHandler vehicleHandler)) {
+                continue;
+            }
+            String uid = thing.getUID().toString();
+            // take the budget before submitting, so a vehicle waiting for it never holds an I/O permit
+            try {
+                if (!budget.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    pending.put(uid, CompletableFuture.completedFuture(new FleetCommandResult(
+                            VehicleCommandManager.DispatchResult.FAILED,
+                            TimeUnit.SECONDS.toMillis(FLEET_COMMAND_TIMEOUT_SECONDS), "timeout")));
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending.put(uid, CompletableFuture.completedFuture(
+                        new FleetCommandResult(VehicleCommandManager.DispatchResult.FAILED, 0, "interrupted")));
+                continue;
+            }
+            BudgetPermit permit = new BudgetPermit(budget);
+            permits.put(uid, permit);
+            long start = System.nanoTime();
+            try {
+                pending.put(uid, localExecutor.submit(() -> {
+                    try {
+                        return new FleetCommandResult(command.apply(vehicleHandler), elapsedMillis(start), null);
+                    } catch (RuntimeException e) {
+                        return new FleetCommandResult(VehicleCommandManager.DispatchResult.FAILED,
+                                elapsedMillis(start), e.getMessage());
+                    } finally {
+                        permit.release();
+                    }
+                }));
+            } catch (RuntimeException e) {
+                permit.release();
+                pending.put(uid, CompletableFuture.completedFuture(
+                        new FleetCommandResult(VehicleCommandManager.DispatchResult.FAILED, 0, e.getMessage())));
+            }
+        }
+        for (Map.Entry<String, Future<FleetCommandResult>> entry : pending.entrySet()) {
+            FleetCommandResult result;
+            try {
+                result = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                entry.getValue().cancel(true);
+                result = new FleetCommandResult(VehicleCommandManager.DispatchResult.FAILED,
+                        TimeUnit.SECONDS.toMillis(FLEET_COMMAND_TIMEOUT_SECONDS), "timeout");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result = new FleetCommandResult(VehicleCommandManager.DispatchResult.FAILED, 0, "interrupted");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                result = new FleetCommandResult(VehicleCommandManager.DispatchResult.FAILED, 0,
+                        cause != null ? cause.getMessage() : e.getMessage());
+            }
+            if (entry.getValue().isDone()) {
+                // a task cancelled or interrupted before its command ran never reaches its own release
+                BudgetPermit permit = permits.get(entry.getKey());
+                if (permit != null) {
+                    permit.release();
+                }
+            }
+            results.put(entry.getKey(), result);
+        }
+        logger.debug("{} on {}: {}", actionName, getThing().getUID(), results);
+        return results;
+    }
+
+    /**
+     * A permit taken from the command budget; only the first {@link #release()} returns it.
+     */
+    private static final class BudgetPermit {
+        private final Semaphore budget;
+        private final AtomicBoolean held = new AtomicBoolean(true);
+
+        BudgetPermit(Semaphore budget) {
+            this.budget = budget;
+        }
+
+        void release() {
+            if (held.compareAndSet(true, false)) {
+                budget.release();
+            }
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         // no channels on bridge
@@ -143,6 +379,17 @@ public class AccountBridgeHandler extends BaseBridgeHandler {
 
     @Override
     public void dispose() {
+        cancelIoMetricsJob();
+        closeEndpointWatch();
+        ioExecutor.shutdown();
         super.dispose();
     }
+
+    private void cancelIoMetricsJob() {
+        ScheduledFuture<?> job = ioMetricsJob;
+        if (job != null) {
+            job.cancel(false);
+            ioMetricsJob = null;
+        }
+    }
 }
\ No newline at end of file
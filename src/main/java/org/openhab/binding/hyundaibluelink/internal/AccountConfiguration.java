@@ -13,6 +13,8 @@ public class AccountConfiguration {
     public boolean autoUpdateStamp = true;
     public String endpointsOverride;
     public int refreshMinutes = 60;
+    public int maxParallelCommands = 3;
+    public String refreshPolicy = AdaptiveRefreshPolicy.DEFAULT_RULES;
     public String pin;
 
     public static AccountConfiguration from(Configuration cfg) {
@@ -49,6 +51,20 @@ public class AccountConfiguration {
                 c.refreshMinutes = 60;
             }
         }
+        Object parallel = cfg.get(HyundaiBlueLinkBindingConstants.CONFIG_MAX_PARALLEL_COMMANDS);
+        if (parallel instanceof Number) {
+            c.maxParallelCommands = Math.max(1, ((Number) parallel).intValue());
+        } else if (parallel != null) {
+            try {
+                c.maxParallelCommands = Math.max(1, Integer.parseInt(parallel.toString()));
+            } catch (NumberFormatException e) {
+                c.maxParallelCommands = 3;
+            }
+        }
+        Object policy = cfg.get(HyundaiBlueLinkBindingConstants.CONFIG_REFRESH_POLICY);
+        if (policy != null) {
+            c.refreshPolicy = policy.toString();
+        }
         if (c.clientId == null)
             c.clientId = "";
         if (c.clientSecret == null)
@@ -0,0 +1,210 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Picks the delay until the next refresh of a vehicle from its last status.
+ * <p>
+ * The policy is configured as comma separated {@code rule=duration} pairs, durations in {@code s}, {@code m} or
+ * {@code h} (seconds if no unit is given):
+ * <ul>
+ * <li>{@code chargeFinishing}: charging and less than {@value #CHARGE_FINISHING_MINUTES} minutes or
+ * {@value #CHARGE_FINISHING_SOC_MARGIN} % of the AC limit to go</li>
+ * <li>{@code charging}, {@code climate}, {@code acc}: the vehicle reports charging, climate or ignition on</li>
+ * <li>{@code command}: a command was sent within the last {@value #RECENT_COMMAND_SECONDS} seconds</li>
+ * <li>{@code unlocked}: the doors are reported unlocked</li>
+ * <li>{@code night=22-6:3h}: idle vehicles between 22:00 and 06:00</li>
+ * </ul>
+ * The shortest matching rule wins; without a match the configured refresh interval applies.
+ */
+@NonNullByDefault
+public class AdaptiveRefreshPolicy {
+    public static final String DEFAULT_RULES = "chargeFinishing=60s,charging=5m,climate=5m,acc=5m,command=2m,"
+            + "unlocked=10m";
+    public static final AdaptiveRefreshPolicy DISABLED = new AdaptiveRefreshPolicy(Map.of(), -1, -1, 0);
+
+    static final long MIN_DELAY_SECONDS = 30;
+    static final int CHARGE_FINISHING_MINUTES = 15;
+    static final int CHARGE_FINISHING_SOC_MARGIN = 5;
+    static final long RECENT_COMMAND_SECONDS = 600;
+
+    private static final Logger LOGGER = Objects.requireNonNull(LoggerFactory.getLogger(AdaptiveRefreshPolicy.class));
+
+    /**
+     * Delay chosen for one status and the rule that produced it ({@code interval} if none matched).
+     */
+    public static final class Decision {
+        private final long delaySeconds;
+        private final String rule;
+
+        Decision(long delaySeconds, String rule) {
+            this.delaySeconds = delaySeconds;
+            this.rule = rule;
+        }
+
+        public long getDelaySeconds() {
+            return delaySeconds;
+        }
+
+        public String getRule() {
+            return rule;
+        }
+    }
+
+    private final Map<String, Long> ruleSeconds;
+    private final int nightStartHour;
+    private final int nightEndHour;
+    private final long nightSeconds;
+
+    private AdaptiveRefreshPolicy(Map<String, Long> ruleSeconds, int nightStartHour, int nightEndHour,
+            long nightSeconds) {
+        this.ruleSeconds = ruleSeconds;
+        this.nightStartHour = nightStartHour;
+        this.nightEndHour = nightEndHour;
+        this.nightSeconds = nightSeconds;
+    }
+
+    /**
+     * Parses a rule list; invalid rules are logged and skipped, a blank list disables adaptive polling.
+     */
+    public static AdaptiveRefreshPolicy parse(@Nullable String rules) {
+        if (rules == null || rules.isBlank()) {
+            return DISABLED;
+        }
+        Map<String, Long> parsed = new LinkedHashMap<>();
+        int nightStart = -1;
+        int nightEnd = -1;
+        long night = 0;
+        for (String rule : rules.split(",")) {
+            String[] parts = rule.split("=", 2);
+            if (parts.length != 2) {
+                LOGGER.warn("Ignoring refresh policy rule '{}': expected name=duration", rule.trim());
+                continue;
+            }
+            String name = parts[0].trim();
+            String value = parts[1].trim();
+            try {
+                if ("night".equals(name)) {
+                    String[] window = value.split(":", 2);
+                    String[] hours = window[0].split("-", 2);
+                    if (window.length != 2 || hours.length != 2) {
+                        throw new IllegalArgumentException("expected night=<from>-<to>:<duration>");
+                    }
+                    nightStart = Integer.parseInt(hours[0].trim()) % 24;
+                    nightEnd = Integer.parseInt(hours[1].trim()) % 24;
+                    night = parseSeconds(window[1]);
+                } else {
+                    parsed.put(name, Long.valueOf(parseSeconds(value)));
+                }
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Ignoring refresh policy rule '{}': {}", rule.trim(), e.getMessage());
+            }
+        }
+        return new AdaptiveRefreshPolicy(parsed, nightStart, nightEnd, night);
+    }
+
+    static long parseSeconds(String value) {
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("missing duration");
+        }
+        long factor = 1;
+        if (trimmed.endsWith("h")) {
+            factor = 3600;
+        } else if (trimmed.endsWith("m")) {
+            factor = 60;
+        }
+        if (!Character.isDigit(trimmed.charAt(trimmed.length() - 1))) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1).trim();
+        }
+        long amount = Long.parseLong(trimmed);
+        if (amount <= 0) {
+            throw new IllegalArgumentException("duration must be positive");
+        }
+        return amount * factor;
+    }
+
+    public boolean isEnabled() {
+        return !ruleSeconds.isEmpty() || nightSeconds > 0;
+    }
+
+    /**
+     * Returns the delay until the next refresh.
+     *
+     * @param status the last status, or {@code null} if it could not be fetched
+     * @param secondsSinceCommand seconds since the last command was sent, negative if none was sent
+     * @param intervalSeconds the configured refresh interval
+     */
+    public Decision decide(@Nullable VehicleStatusSnapshot status, long secondsSinceCommand, LocalTime now,
+            long intervalSeconds) {
+        String rule = "interval";
+        long delay = intervalSeconds;
+        if (status != null) {
+            boolean charging = isTrue(status, Field.CHARGING);
+            if (charging && isChargeFinishing(status)) {
+                Long seconds = ruleSeconds.get("chargeFinishing");
+                if (seconds != null && seconds.longValue() < delay) {
+                    delay = seconds.longValue();
+                    rule = "chargeFinishing";
+                }
+            }
+            Map<String, Boolean> flags = Map.of("charging", Boolean.valueOf(charging), "climate",
+                    Boolean.valueOf(isTrue(status, Field.CLIMATE_ON)), "acc",
+                    Boolean.valueOf(isTrue(status, Field.ACC) || isTrue(status, Field.ENGINE_ON)), "unlocked",
+                    Boolean.valueOf(status.has(Field.DOORS_LOCKED) && !status.getBoolean(Field.DOORS_LOCKED)));
+            for (Map.Entry<String, Boolean> flag : flags.entrySet()) {
+                Long seconds = ruleSeconds.get(flag.getKey());
+                if (flag.getValue().booleanValue() && seconds != null && seconds.longValue() < delay) {
+                    delay = seconds.longValue();
+                    rule = flag.getKey();
+                }
+            }
+        }
+        Long commandSeconds = ruleSeconds.get("command");
+        if (secondsSinceCommand >= 0 && secondsSinceCommand < RECENT_COMMAND_SECONDS && commandSeconds != null
+                && commandSeconds.longValue() < delay) {
+            delay = commandSeconds.longValue();
+            rule = "command";
+        }
+        if ("interval".equals(rule) && status != null && nightSeconds > 0 && isNight(now)) {
+            delay = nightSeconds;
+            rule = "night";
+        }
+        return new Decision(Math.max(MIN_DELAY_SECONDS, delay), rule);
+    }
+
+    private static boolean isChargeFinishing(VehicleStatusSnapshot status) {
+        if (status.has(Field.REMAINING_CHARGE_TIME_MINUTES)
+                && status.getInt(Field.REMAINING_CHARGE_TIME_MINUTES) <= CHARGE_FINISHING_MINUTES) {
+            return true;
+        }
+        if (!status.has(Field.BATTERY_LEVEL) || !status.has(Field.CHARGE_LIMIT_AC)) {
+            return false;
+        }
+        double limit = status.getDouble(Field.CHARGE_LIMIT_AC);
+        return status.getDouble(Field.BATTERY_LEVEL) >= limit - CHARGE_FINISHING_SOC_MARGIN;
+    }
+
+    private static boolean isTrue(VehicleStatusSnapshot status, Field field) {
+        return status.has(field) && status.getBoolean(field);
+    }
+
+    private boolean isNight(LocalTime now) {
+        int hour = now.getHour();
+        if (nightStartHour <= nightEndHour) {
+            return hour >= nightStartHour && hour < nightEndHour;
+        }
+        return hour >= nightStartHour || hour < nightEndHour;
+    }
+}
@@ -0,0 +1,167 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the blocking BlueLink requests of one account on virtual threads, so slow calls never hold a thread of the
+ * shared openHAB scheduler, which is only used for timing.
+ * <p>
+ * At most {@code maxConcurrent} tasks run at once; the others wait for a permit on their own virtual thread. The
+ * executor counts running and waiting tasks, the peak of running tasks and how often all permits were taken, and
+ * keeps the queue wait of the last {@link #HISTORY_SIZE} tasks for {@link #getQueueWaitPercentileMillis(double)}.
+ */
+@NonNullByDefault
+public class BlueLinkIoExecutor {
+    static final int HISTORY_SIZE = 64;
+
+    private final Logger logger = Objects.requireNonNull(LoggerFactory.getLogger(BlueLinkIoExecutor.class));
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long[] queueWaitMillis = new long[HISTORY_SIZE];
+    private int queueWaitCount;
+    private int queueWaitPosition;
+    private int active;
+    private int queued;
+    private int peakActive;
+    private long saturatedCount;
+    private long completedCount;
+
+    public BlueLinkIoExecutor(String name, int maxConcurrent) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.permits = new Semaphore(this.maxConcurrent, true);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    public void execute(Runnable task) {
+        submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> Future<T> submit(Callable<T> task) {
+        long enqueued = System.nanoTime();
+        synchronized (this) {
+            queued++;
+        }
+        try {
+            return Objects.requireNonNull(executor.submit(() -> run(task, enqueued)));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                queued--;
+            }
+            throw e;
+        }
+    }
+
+    private <T> T run(Callable<T> task, long enqueued) throws Exception {
+        boolean saturated = !permits.tryAcquire();
+        if (saturated) {
+            synchronized (this) {
+                saturatedCount++;
+            }
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                synchronized (this) {
+                    queued--;
+                }
+                throw e;
+            }
+        }
+        started(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enqueued));
+        try {
+            return task.call();
+        } catch (Exception | Error e) {
+            logger.debug("BlueLink I/O task failed: {}", e.getMessage(), e);
+            throw e;
+        } finally {
+            synchronized (this) {
+                active--;
+                completedCount++;
+            }
+            permits.release();
+        }
+    }
+
+    private synchronized void started(long waitMillis) {
+        queued--;
+        active++;
+        peakActive = Math.max(peakActive, active);
+        queueWaitMillis[queueWaitPosition] = waitMillis;
+        queueWaitPosition = (queueWaitPosition + 1) % HISTORY_SIZE;
+        queueWaitCount = Math.min(queueWaitCount + 1, HISTORY_SIZE);
+    }
+
+    public synchronized int getActiveCount() {
+        return active;
+    }
+
+    public synchronized int getQueuedCount() {
+        return queued;
+    }
+
+    public synchronized int getPeakActiveCount() {
+        return peakActive;
+    }
+
+    /**
+     * Returns how many tasks found all permits taken and had to wait.
+     */
+    public synchronized long getSaturatedCount() {
+        return saturatedCount;
+    }
+
+    public synchronized long getCompletedCount() {
+        return completedCount;
+    }
+
+    /**
+     * Returns the given percentile ({@code 0..1}) of the recent queue waits in milliseconds, or {@code -1} without
+     * samples.
+     */
+    public synchronized long getQueueWaitPercentileMillis(double quantile) {
+        if (queueWaitCount == 0) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(queueWaitMillis, queueWaitCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(quantile * queueWaitCount) - 1;
+        return sorted[Math.max(0, Math.min(queueWaitCount - 1, index))];
+    }
+
+    /**
+     * Returns a summary like {@code active=1/8 queued=0 peak=3 saturated=2 completed=40 wait=0/15ms}; the wait is
+     * the median and 90th percentile of the recent queue waits.
+     */
+    public synchronized String format() {
+        return "active=" + active + "/" + maxConcurrent + " queued=" + queued + " peak=" + peakActive + " saturated="
+                + saturatedCount + " completed=" + completedCount + " wait="
+                + Math.max(0, getQueueWaitPercentileMillis(0.5)) + "/" + Math.max(0, getQueueWaitPercentileMillis(0.9))
+                + "ms";
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Interrupts running requests and drops the waiting ones.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
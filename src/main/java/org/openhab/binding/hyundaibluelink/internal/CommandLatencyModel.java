@@ -0,0 +1,90 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Per-vehicle history of command completion latencies, used to plan command-result polls.
+ * <p>
+ * For every command type the most recent {@link #HISTORY_SIZE} successful completion times are kept. A poll only
+ * shows that a command completed since the previous poll, so each sample is the middle of that window; recording the
+ * detecting poll instead would push every learned latency, and with it the next schedule, later. Once enough
+ * samples exist, the first poll is placed at the median latency, polls are dense until the 90th percentile and
+ * sparse afterwards. Without history the default interval is used.
+ */
+@NonNullByDefault
+public class CommandLatencyModel {
+    static final int HISTORY_SIZE = 16;
+    static final int MIN_SAMPLES = 3;
+    private static final long MIN_DELAY_SECONDS = 1;
+
+    private final Map<String, History> histories = new HashMap<>();
+
+    private static final class History {
+        private final long[] latencies = new long[HISTORY_SIZE];
+        private int count;
+        private int next;
+
+        void add(long latencyMillis) {
+            latencies[next] = latencyMillis;
+            next = (next + 1) % HISTORY_SIZE;
+            count = Math.min(count + 1, HISTORY_SIZE);
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    public void recordCompletion(String commandType, long latencyMillis) {
+        recordCompletion(commandType, latencyMillis, latencyMillis);
+    }
+
+    /**
+     * Records a command that completed after {@code earliestMillis} (the previous poll, or the send if there was
+     * none) and no later than {@code latestMillis} (the poll that saw the result).
+     */
+    public synchronized void recordCompletion(String commandType, long earliestMillis, long latestMillis) {
+        long earliest = Math.max(0, Math.min(earliestMillis, latestMillis));
+        long latest = Math.max(0, latestMillis);
+        histories.computeIfAbsent(commandType, type -> new History()).add(earliest + (latest - earliest) / 2);
+    }
+
+    public synchronized int getSampleCount(String commandType) {
+        History history = histories.get(commandType);
+        return history != null ? history.count : 0;
+    }
+
+    /**
+     * Returns the delay until the next result poll for a command that was sent {@code elapsedMillis} ago.
+     */
+    public synchronized long nextPollDelaySeconds(String commandType, long elapsedMillis, long defaultSeconds) {
+        History history = histories.get(commandType);
+        if (history == null || history.count < MIN_SAMPLES) {
+            return defaultSeconds;
+        }
+        long[] sorted = history.sorted();
+        long median = percentile(sorted, 0.5);
+        long p90 = percentile(sorted, 0.9);
+        long delayMillis;
+        if (elapsedMillis < median) {
+            delayMillis = median - elapsedMillis;
+        } else if (elapsedMillis < p90) {
+            // dense around the expected completion: about three polls between median and p90
+            delayMillis = Math.min((p90 - median) / 3, defaultSeconds * 1000);
+        } else {
+            delayMillis = defaultSeconds * 2000;
+        }
+        return Math.max(MIN_DELAY_SECONDS, (delayMillis + 999) / 1000);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -0,0 +1,59 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * What has to be fetched after a vehicle command, from the cheapest to the most complete refresh.
+ */
+@NonNullByDefault
+public enum CommandRefreshPlan {
+    /** The confirmed command already published its values; nothing is fetched. */
+    NONE,
+    /** Only the reservation settings are fetched. */
+    RESERVATION,
+    /** Only the vehicle status is fetched; location and reservation are left alone. */
+    STATUS,
+    /** Status, location and reservation are fetched. */
+    FULL;
+
+    /**
+     * Returns the plan covering both this and {@code other}. Reservation and status refreshes combine into a full
+     * refresh.
+     */
+    public CommandRefreshPlan merge(@Nullable CommandRefreshPlan other) {
+        if (other == null || other == this || other == NONE) {
+            return this;
+        }
+        if (this == NONE) {
+            return other;
+        }
+        return FULL;
+    }
+
+    /**
+     * Returns the refresh needed after a command on {@code channelId} was confirmed by the vehicle.
+     */
+    public static CommandRefreshPlan forConfirmedCommand(@Nullable String channelId) {
+        if (channelId == null) {
+            return FULL;
+        }
+        return switch (channelId) {
+            // the sent limits were published optimistically and the vehicle confirmed them
+            case HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC,
+                    HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC ->
+                NONE;
+            case HyundaiBlueLinkBindingConstants.CHANNEL_RESERVATION_ACTIVE,
+                    HyundaiBlueLinkBindingConstants.CHANNEL_RESERVATION_DEFROST,
+                    HyundaiBlueLinkBindingConstants.CHANNEL_RESERVATION_TIME ->
+                RESERVATION;
+            // door, HVAC and charging states are only reported by the status endpoint
+            case HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE,
+                    HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL,
+                    HyundaiBlueLinkBindingConstants.CHANNEL_TARGET_TEMPERATURE,
+                    HyundaiBlueLinkBindingConstants.CHANNEL_STARTCHARGE ->
+                STATUS;
+            default -> FULL;
+        };
+    }
+}
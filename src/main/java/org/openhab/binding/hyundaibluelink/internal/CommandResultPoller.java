@@ -1,6 +1,10 @@
 package org.openhab.binding.hyundaibluelink.internal;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -8,45 +12,110 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.hyundaibluelink.internal.api.BlueLinkApi;
+import org.openhab.binding.hyundaibluelink.internal.api.CommandResults;
+import org.openhab.binding.hyundaibluelink.internal.api.CommandTiming;
 import org.openhab.binding.hyundaibluelink.internal.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Helper class for polling the result of an asynchronous vehicle command.
+ * Polls the results of the asynchronous commands of one vehicle.
+ * <p>
+ * Every command that returned a message ID is tracked in a table keyed by that ID with its own deadline and pending
+ * state. A single scheduled poll resolves all outstanding commands against the same notifications response, so
+ * several commands in flight cost one request per poll. Each command completes, fails or times out on its own; the
+ * device ID is rotated once, after the vehicle answered and the table is drained.
  */
 @NonNullByDefault
 public class CommandResultPoller implements Runnable {
     private final Logger logger = Objects.requireNonNull(LoggerFactory.getLogger(CommandResultPoller.class));
     private final HyundaiBlueLinkVehicleHandler handler;
-    private final String vehicleId;
-    private final String vin;
-    private @Nullable String messageId;
-    private @Nullable PendingCommandContext pendingCommand;
-    private long deadlineNanos;
-    private @Nullable volatile ScheduledFuture<?> future;
-    private boolean disposed;
-
-    public CommandResultPoller(HyundaiBlueLinkVehicleHandler handler, String vehicleId, String vin,
-            VehicleCommandResponse response,
-            @Nullable PendingCommandContext pendingCommand,
-            long timeoutSeconds) {
+    private final CommandLatencyModel latencyModel;
+    private final long defaultIntervalSeconds;
+    private final Map<String, Outstanding> outstanding = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> future;
+    private volatile boolean disposed;
+    private boolean rotationDue;
+
+    private static final class Outstanding {
+        private final String vehicleId;
+        private final String vin;
+        private final String messageId;
+        private final String commandType;
+        private final @Nullable PendingCommandContext pendingCommand;
+        private final CommandTiming timing;
+        private final long startNanos;
+        private final long deadlineNanos;
+        private boolean polled;
+        private long previousPollNanos;
+        private long lastPollNanos;
+
+        Outstanding(String vehicleId, String vin, String messageId, String commandType,
+                @Nullable PendingCommandContext pendingCommand, CommandTiming timing, long startNanos,
+                long timeoutSeconds) {
+            this.vehicleId = vehicleId;
+            this.vin = vin;
+            this.messageId = messageId;
+            this.commandType = commandType;
+            this.pendingCommand = pendingCommand;
+            this.timing = timing;
+            this.startNanos = startNanos;
+            this.deadlineNanos = startNanos + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            this.previousPollNanos = startNanos;
+            this.lastPollNanos = startNanos;
+        }
+
+        long elapsedMillis(long nowNanos) {
+            return TimeUnit.NANOSECONDS.toMillis(nowNanos - startNanos);
+        }
+    }
+
+    /**
+     * @param defaultIntervalSeconds poll interval used until the latency model has learned a command type
+     */
+    public CommandResultPoller(HyundaiBlueLinkVehicleHandler handler, CommandLatencyModel latencyModel,
+            long defaultIntervalSeconds) {
         this.handler = handler;
-        this.vehicleId = vehicleId;
-        this.vin = vin;
-        this.messageId = response.getMessageId();
-        this.pendingCommand = pendingCommand;
-        this.deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.latencyModel = latencyModel;
+        this.defaultIntervalSeconds = defaultIntervalSeconds;
     }
 
-    public void scheduleInitial(long intervalSeconds) {
-        scheduleNext(intervalSeconds);
+    /**
+     * Adds a command to the table and schedules a poll unless one is already pending.
+     *
+     * @return {@code false} if the poller is cancelled or finished, or the response carries no message ID
+     */
+    public boolean track(String vehicleId, String vin, VehicleCommandResponse response,
+            @Nullable PendingCommandContext pendingCommand, CommandTiming timing, long timeoutSeconds) {
+        String messageId = response.getMessageId();
+        if (messageId == null || messageId.isBlank()) {
+            return false;
+        }
+        String commandType = response.getAction();
+        synchronized (this) {
+            if (disposed) {
+                return false;
+            }
+            outstanding.put(messageId, new Outstanding(vehicleId, vin, messageId, commandType, pendingCommand,
+                    timing, System.nanoTime(), timeoutSeconds));
+            logger.debug("Tracking command result {} for {} ({} outstanding)", messageId, vin, outstanding.size());
+            if (future != null) {
+                return true;
+            }
+        }
+        scheduleNext(latencyModel.nextPollDelaySeconds(commandType, 0, defaultIntervalSeconds));
+        return true;
+    }
+
+    public synchronized int getOutstandingCount() {
+        return outstanding.size();
     }
 
     public void cancel() {
-        disposed = true;
         ScheduledFuture<?> localFuture;
         synchronized (this) {
+            disposed = true;
+            outstanding.clear();
             localFuture = future;
             future = null;
         }
@@ -57,60 +126,150 @@ public class CommandResultPoller implements Runnable {
 
     @Override
     public void run() {
-        if (!isStillActive()) {
+        if (!handler.isPollerActive(this)) {
             return;
         }
-        try {
-            BlueLinkApi activeApi = handler.getApi();
-            if (activeApi == null) {
-                if (!rescheduleIfTimeLeft()) {
-                    handleFailure("API not available");
-                }
+        List<Outstanding> entries;
+        synchronized (this) {
+            future = null;
+            if (disposed) {
                 return;
             }
-            boolean ready = activeApi.pollVehicleCommandResult(vehicleId, vin, messageId);
-            if (ready) {
-                handleSuccess();
-                return;
+            entries = new ArrayList<>(outstanding.values());
+        }
+        BlueLinkApi activeApi = handler.getApi();
+        if (activeApi != null && !entries.isEmpty()) {
+            poll(activeApi, entries);
+        }
+        expireAndReschedule(activeApi == null ? "API not available" : "Timeout");
+        if (activeApi != null && rotationDue && getOutstandingCount() == 0) {
+            // the vehicle answered; rotating earlier would drop the session the remaining commands are polled with
+            rotationDue = false;
+            activeApi.rotateDeviceAfterCommandResults();
+        }
+    }
+
+    /**
+     * Resolves all entries from one notifications response; each entry is charged the time of that request.
+     */
+    private void poll(BlueLinkApi activeApi, List<Outstanding> entries) {
+        long now = System.nanoTime();
+        List<String> messageIds = new ArrayList<>(entries.size());
+        for (Outstanding entry : entries) {
+            if (!entry.polled) {
+                entry.polled = true;
+                entry.timing.add(CommandTiming.Stage.FIRST_POLL_WAIT, now - entry.startNanos);
             }
+            entry.previousPollNanos = entry.lastPollNanos;
+            entry.lastPollNanos = now;
+            messageIds.add(entry.messageId);
+        }
+        Outstanding first = entries.get(0);
+        CommandResults results = null;
+        String failure = null;
+        activeApi.beginCommandTiming(first.timing);
+        try {
+            results = activeApi.pollVehicleCommandResults(first.vehicleId, first.vin, messageIds);
         } catch (IOException e) {
-            String vinForLog = (vin == null || vin.isBlank()) ? "UNKNOWN" : vin;
-            String messageIdForLog = messageId != null ? messageId : "UNKNOWN";
             String message = e.getMessage();
-            logger.warn("Command result {} for {} failed: {}", messageIdForLog, vinForLog, message);
-            handleFailure(message != null ? message : "IOException");
-            return;
+            logger.warn("Command results {} for {} failed: {}", messageIds, vinForLog(first.vin), message);
+            failure = message != null ? message : "IOException";
         } catch (Exception e) {
-            logger.debug("Polling command result {} for {} failed: {}", messageId, vin, e.getMessage());
+            logger.debug("Polling command results {} for {} failed: {}", messageIds, first.vin, e.getMessage());
+        } finally {
+            activeApi.endCommandTiming();
         }
-
-        if (!rescheduleIfTimeLeft()) {
-            handleFailure("Timeout");
+        long pollNanos = System.nanoTime() - now;
+        for (Outstanding entry : entries) {
+            entry.timing.add(CommandTiming.Stage.POLL, pollNanos);
+        }
+        if (results == null) {
+            if (failure != null) {
+                for (Outstanding entry : entries) {
+                    resolve(entry, CommandResultPollOutcome.FAILURE, failure);
+                }
+            }
+            return;
+        }
+        if (results.hasVerdicts()) {
+            rotationDue = true;
+        }
+        for (Outstanding entry : entries) {
+            String entryFailure = results.getFailure(entry.messageId);
+            if (entryFailure != null) {
+                logger.warn("Command result {} for {} failed: {}", entry.messageId, vinForLog(entry.vin),
+                        entryFailure);
+                resolve(entry, CommandResultPollOutcome.FAILURE, entryFailure);
+            } else if (results.isSucceeded(entry.messageId)) {
+                resolve(entry, CommandResultPollOutcome.SUCCESS, null);
+            }
         }
     }
 
-    private void handleSuccess() {
-        complete();
-        handler.handleCommandResultPollCompletion(CommandResultPollOutcome.SUCCESS,
-                pendingCommand);
-    }
-
-    private void handleFailure(String reason) {
-        if (!disposed) {
-            logger.warn("Command result {} for {} not received or failed: {}; completing pending operation", messageId,
-                    vin, reason);
+    private void expireAndReschedule(String reason) {
+        long now = System.nanoTime();
+        List<Outstanding> expired = new ArrayList<>();
+        long nextDelaySeconds = Long.MAX_VALUE;
+        synchronized (this) {
+            if (disposed) {
+                return;
+            }
+            for (Outstanding entry : outstanding.values()) {
+                long remainingNanos = entry.deadlineNanos - now;
+                if (remainingNanos <= 0) {
+                    expired.add(entry);
+                    continue;
+                }
+                long delaySeconds = latencyModel.nextPollDelaySeconds(entry.commandType, entry.elapsedMillis(now),
+                        defaultIntervalSeconds);
+                long remainingSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos));
+                nextDelaySeconds = Math.min(nextDelaySeconds, Math.min(delaySeconds, remainingSeconds));
+            }
+        }
+        for (Outstanding entry : expired) {
+            resolve(entry, CommandResultPollOutcome.FAILURE, reason);
+        }
+        if (nextDelaySeconds != Long.MAX_VALUE) {
+            scheduleNext(nextDelaySeconds);
         }
-        complete();
-        handler.handleCommandResultPollCompletion(CommandResultPollOutcome.FAILURE,
-                pendingCommand);
     }
 
-    private boolean rescheduleIfTimeLeft() {
-        if (System.nanoTime() >= deadlineNanos || disposed) {
-            return false;
+    private void resolve(Outstanding entry, CommandResultPollOutcome outcome, @Nullable String reason) {
+        boolean empty;
+        boolean superseded = false;
+        synchronized (this) {
+            if (disposed || outstanding.remove(entry.messageId) == null) {
+                return;
+            }
+            empty = outstanding.isEmpty();
+            // an emptied poller is finished; the handler starts a new one for later commands
+            disposed = empty;
+            PendingCommandContext context = entry.pendingCommand;
+            if (context != null) {
+                for (Outstanding other : outstanding.values()) {
+                    PendingCommandContext otherContext = other.pendingCommand;
+                    if (otherContext != null && other.startNanos > entry.startNanos
+                            && otherContext.getChannelUID().equals(context.getChannelUID())) {
+                        superseded = true;
+                        break;
+                    }
+                }
+            }
         }
-        scheduleNext(5); // COMMAND_RESULT_POLL_INTERVAL_SECONDS
-        return true;
+        if (outcome == CommandResultPollOutcome.SUCCESS) {
+            // the command completed between the poll that still saw it pending and the one that saw the result
+            latencyModel.recordCompletion(entry.commandType, entry.elapsedMillis(entry.previousPollNanos),
+                    entry.elapsedMillis(entry.lastPollNanos));
+        } else {
+            logger.warn("Command result {} for {} not received or failed: {}; completing pending operation",
+                    entry.messageId, entry.vin, reason);
+        }
+        if (empty) {
+            handler.onPollerCompleted(this);
+        }
+        // a newer command for the same channel owns the optimistic state, so an older failure must not restore it
+        boolean skipRestore = superseded && outcome == CommandResultPollOutcome.FAILURE;
+        handler.handleCommandResultPollCompletion(outcome, skipRestore ? null : entry.pendingCommand, entry.timing);
     }
 
     private void scheduleNext(long delaySeconds) {
@@ -119,7 +278,7 @@ public class CommandResultPoller implements Runnable {
         }
         ScheduledFuture<?> next = handler.scheduleCommandResultPollTask(this, delaySeconds);
         synchronized (this) {
-            if (disposed) {
+            if (disposed || future != null) {
                 if (next != null) {
                     next.cancel(false);
                 }
@@ -129,12 +288,7 @@ public class CommandResultPoller implements Runnable {
         }
     }
 
-    private boolean isStillActive() {
-        return !disposed && handler.isPollerActive(this);
-    }
-
-    private void complete() {
-        disposed = true;
-        handler.onPollerCompleted(this);
+    private static String vinForLog(@Nullable String vin) {
+        return (vin == null || vin.isBlank()) ? "UNKNOWN" : vin;
     }
 }
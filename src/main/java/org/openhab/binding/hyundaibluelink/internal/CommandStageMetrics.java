@@ -0,0 +1,88 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.hyundaibluelink.internal.api.CommandTiming;
+import org.openhab.binding.hyundaibluelink.internal.api.CommandTiming.Stage;
+
+/**
+ * Stage latency percentiles of the recent commands of one vehicle, per command type.
+ * <p>
+ * The last {@link #HISTORY_SIZE} completed commands of each type are kept. The summary of a type is published as a
+ * Thing property by the handler and can be read through {@link #getPercentileMillis(String, Stage, double)}.
+ */
+@NonNullByDefault
+public class CommandStageMetrics {
+    static final int HISTORY_SIZE = 32;
+
+    private final Map<String, Map<Stage, long[]>> histories = new TreeMap<>();
+    private final Map<String, Integer> counts = new TreeMap<>();
+    private final Map<String, Integer> positions = new TreeMap<>();
+
+    /**
+     * Adds a completed command. Timings without a command type (the command was never sent) are ignored.
+     */
+    public synchronized void record(CommandTiming timing) {
+        String type = timing.getCommandType();
+        if (type == null) {
+            return;
+        }
+        Map<Stage, long[]> stages = histories.computeIfAbsent(type, t -> new EnumMap<>(Stage.class));
+        int position = positions.getOrDefault(type, 0);
+        for (Stage stage : Stage.values()) {
+            stages.computeIfAbsent(stage, s -> new long[HISTORY_SIZE])[position] = timing.getMillis(stage);
+        }
+        positions.put(type, (position + 1) % HISTORY_SIZE);
+        counts.merge(type, 1, (a, b) -> Math.min(a + b, HISTORY_SIZE));
+    }
+
+    public synchronized Set<String> getCommandTypes() {
+        return new TreeSet<>(histories.keySet());
+    }
+
+    public synchronized int getSampleCount(String commandType) {
+        return counts.getOrDefault(commandType, 0);
+    }
+
+    /**
+     * Returns the given percentile ({@code 0..1}) of a stage in milliseconds, or {@code -1} without samples.
+     */
+    public synchronized long getPercentileMillis(String commandType, Stage stage, double quantile) {
+        Map<Stage, long[]> stages = histories.get(commandType);
+        int count = counts.getOrDefault(commandType, 0);
+        long[] values = stages != null ? stages.get(stage) : null;
+        if (values == null || count == 0) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(quantile * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    /**
+     * Returns a summary like {@code send=120/340ms poll=2010/4020ms}, listing median and 90th percentile of every
+     * stage that took time.
+     */
+    public synchronized String format(String commandType) {
+        StringBuilder sb = new StringBuilder();
+        for (Stage stage : Stage.values()) {
+            long p90 = getPercentileMillis(commandType, stage, 0.9);
+            if (p90 <= 0) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(stage.getLabel()).append('=').append(getPercentileMillis(commandType, stage, 0.5)).append('/')
+                    .append(p90).append("ms");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Age of the values a vehicle currently serves, per data source.
+ * <p>
+ * A failed fetch keeps the last good values of its source as long as they are younger than the maximum age; the
+ * vehicle is then {@link Level#STALE}. Older values are dropped and the vehicle is {@link Level#EXPIRED} until the
+ * source succeeds again. Failed fetches are retried after {@value #FIRST_RETRY_SECONDS} s, doubling up to
+ * {@value #MAX_RETRY_SECONDS} s.
+ */
+@NonNullByDefault
+public class DataFreshness {
+
+    public enum Source {
+        STATUS,
+        LOCATION,
+        RESERVATION
+    }
+
+    public enum Level {
+        FRESH,
+        STALE,
+        EXPIRED
+    }
+
+    static final long FIRST_RETRY_SECONDS = 30;
+    static final long MAX_RETRY_SECONDS = 900;
+
+    private final Map<Source, Instant> lastGood = new EnumMap<>(Source.class);
+    private final Set<Source> failing = EnumSet.noneOf(Source.class);
+    private int retries;
+
+    public synchronized void succeeded(Source source, Instant at) {
+        lastGood.put(source, at);
+        failing.remove(source);
+        if (source == Source.STATUS) {
+            retries = 0;
+        }
+    }
+
+    /**
+     * Records a failed fetch.
+     *
+     * @return {@code true} if the last good values of {@code source} may still be served
+     */
+    public synchronized boolean failed(Source source, Instant now, Duration maxAge) {
+        Instant good = lastGood.get(source);
+        if (good == null && source != Source.STATUS && !failing.contains(source)) {
+            // optional data the vehicle never delivered, e.g. reservations of a combustion car
+            return false;
+        }
+        failing.add(source);
+        if (good == null) {
+            return false;
+        }
+        if (Duration.between(good, now).compareTo(maxAge) > 0) {
+            lastGood.remove(source);
+            return false;
+        }
+        return true;
+    }
+
+    public synchronized @Nullable Duration getAge(Source source, Instant now) {
+        Instant good = lastGood.get(source);
+        return good != null ? Duration.between(good, now) : null;
+    }
+
+    public synchronized Level getLevel() {
+        if (failing.isEmpty()) {
+            return Level.FRESH;
+        }
+        for (Source source : failing) {
+            if (!lastGood.containsKey(source)) {
+                return Level.EXPIRED;
+            }
+        }
+        return Level.STALE;
+    }
+
+    /**
+     * Returns the delay of the next revalidation and backs off the one after.
+     */
+    public synchronized long nextRetrySeconds() {
+        long delay = FIRST_RETRY_SECONDS << Math.min(retries, 10);
+        retries++;
+        return Math.min(MAX_RETRY_SECONDS, delay);
+    }
+}
@@ -0,0 +1,39 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.VehicleCommandManager.DispatchResult;
+
+/**
+ * Outcome of a fleet action on one vehicle.
+ */
+@NonNullByDefault
+public final class FleetCommandResult {
+    private final DispatchResult result;
+    private final long elapsedMillis;
+    private final @Nullable String detail;
+
+    public FleetCommandResult(DispatchResult result, long elapsedMillis, @Nullable String detail) {
+        this.result = result;
+        this.elapsedMillis = elapsedMillis;
+        this.detail = detail;
+    }
+
+    public DispatchResult getResult() {
+        return result;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public @Nullable String getDetail() {
+        return detail;
+    }
+
+    @Override
+    public String toString() {
+        String localDetail = detail;
+        return result + " in " + elapsedMillis + " ms" + (localDetail != null ? " (" + localDetail + ")" : "");
+    }
+}
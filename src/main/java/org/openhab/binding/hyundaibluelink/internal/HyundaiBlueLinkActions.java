@@ -1,15 +1,35 @@
 package org.openhab.binding.hyundaibluelink.internal;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.openhab.core.automation.annotation.ActionInput;
+import org.openhab.core.automation.annotation.ActionOutput;
+import org.openhab.core.automation.annotation.RuleAction;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.binding.ThingActions;
 import org.openhab.core.thing.binding.ThingActionsScope;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ServiceScope;
 
+/**
+ * Fleet actions of an account: each action is sent to every vehicle of the account in parallel. The result maps the
+ * vehicle Thing UID to the outcome and the time it took, e.g. {@code SENT in 812 ms}.
+ * <p>
+ * {@link #queryTelemetry(String, ZonedDateTime, ZonedDateTime)} reads the telemetry ring buffer of one vehicle.
+ */
 @Component(service = ThingActions.class, configurationPid = "binding.hyundaibluelink", scope = ServiceScope.PROTOTYPE)
 @ThingActionsScope(name = "hyundaibluelink")
 public class HyundaiBlueLinkActions implements ThingActions {
 
+    private static final String RESULTS_TYPE = "java.util.Map<java.lang.String,java.lang.String>";
+    private static final String SAMPLES_TYPE = "java.util.List<java.lang.String>";
+
     private AccountBridgeHandler handler;
 
     @Override
@@ -27,4 +47,79 @@ public class HyundaiBlueLinkActions implements ThingActions {
         return handler;
     }
 
+    @RuleAction(label = "lock all vehicles", description = "Locks every vehicle of the account.")
+    public @ActionOutput(name = "results", type = RESULTS_TYPE) Map<String, String> lockAll() {
+        return dispatch("lockAll", HyundaiBlueLinkVehicleHandler::dispatchLock);
+    }
+
+    @RuleAction(label = "precondition all vehicles", description = "Starts the climate control of every vehicle.")
+    public @ActionOutput(name = "results", type = RESULTS_TYPE) Map<String, String> preconditionAll(
+            @ActionInput(name = "temperature", label = "Temperature", description = "Target temperature, or empty to "
+                    + "keep the current one") Double temperature) {
+        return dispatch("preconditionAll", vehicle -> vehicle.dispatchClimateStart(temperature));
+    }
+
+    @RuleAction(label = "set charge limits of all vehicles", description = "Sets the AC and DC charge limits of every "
+            + "vehicle.")
+    public @ActionOutput(name = "results", type = RESULTS_TYPE) Map<String, String> setChargeLimitAll(
+            @ActionInput(name = "limitAC", label = "AC Limit", required = true) int limitAC,
+            @ActionInput(name = "limitDC", label = "DC Limit", required = true) int limitDC) {
+        return dispatch("setChargeLimitAll", vehicle -> vehicle.dispatchChargeLimits(limitAC, limitDC));
+    }
+
+    @RuleAction(label = "query telemetry", description = "Returns the recorded telemetry of one vehicle, one line per "
+            + "sample, oldest first.")
+    public @ActionOutput(name = "samples", type = SAMPLES_TYPE) List<String> queryTelemetry(
+            @ActionInput(name = "vehicle", label = "Vehicle", description = "Thing UID or Thing ID of the vehicle",
+                    required = true) String vehicle,
+            @ActionInput(name = "from", label = "From", required = true) ZonedDateTime from,
+            @ActionInput(name = "to", label = "To", description = "End of the range, exclusive",
+                    required = true) ZonedDateTime to) {
+        List<String> samples = new ArrayList<>();
+        AccountBridgeHandler localHandler = handler;
+        if (localHandler == null) {
+            return samples;
+        }
+        for (Thing thing : localHandler.getThing().getThings()) {
+            if ((vehicle.equals(thing.getUID().toString()) || vehicle.equals(thing.getUID().getId()))
+                    && thing.getHandler() instanceof HyundaiBlueLinkVehicleHandler vehicleHandler) {
+                TelemetryRingBuffer telemetry = vehicleHandler.getTelemetry();
+                if (telemetry != null) {
+                    telemetry.query(from.toInstant(), to.toInstant())
+                            .forEach(sample -> samples.add(sample.toString()));
+                }
+                break;
+            }
+        }
+        return samples;
+    }
+
+    public static Map<String, String> lockAll(ThingActions actions) {
+        return ((HyundaiBlueLinkActions) actions).lockAll();
+    }
+
+    public static Map<String, String> preconditionAll(ThingActions actions, Double temperature) {
+        return ((HyundaiBlueLinkActions) actions).preconditionAll(temperature);
+    }
+
+    public static Map<String, String> setChargeLimitAll(ThingActions actions, int limitAC, int limitDC) {
+        return ((HyundaiBlueLinkActions) actions).setChargeLimitAll(limitAC, limitDC);
+    }
+
+    public static List<String> queryTelemetry(ThingActions actions, String vehicle, ZonedDateTime from,
+            ZonedDateTime to) {
+        return ((HyundaiBlueLinkActions) actions).queryTelemetry(vehicle, from, to);
+    }
+
+    private Map<String, String> dispatch(String actionName,
+            Function<HyundaiBlueLinkVehicleHandler, VehicleCommandManager.DispatchResult> command) {
+        Map<String, String> results = new LinkedHashMap<>();
+        AccountBridgeHandler localHandler = handler;
+        if (localHandler == null) {
+            return results;
+        }
+        localHandler.dispatchToVehicles(actionName, command)
+                .forEach((thingUID, result) -> results.put(thingUID, result.toString()));
+        return results;
+    }
 }
@@ -17,6 +17,11 @@ public final class HyundaiBlueLinkBindingConstants {
         public static final String CONFIG_REGION = "region";
         public static final String CONFIG_PIN = "pin";
         public static final String CONFIG_REFRESH = "refresh";
+        public static final String CONFIG_MAX_PARALLEL_COMMANDS = "maxParallelCommands";
+        public static final String CONFIG_REFRESH_POLICY = "refreshPolicy";
+        public static final String CONFIG_PUBLISH_UNCHANGED_STATES = "publishUnchangedStates";
+        public static final String CONFIG_COMMAND_COALESCING_WINDOW = "commandCoalescingWindow";
+        public static final String CONFIG_MAX_STALE_MINUTES = "maxStaleMinutes";
         // Channels
         public static final String CHANNEL_LOCK_STATE = "lockState";
         public static final String CHANNEL_CLIMATE_CONTROL = "climateControl";
@@ -49,6 +54,12 @@ public final class HyundaiBlueLinkBindingConstants {
         public static final String CHANNEL_RESERVATION_ACTIVE = "reservationActive";
         public static final String CHANNEL_RESERVATION_DEFROST = "reservationDefrost";
 
+        // Monthly report channels
+        public static final String CHANNEL_MONTHLY_REPORT_MONTH = "monthlyReportMonth";
+        public static final String CHANNEL_MONTHLY_DISTANCE = "monthlyDistance";
+        public static final String CHANNEL_MONTHLY_DRIVING_TIME = "monthlyDrivingTime";
+        public static final String CHANNEL_MONTHLY_ENERGY_CONSUMPTION = "monthlyEnergyConsumption";
+
         // Additional channels
         public static final String CHANNEL_VIN = "vin";
         public static final String CHANNEL_BATTERY_LEVEL = "batteryLevel";
@@ -56,6 +67,7 @@ public final class HyundaiBlueLinkBindingConstants {
         public static final String CHANNEL_DOORS_LOCKED = "doorsLocked";
         public static final String CHANNEL_CHARGING = "charging";
         public static final String CHANNEL_LAST_UPDATED = "lastUpdated";
+        public static final String CHANNEL_DATA_FRESHNESS = "dataFreshness";
         public static final String CHANNEL_CHARGING_STATE = "chargingState";
         public static final String CHANNEL_REMAINING_CHARGE_TIME = "chargingRemainTime";
         public static final String CHANNEL_CONNECTOR_FASTENED = "connectorFastened";
@@ -91,6 +103,14 @@ public final class HyundaiBlueLinkBindingConstants {
         public static final String PROPERTY_PROTOCOL_TYPE = "protocolType";
         public static final String PROPERTY_CCU_CCS2_PROTOCOL_SUPPORT = "ccuCCS2ProtocolSupport";
         public static final String PROPERTY_VEHICLE_ID = "vehicleId";
+        /** Prefix of the per-command-type stage latency properties, e.g. {@code commandLatency.lock}. */
+        public static final String PROPERTY_COMMAND_LATENCY_PREFIX = "commandLatency.";
+        /** Queue depth and wait of the commands of a vehicle, see {@code VehicleCommandManager#formatQueueMetrics()}. */
+        public static final String PROPERTY_COMMAND_QUEUE = "commandQueue";
+        /** Load summary of the bridge's I/O executor, see {@code BlueLinkIoExecutor#format()}. */
+        public static final String PROPERTY_IO_EXECUTOR = "ioExecutor";
+        /** Share of status channel updates skipped as unchanged, see {@code StatusChannelDiff#getSuppressionRate()}. */
+        public static final String PROPERTY_SUPPRESSED_UPDATES = "suppressedUpdates";
 
         private HyundaiBlueLinkBindingConstants() {
                 // utility class
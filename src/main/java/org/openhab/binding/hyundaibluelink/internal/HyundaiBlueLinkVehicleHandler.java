@@ -1,17 +1,28 @@
 package org.openhab.binding.hyundaibluelink.internal;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.hyundaibluelink.internal.api.BlueLinkApi;
+import org.openhab.binding.hyundaibluelink.internal.api.CommandTiming;
 import org.openhab.binding.hyundaibluelink.internal.model.*;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
@@ -40,15 +51,23 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
     private static final long COMMAND_REFRESH_DELAY_SECONDS = 30;
     private static final long COMMAND_RESULT_TIMEOUT_SECONDS = 60;
     private static final long COMMAND_RESULT_POLL_INTERVAL_SECONDS = 5;
+    private static final long ADAPTIVE_SLOT_TOLERANCE_SECONDS = 60;
 
     private @Nullable BlueLinkApi api;
     private @Nullable ScheduledFuture<?> refreshJob;
     private volatile int scheduledRefreshIntervalMinutes = Integer.MIN_VALUE;
     private @Nullable ScheduledFuture<?> commandRefreshFuture;
-    private @Nullable ScheduledFuture<?> channelInitFuture;
-    private boolean commandRefreshPendingDuringPoll;
+    private @Nullable ScheduledFuture<?> adaptiveRefreshFuture;
+    private volatile long nextAdaptiveRefreshNanos;
+    private volatile long lastCommandSentNanos;
+    private volatile boolean commandSent;
+    private @Nullable ScheduledFuture<?> startupFuture;
+    private @Nullable CommandRefreshPlan refreshPlanPendingDuringPoll;
+    private @Nullable CommandRefreshPlan scheduledCommandRefreshPlan;
     private boolean commandRefreshBlockedForPoll;
     private final Object commandRefreshLock = new Object();
+    private final Queue<Runnable> channelCommands = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean channelCommandsRunning = new AtomicBoolean();
     private final Object commandResultLock = new Object();
     private @Nullable CommandResultPoller activeCommandResultPoller;
     private volatile boolean disposed;
@@ -56,6 +75,12 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
     private final VehicleIdResolver idResolver;
     private final VehicleStatusManager statusManager;
     private final VehicleCommandManager commandManager;
+    private final CommandLatencyModel commandLatencyModel = new CommandLatencyModel();
+    private final CommandStageMetrics commandStageMetrics = new CommandStageMetrics();
+    private final StatusFreshnessTracker freshnessTracker = new StatusFreshnessTracker();
+    private final List<CommandTiming> timingsAwaitingRefresh = new ArrayList<>();
+    // execution slot of a command without a message ID; released by the refresh that follows it
+    private long commandSlotAwaitingRefresh = VehicleCommandManager.NO_SLOT;
 
     public HyundaiBlueLinkVehicleHandler(Thing thing) {
         super(thing);
@@ -68,45 +93,135 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
     public void initialize() {
         disposed = false;
         idResolver.resetFallbackLogged();
+        statusManager.resetPublishedState();
         updateStatus(ThingStatus.ONLINE);
         logger.debug("HyundaiBlueLinkVehicleHandler initialized and set to ONLINE");
+        statusManager.restorePersistedStatus(createSnapshotStore());
+        statusManager.restoreMonthlyReports(createMonthlyReportStore());
+        statusManager.setTelemetry(openTelemetry());
         resolveApiFromBridge();
 
-        ScheduledExecutorService localScheduler = scheduler;
-        if (localScheduler != null) {
-            channelInitFuture = localScheduler.schedule(this::initializeChannels, 5, TimeUnit.SECONDS);
-        }
-
+        // the startup pipeline does the first fetch, the periodic slot only takes over afterwards
         scheduleRefreshJob();
-        scheduleInitialDataPoll();
+        scheduleStartupPipeline();
     }
 
     @Override
     public void dispose() {
         disposed = true;
         cancelRefreshJob();
+        cancelAdaptiveRefresh();
+        statusManager.cancelRevalidation();
         cancelPendingCommandRefresh();
         cancelActiveCommandResultPoller();
-        if (channelInitFuture != null) {
-            channelInitFuture.cancel(false);
-            channelInitFuture = null;
+        if (startupFuture != null) {
+            startupFuture.cancel(false);
+            startupFuture = null;
         }
-        commandManager.completeCommandExecution();
+        channelCommands.clear();
+        commandManager.cancelQueuedCommands();
         synchronized (commandRefreshLock) {
-            commandRefreshPendingDuringPoll = false;
+            refreshPlanPendingDuringPoll = null;
+            scheduledCommandRefreshPlan = null;
+            timingsAwaitingRefresh.clear();
+            commandSlotAwaitingRefresh = VehicleCommandManager.NO_SLOT;
             commandRefreshBlockedForPoll = false;
         }
+        statusManager.setTelemetry(null);
         api = null;
         super.dispose();
     }
 
+    @Override
+    public void handleRemoval() {
+        VehicleSnapshotStore store = createSnapshotStore();
+        if (store != null) {
+            store.delete();
+        }
+        MonthlyReportStore monthlyReports = createMonthlyReportStore();
+        if (monthlyReports != null) {
+            monthlyReports.delete();
+        }
+        TelemetryRingBuffer telemetry = statusManager.getTelemetry();
+        if (telemetry != null) {
+            telemetry.delete();
+        }
+        super.handleRemoval();
+    }
+
+    /**
+     * Returns the store of the last known status, kept in the userdata folder.
+     */
+    protected @Nullable VehicleSnapshotStore createSnapshotStore() {
+        String fileName = getThing().getUID().getAsString().replace(':', '_') + ".snapshot";
+        return new VehicleSnapshotStore(
+                Path.of(OpenHAB.getUserDataFolder(), HyundaiBlueLinkBindingConstants.BINDING_ID, fileName));
+    }
+
+    /**
+     * Returns the store of the monthly reports, kept next to the status snapshot.
+     */
+    protected @Nullable MonthlyReportStore createMonthlyReportStore() {
+        String fileName = getThing().getUID().getAsString().replace(':', '_') + ".monthly";
+        return new MonthlyReportStore(
+                Path.of(OpenHAB.getUserDataFolder(), HyundaiBlueLinkBindingConstants.BINDING_ID, fileName));
+    }
+
+    /**
+     * Opens the telemetry ring of the vehicle, kept next to the status snapshot, or returns {@code null} if the file
+     * cannot be mapped.
+     */
+    protected @Nullable TelemetryRingBuffer openTelemetry() {
+        String fileName = getThing().getUID().getAsString().replace(':', '_') + ".telemetry";
+        try {
+            return TelemetryRingBuffer.open(
+                    Path.of(OpenHAB.getUserDataFolder(), HyundaiBlueLinkBindingConstants.BINDING_ID, fileName),
+                    TelemetryRingBuffer.DEFAULT_CAPACITY);
+        } catch (IOException e) {
+            logger.warn("Telemetry of {} is not recorded, {} cannot be opened: {}", getThing().getUID(), fileName,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the recorded telemetry of the vehicle for time range queries, or {@code null} while none is recorded.
+     */
+    public @Nullable TelemetryRingBuffer getTelemetry() {
+        return statusManager.getTelemetry();
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (command == RefreshType.REFRESH) {
-            statusManager.refreshVehicleData();
+            statusManager.requestFullPublish();
+            runOnIoExecutor(statusManager::refreshVehicleData);
             return;
         }
-        commandManager.handleCommand(channelUID, command);
+        // commands publish optimistic states that the next refresh has to overwrite
+        statusManager.invalidateChannel(channelUID.getId());
+        channelCommands.add(() -> commandManager.handleCommand(channelUID, command));
+        if (channelCommandsRunning.compareAndSet(false, true)) {
+            runOnIoExecutor(this::drainChannelCommands);
+        }
+    }
+
+    /**
+     * Sends the channel commands one after another on the I/O executor, so the framework thread never waits for a
+     * request and the commands keep the order they were received in.
+     */
+    private void drainChannelCommands() {
+        do {
+            Runnable next;
+            while ((next = channelCommands.poll()) != null) {
+                try {
+                    next.run();
+                } catch (RuntimeException e) {
+                    logger.warn("Channel command for {} failed: {}", getThing().getUID(), e.getMessage());
+                }
+            }
+            channelCommandsRunning.set(false);
+        } while (!channelCommands.isEmpty() && channelCommandsRunning.compareAndSet(false, true));
     }
 
     @Override
@@ -127,6 +242,7 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
         @Nullable
         String newType = thing.getProperties().get(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_TYPE);
         if (!Objects.equals(oldType, newType)) {
+            statusManager.requestFullPublish();
             initializeChannels();
         }
     }
@@ -136,38 +252,77 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
         return super.editThing();
     }
 
+    /**
+     * Follows up a sent command; {@code commandSlot} is the execution slot it holds, released once the command is
+     * tracked by the result poller or, without a message ID, after the refresh.
+     */
     public void triggerAsyncRefresh(String vehicleId, String vin, VehicleCommandResponse response,
-            @Nullable PendingCommandContext pendingCommand) {
-        if (response != null) {
-            String messageId = response.getMessageId();
-            if (messageId != null && !messageId.isBlank()) {
-                blockCommandRefreshForPoll();
-                scheduleCommandRefresh();
-                scheduleCommandResultPoll(vehicleId, vin, response, pendingCommand);
-                return;
-            }
+            @Nullable PendingCommandContext pendingCommand, CommandTiming timing, long commandSlot) {
+        if (timing.getCommandType() == null) {
+            timing.setCommandType(response.getAction());
+        }
+        lastCommandSentNanos = System.nanoTime();
+        commandSent = true;
+        freshnessTracker.reset();
+        String messageId = response.getMessageId();
+        if (messageId != null && !messageId.isBlank()) {
+            // the refresh plan is chosen once the result is known
+            blockCommandRefreshForPoll();
+            scheduleCommandResultPoll(vehicleId, vin, response, pendingCommand, timing, commandSlot);
+            return;
+        }
+        // without a result the optimistic states are unconfirmed, so everything is read back
+        synchronized (commandRefreshLock) {
+            commandSlotAwaitingRefresh = commandSlot;
         }
-        scheduleCommandRefresh();
+        awaitCommandRefresh(timing, CommandRefreshPlan.FULL);
+        scheduleCommandRefresh(CommandRefreshPlan.FULL);
     }
 
-    public void scheduleCommandRefresh() {
-        if (disposed) {
+    /**
+     * Schedules the delayed refresh after a command. Plans requested while a refresh is already scheduled are merged
+     * into it.
+     */
+    public void scheduleCommandRefresh(CommandRefreshPlan plan) {
+        if (disposed || plan == CommandRefreshPlan.NONE) {
             return;
         }
         synchronized (commandRefreshLock) {
             if (commandRefreshBlockedForPoll || isCommandResultPollActive()) {
-                commandRefreshPendingDuringPoll = true;
+                refreshPlanPendingDuringPoll = plan.merge(refreshPlanPendingDuringPoll);
                 return;
             }
+            scheduledCommandRefreshPlan = plan.merge(scheduledCommandRefreshPlan);
             if (commandRefreshFuture != null && !commandRefreshFuture.isDone()) {
                 return;
             }
             Runnable task = () -> {
+                CommandRefreshPlan scheduledPlan;
+                List<CommandTiming> timings;
+                synchronized (commandRefreshLock) {
+                    scheduledPlan = scheduledCommandRefreshPlan;
+                    scheduledCommandRefreshPlan = null;
+                    timings = new ArrayList<>(timingsAwaitingRefresh);
+                    timingsAwaitingRefresh.clear();
+                }
+                long refreshStart = System.nanoTime();
                 try {
-                    statusManager.refreshVehicleData();
+                    statusManager.refreshVehicleData(
+                            scheduledPlan != null ? scheduledPlan : CommandRefreshPlan.FULL);
                 } finally {
-                    clearPendingCommandRefresh();
-                    commandManager.completeCommandExecution();
+                    long refreshNanos = System.nanoTime() - refreshStart;
+                    for (CommandTiming timing : timings) {
+                        timing.add(CommandTiming.Stage.REFRESH, refreshNanos);
+                        completeCommandTiming(timing);
+                    }
+                    long slot;
+                    synchronized (commandRefreshLock) {
+                        slot = commandSlotAwaitingRefresh;
+                        commandSlotAwaitingRefresh = VehicleCommandManager.NO_SLOT;
+                        commandRefreshFuture = null;
+                    }
+                    // commands handed to the result poller released their slot already
+                    commandManager.completeCommandExecution(slot);
                 }
             };
             onCommandRefreshScheduled(COMMAND_REFRESH_DELAY_SECONDS);
@@ -175,10 +330,14 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
         }
     }
 
-    public boolean shouldDeferRefreshDuringCommandPoll() {
+    /**
+     * Returns {@code true} if a refresh has to wait for outstanding command results; the plan is then carried out
+     * once the last result is known.
+     */
+    public boolean shouldDeferRefreshDuringCommandPoll(CommandRefreshPlan plan) {
         synchronized (commandRefreshLock) {
             if (commandRefreshBlockedForPoll || isCommandResultPollActive()) {
-                commandRefreshPendingDuringPoll = true;
+                refreshPlanPendingDuringPoll = plan.merge(refreshPlanPendingDuringPoll);
                 return true;
             }
         }
@@ -188,7 +347,6 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
     private void blockCommandRefreshForPoll() {
         synchronized (commandRefreshLock) {
             commandRefreshBlockedForPoll = true;
-            commandRefreshPendingDuringPoll = true;
         }
     }
 
@@ -199,28 +357,49 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
     }
 
     public void schedulePendingCommandRefreshAfterPoll() {
-        boolean shouldSchedule;
+        CommandRefreshPlan plan;
         synchronized (commandRefreshLock) {
-            shouldSchedule = commandRefreshPendingDuringPoll;
-            commandRefreshPendingDuringPoll = false;
+            plan = refreshPlanPendingDuringPoll;
+            refreshPlanPendingDuringPoll = null;
         }
-        if (shouldSchedule) {
-            scheduleCommandRefresh();
+        if (plan != null) {
+            scheduleCommandRefresh(plan);
         }
     }
 
+    /**
+     * Adds the command to the outstanding-command table. Commands with a message ID release the execution slot once
+     * they are tracked, so further commands can be sent while earlier results are still being polled.
+     */
     public void scheduleCommandResultPoll(String vehicleId, String vin, VehicleCommandResponse response,
-            @Nullable PendingCommandContext pendingCommand) {
-        if (disposed) {
+            @Nullable PendingCommandContext pendingCommand, CommandTiming timing, long commandSlot) {
+        String messageId = response.getMessageId();
+        if (messageId == null || messageId.isBlank()) {
             return;
         }
-        cancelActiveCommandResultPoller();
-        CommandResultPoller poller = new CommandResultPoller(this, vehicleId, vin, response, pendingCommand,
-                COMMAND_RESULT_TIMEOUT_SECONDS);
+        while (!disposed) {
+            CommandResultPoller poller;
+            synchronized (commandResultLock) {
+                poller = activeCommandResultPoller;
+                if (poller == null) {
+                    poller = new CommandResultPoller(this, commandLatencyModel, COMMAND_RESULT_POLL_INTERVAL_SECONDS);
+                    activeCommandResultPoller = poller;
+                }
+            }
+            // a poller that just resolved its last command is finished; retry with a fresh one
+            if (poller.track(vehicleId, vin, response, pendingCommand, timing, COMMAND_RESULT_TIMEOUT_SECONDS)) {
+                commandManager.completeCommandExecution(commandSlot);
+                return;
+            }
+            onPollerCompleted(poller);
+        }
+    }
+
+    public int getOutstandingCommandCount() {
         synchronized (commandResultLock) {
-            activeCommandResultPoller = poller;
+            CommandResultPoller poller = activeCommandResultPoller;
+            return poller != null ? poller.getOutstandingCount() : 0;
         }
-        poller.scheduleInitial(COMMAND_RESULT_POLL_INTERVAL_SECONDS);
     }
 
     public boolean isCommandResultPollActive() {
@@ -242,12 +421,6 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
         cancelPendingCommandRefresh();
     }
 
-    private void clearPendingCommandRefresh() {
-        synchronized (commandRefreshLock) {
-            commandRefreshFuture = null;
-        }
-    }
-
     private void cancelActiveCommandResultPoller() {
         CommandResultPoller poller;
         synchronized (commandResultLock) {
@@ -265,12 +438,40 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
 
     @SuppressWarnings("null")
     protected ScheduledFuture<?> scheduleCommandRefreshTask(Runnable task, long delaySeconds) {
-        return scheduler.schedule(task, delaySeconds, TimeUnit.SECONDS);
+        return scheduler.schedule(onIoExecutor(task), delaySeconds, TimeUnit.SECONDS);
+    }
+
+    @SuppressWarnings("null")
+    public ScheduledFuture<?> scheduleCoalescedCommandTask(Runnable task, long delayMillis) {
+        return scheduler.schedule(onIoExecutor(task), delayMillis, TimeUnit.MILLISECONDS);
     }
 
     @SuppressWarnings("null")
     public ScheduledFuture<?> scheduleCommandResultPollTask(Runnable task, long delaySeconds) {
-        return scheduler.schedule(task, delaySeconds, TimeUnit.SECONDS);
+        return scheduler.schedule(onIoExecutor(task), delaySeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Runs {@code task} on the I/O executor of the account, or right away if the vehicle has no account bridge.
+     */
+    void runOnIoExecutor(Runnable task) {
+        AccountBridgeHandler bridgeHandler = getAccountBridgeHandler();
+        if (bridgeHandler == null) {
+            task.run();
+            return;
+        }
+        try {
+            bridgeHandler.getIoExecutor().execute(task);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Dropping I/O task of {}: account handler is disposed", getThing().getUID());
+        }
+    }
+
+    /**
+     * Wraps {@code task} so the scheduler only times it and hands the work over to the I/O executor.
+     */
+    private Runnable onIoExecutor(Runnable task) {
+        return () -> runOnIoExecutor(task);
     }
 
     public boolean isPollerActive(CommandResultPoller poller) {
@@ -288,19 +489,94 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
     }
 
     public void handleCommandResultPollCompletion(CommandResultPollOutcome outcome,
-            @Nullable PendingCommandContext context) {
+            @Nullable PendingCommandContext context, CommandTiming timing) {
         try {
+            CommandRefreshPlan plan;
             if (outcome == CommandResultPollOutcome.SUCCESS) {
-                refreshVehicleDataAfterCommandCompletion();
+                plan = CommandRefreshPlan
+                        .forConfirmedCommand(context != null ? context.getChannelUID().getId() : null);
             } else {
                 if (context != null) {
                     restorePendingCommandState(context);
                 }
-                commandManager.completeCommandExecution();
+                plan = CommandRefreshPlan.FULL;
             }
+            synchronized (commandRefreshLock) {
+                refreshPlanPendingDuringPoll = plan.merge(refreshPlanPendingDuringPoll);
+            }
+            awaitCommandRefresh(timing, plan);
         } finally {
-            unblockCommandRefreshAfterPoll();
-            schedulePendingCommandRefreshAfterPoll();
+            // refreshes stay deferred until the last outstanding command is resolved
+            if (!isCommandResultPollActive()) {
+                unblockCommandRefreshAfterPoll();
+                schedulePendingCommandRefreshAfterPoll();
+            }
+        }
+    }
+
+    /**
+     * Locks the vehicle on behalf of a fleet action.
+     */
+    public VehicleCommandManager.DispatchResult dispatchLock() {
+        statusManager.invalidateChannel(HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE);
+        return commandManager.dispatch(
+                new ChannelUID(getThing().getUID(), HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE),
+                OnOffType.ON);
+    }
+
+    /**
+     * Starts the climate control on behalf of a fleet action.
+     */
+    public VehicleCommandManager.DispatchResult dispatchClimateStart(@Nullable Double temperature) {
+        statusManager.invalidateChannel(HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL);
+        statusManager.invalidateChannel(HyundaiBlueLinkBindingConstants.CHANNEL_TARGET_TEMPERATURE);
+        return commandManager.dispatchClimateStart(temperature);
+    }
+
+    /**
+     * Sets both charge limits on behalf of a fleet action.
+     */
+    public VehicleCommandManager.DispatchResult dispatchChargeLimits(int limitAC, int limitDC) {
+        statusManager.invalidateChannel(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC);
+        statusManager.invalidateChannel(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC);
+        return commandManager.dispatchChargeLimits(limitAC, limitDC);
+    }
+
+    /**
+     * Returns the stage latency percentiles of the recent commands of this vehicle.
+     */
+    public CommandStageMetrics getCommandStageMetrics() {
+        return commandStageMetrics;
+    }
+
+    void publishCommandQueueMetrics(String summary) {
+        if (!disposed) {
+            updateProperty(HyundaiBlueLinkBindingConstants.PROPERTY_COMMAND_QUEUE, summary);
+        }
+    }
+
+    void publishSuppressedUpdates(String rate) {
+        if (!disposed) {
+            updateProperty(HyundaiBlueLinkBindingConstants.PROPERTY_SUPPRESSED_UPDATES, rate);
+        }
+    }
+
+    private void awaitCommandRefresh(CommandTiming timing, CommandRefreshPlan plan) {
+        if (plan == CommandRefreshPlan.NONE) {
+            completeCommandTiming(timing);
+            return;
+        }
+        synchronized (commandRefreshLock) {
+            timingsAwaitingRefresh.add(timing);
+        }
+    }
+
+    private void completeCommandTiming(CommandTiming timing) {
+        commandStageMetrics.record(timing);
+        String type = timing.getCommandType();
+        if (type != null && !disposed) {
+            updateProperty(HyundaiBlueLinkBindingConstants.PROPERTY_COMMAND_LATENCY_PREFIX + type,
+                    commandStageMetrics.format(type));
         }
     }
 
@@ -312,6 +588,7 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
 
         State previous = context.getPreviousState();
         State targetState = previous != null ? previous : UnDefType.UNDEF;
+        statusManager.invalidateChannel(channelUID.getId());
         if (HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE.equals(channelUID.getId())) {
             commandManager.updateLockState(channelUID, targetState);
         } else {
@@ -319,14 +596,6 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
         }
     }
 
-    private void refreshVehicleDataAfterCommandCompletion() {
-        try {
-            statusManager.refreshVehicleData();
-        } finally {
-            commandManager.completeCommandExecution();
-        }
-    }
-
     private void resolveApiFromBridge() {
         AccountBridgeHandler bridgeHandler = getAccountBridgeHandler();
         if (bridgeHandler != null) {
@@ -352,31 +621,118 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
 
     private void scheduleRefreshJob() {
         int interval = getRefreshIntervalMinutes();
-        scheduleRefreshJob(interval);
+        scheduleRefreshJob(interval, false);
     }
 
-    private void scheduleRefreshJob(int intervalMinutes) {
+    private void scheduleRefreshJob(int intervalMinutes, boolean refreshIfDisabled) {
         cancelRefreshJob();
         scheduledRefreshIntervalMinutes = intervalMinutes;
         if (intervalMinutes <= 0) {
             logger.debug("Automatic refresh disabled for {}", getThing().getUID());
-            executeImmediateRefresh(statusManager::refreshVehicleData);
+            if (refreshIfDisabled) {
+                executeImmediateRefresh(statusManager::refreshVehicleData);
+            }
+            return;
+        }
+        nextAdaptiveRefreshNanos = 0;
+        refreshJob = scheduleVehicleRefreshTask(this::refreshIfDue, intervalMinutes);
+    }
+
+    /**
+     * Periodic refresh slot: skipped while the adaptive policy has planned the next refresh further out.
+     */
+    private void refreshIfDue() {
+        long remainingNanos = nextAdaptiveRefreshNanos - System.nanoTime();
+        if (nextAdaptiveRefreshNanos != 0
+                && remainingNanos > TimeUnit.SECONDS.toNanos(ADAPTIVE_SLOT_TOLERANCE_SECONDS)) {
+            logger.trace("Skipping refresh slot of {}, next refresh due in {} s", getThing().getUID(),
+                    TimeUnit.NANOSECONDS.toSeconds(remainingNanos));
+            return;
+        }
+        statusManager.refreshVehicleData();
+    }
+
+    /**
+     * Plans the next refresh from the status just fetched: a refresh due before the next periodic slot is scheduled
+     * on its own, a later one makes the slots in between skip. The delay is stretched while the server keeps
+     * returning the same snapshot.
+     */
+    public void planAdaptiveRefresh(@Nullable VehicleStatusSnapshot status) {
+        AccountBridgeHandler bridgeHandler = getAccountBridgeHandler();
+        int intervalMinutes = scheduledRefreshIntervalMinutes;
+        if (bridgeHandler == null || disposed || intervalMinutes <= 0) {
             return;
         }
-        refreshJob = scheduleVehicleRefreshTask(statusManager::refreshVehicleData, intervalMinutes);
+        if (status != null && !freshnessTracker.observe(status)) {
+            logger.debug("Server returned the same snapshot for {} ({} times in a row)", getThing().getUID(),
+                    Integer.valueOf(freshnessTracker.getUnchangedCount()));
+        }
+        long now = System.nanoTime();
+        long secondsSinceCommand = commandSent ? TimeUnit.NANOSECONDS.toSeconds(now - lastCommandSentNanos) : -1;
+        long intervalSeconds = TimeUnit.MINUTES.toSeconds(intervalMinutes);
+        AdaptiveRefreshPolicy policy = bridgeHandler.getRefreshPolicy();
+        AdaptiveRefreshPolicy.Decision decision = policy.isEnabled()
+                ? policy.decide(status, secondsSinceCommand, LocalTime.now(), intervalSeconds)
+                : null;
+        long plannedSeconds = decision != null ? decision.getDelaySeconds() : intervalSeconds;
+        long delaySeconds = freshnessTracker.stretch(plannedSeconds);
+        if (decision == null && delaySeconds == intervalSeconds) {
+            nextAdaptiveRefreshNanos = 0;
+            return;
+        }
+        nextAdaptiveRefreshNanos = now + TimeUnit.SECONDS.toNanos(delaySeconds);
+        synchronized (commandRefreshLock) {
+            ScheduledFuture<?> previous = adaptiveRefreshFuture;
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            adaptiveRefreshFuture = delaySeconds < intervalSeconds
+                    ? scheduler.schedule(onIoExecutor(() -> statusManager.refreshVehicleData()), delaySeconds,
+                            TimeUnit.SECONDS)
+                    : null;
+        }
+        logger.debug("Next refresh of {} in {} s ({}{})", getThing().getUID(), Long.valueOf(delaySeconds),
+                decision != null ? decision.getRule() : "interval",
+                delaySeconds != plannedSeconds ? ", unchanged data" : "");
+    }
+
+    private void cancelAdaptiveRefresh() {
+        synchronized (commandRefreshLock) {
+            ScheduledFuture<?> future = adaptiveRefreshFuture;
+            if (future != null) {
+                future.cancel(false);
+                adaptiveRefreshFuture = null;
+            }
+        }
+        nextAdaptiveRefreshNanos = 0;
     }
 
     @SuppressWarnings("null")
     protected ScheduledFuture<?> scheduleVehicleRefreshTask(Runnable task, int intervalMinutes) {
-        return scheduler.scheduleWithFixedDelay(task, 0, intervalMinutes, TimeUnit.MINUTES);
+        AccountBridgeHandler bridgeHandler = getAccountBridgeHandler();
+        if (bridgeHandler != null) {
+            return bridgeHandler.getRefreshScheduler().register(getThing().getUID().toString(),
+                    onIoExecutor(task), intervalMinutes);
+        }
+        return scheduler.scheduleWithFixedDelay(task, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
     }
 
     protected void executeImmediateRefresh(Runnable task) {
-        scheduler.execute(task);
+        if (getAccountBridgeHandler() != null) {
+            runOnIoExecutor(task);
+        } else {
+            scheduler.execute(task);
+        }
     }
 
-    private void scheduleInitialDataPoll() {
-        scheduler.execute(statusManager::performInitialVehicleBootstrapPolls);
+    private void scheduleStartupPipeline() {
+        AccountBridgeHandler bridgeHandler = getAccountBridgeHandler();
+        if (bridgeHandler != null) {
+            startupFuture = bridgeHandler.getRefreshScheduler()
+                    .runAtStartup(onIoExecutor(statusManager::runStartupPipeline));
+            return;
+        }
+        startupFuture = scheduler.schedule(statusManager::runStartupPipeline, 0, TimeUnit.SECONDS);
     }
 
     private void cancelRefreshJob() {
@@ -395,7 +751,7 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
             }
             logger.debug("Detected refresh interval change for {} ({} -> {})", getThing().getUID(),
                     Integer.valueOf(scheduledRefreshIntervalMinutes), Integer.valueOf(interval));
-            scheduleRefreshJob(interval);
+            scheduleRefreshJob(interval, true);
         }
     }
 
@@ -436,14 +792,15 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
         return "2".equals(val);
     }
 
-    public void scheduleRefreshTask(Runnable task, long delay, TimeUnit unit) {
+    public @Nullable ScheduledFuture<?> scheduleRefreshTask(Runnable task, long delay, TimeUnit unit) {
         ScheduledExecutorService localScheduler = scheduler;
         if (localScheduler != null) {
-            localScheduler.schedule(task, delay, unit);
+            return localScheduler.schedule(onIoExecutor(task), delay, unit);
         }
+        return null;
     }
 
-    private void initializeChannels() {
+    void initializeChannels() {
         if (disposed) {
             return;
         }
@@ -493,7 +850,8 @@ public class HyundaiBlueLinkVehicleHandler extends BaseThingHandler {
 
         List<String> evChannels = List.of(
                 HyundaiBlueLinkBindingConstants.CHANNEL_BATTERY_LEVEL,
-                HyundaiBlueLinkBindingConstants.CHANNEL_EV_MODE_RANGE);
+                HyundaiBlueLinkBindingConstants.CHANNEL_EV_MODE_RANGE,
+                HyundaiBlueLinkBindingConstants.CHANNEL_MONTHLY_ENERGY_CONSUMPTION);
 
         if ("EV".equals(t)) {
             remove.addAll(fuelChannels);
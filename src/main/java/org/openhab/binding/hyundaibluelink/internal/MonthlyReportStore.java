@@ -0,0 +1,178 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.model.MonthlyReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the monthly reports of one vehicle on disk, one fixed-size record per month.
+ * <p>
+ * The file starts with a magic number and format version; every month fetched later is appended, so a stored month
+ * is never downloaded again. A record cut short by a crash during the append is ignored when reading.
+ */
+@NonNullByDefault
+public class MonthlyReportStore {
+    private static final int MAGIC = 0x48424c4d; // "HBLM"
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 5;
+    static final int RECORD_SIZE = 25;
+
+    private static final int HAS_DISTANCE = 1;
+    private static final int HAS_DRIVING_MINUTES = 2;
+    private static final int HAS_ENERGY = 4;
+
+    private final Logger logger = Objects.requireNonNull(LoggerFactory.getLogger(MonthlyReportStore.class));
+    private final Path file;
+    private @Nullable TreeMap<YearMonth, MonthlyReport> reports;
+
+    public MonthlyReportStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the stored reports, oldest first.
+     */
+    public synchronized List<MonthlyReport> load() {
+        return List.copyOf(reports().values());
+    }
+
+    public synchronized boolean contains(YearMonth month) {
+        return reports().containsKey(month);
+    }
+
+    public synchronized @Nullable MonthlyReport latest() {
+        Map.Entry<YearMonth, MonthlyReport> last = reports().lastEntry();
+        return last != null ? last.getValue() : null;
+    }
+
+    /**
+     * Appends {@code report} unless its month is already stored.
+     *
+     * @return {@code true} if the report was added
+     */
+    public synchronized boolean append(MonthlyReport report) {
+        TreeMap<YearMonth, MonthlyReport> stored = reports();
+        if (stored.containsKey(report.month)) {
+            return false;
+        }
+        try {
+            Path parent = file.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_SIZE + RECORD_SIZE);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                if (!Files.exists(file) || Files.size(file) < HEADER_SIZE) {
+                    out.writeInt(MAGIC);
+                    out.writeByte(VERSION);
+                } else {
+                    long tail = (Files.size(file) - HEADER_SIZE) % RECORD_SIZE;
+                    if (tail != 0) {
+                        // drop the torn record so the new one starts on a record boundary
+                        truncate(Files.size(file) - tail);
+                    }
+                }
+                writeRecord(out, report);
+            }
+            if (bytes.size() > RECORD_SIZE) {
+                Files.write(file, bytes.toByteArray());
+            } else {
+                Files.write(file, bytes.toByteArray(), StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to store monthly report {}: {}", file, e.getMessage());
+            return false;
+        }
+        stored.put(report.month, report);
+        return true;
+    }
+
+    public synchronized void delete() {
+        reports = null;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Failed to delete monthly reports {}: {}", file, e.getMessage());
+        }
+    }
+
+    private TreeMap<YearMonth, MonthlyReport> reports() {
+        TreeMap<YearMonth, MonthlyReport> loaded = reports;
+        if (loaded == null) {
+            loaded = new TreeMap<>();
+            try {
+                for (MonthlyReport report : decode(Files.readAllBytes(file))) {
+                    loaded.put(report.month, report);
+                }
+            } catch (NoSuchFileException e) {
+                // nothing stored yet
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Ignoring unreadable monthly reports {}: {}", file, e.getMessage());
+            }
+            reports = loaded;
+        }
+        return loaded;
+    }
+
+    private void truncate(long size) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    static List<MonthlyReport> decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (data.length < HEADER_SIZE || in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("unknown monthly report format");
+            }
+            int count = (data.length - HEADER_SIZE) / RECORD_SIZE;
+            MonthlyReport[] reports = new MonthlyReport[count];
+            for (int i = 0; i < count; i++) {
+                reports[i] = readRecord(in);
+            }
+            return List.of(reports);
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, MonthlyReport report) throws IOException {
+        Double distance = report.distanceKm;
+        Integer minutes = report.drivingMinutes;
+        Double energy = report.energyConsumedKwh;
+        out.writeInt(report.month.getYear() * 100 + report.month.getMonthValue());
+        out.writeByte((distance != null ? HAS_DISTANCE : 0) | (minutes != null ? HAS_DRIVING_MINUTES : 0)
+                | (energy != null ? HAS_ENERGY : 0));
+        out.writeDouble(distance != null ? distance.doubleValue() : 0);
+        out.writeInt(minutes != null ? minutes.intValue() : 0);
+        out.writeDouble(energy != null ? energy.doubleValue() : 0);
+    }
+
+    private static MonthlyReport readRecord(DataInputStream in) throws IOException {
+        int yearMonth = in.readInt();
+        int flags = in.readByte();
+        double distance = in.readDouble();
+        int minutes = in.readInt();
+        double energy = in.readDouble();
+        return new MonthlyReport(YearMonth.of(yearMonth / 100, yearMonth % 100),
+                (flags & HAS_DISTANCE) != 0 ? Double.valueOf(distance) : null,
+                (flags & HAS_DRIVING_MINUTES) != 0 ? Integer.valueOf(minutes) : null,
+                (flags & HAS_ENERGY) != 0 ? Double.valueOf(energy) : null);
+    }
+}
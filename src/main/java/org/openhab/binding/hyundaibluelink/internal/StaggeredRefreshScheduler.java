@@ -0,0 +1,183 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Owns the periodic refresh slots of all vehicles of one account.
+ * <p>
+ * With {@code n} vehicles on an interval, vehicle {@code i} refreshes at {@code i/n} of the interval plus a small
+ * random jitter, measured from a fixed epoch, so the account never polls all vehicles at the same instant. Slots are
+ * re-spread whenever a vehicle registers, leaves or changes its interval; the phase is kept, so a resync delays a
+ * refresh by at most one interval. The startup pipelines of the vehicles, which do the first fetch, are queued
+ * {@link #STARTUP_SPACING_MILLIS} apart instead of running immediately.
+ */
+@NonNullByDefault
+public class StaggeredRefreshScheduler {
+    static final long STARTUP_SPACING_MILLIS = 5000;
+    private static final double MAX_JITTER_FRACTION = 0.1;
+
+    private final Logger logger = Objects.requireNonNull(LoggerFactory.getLogger(StaggeredRefreshScheduler.class));
+
+    private final ScheduledExecutorService scheduler;
+    private final Random random;
+    private final long epochMillis;
+    private final List<Slot> slots = new ArrayList<>();
+    private long nextStartupMillis;
+
+    public StaggeredRefreshScheduler(ScheduledExecutorService scheduler) {
+        this(scheduler, new Random());
+    }
+
+    StaggeredRefreshScheduler(ScheduledExecutorService scheduler, Random random) {
+        this.scheduler = scheduler;
+        this.random = random;
+        this.epochMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Registers a periodic refresh. The task runs in its share of the interval until the returned future is
+     * cancelled.
+     */
+    public synchronized ScheduledFuture<?> register(String key, Runnable task, int intervalMinutes) {
+        Slot slot = new Slot(key, task, TimeUnit.MINUTES.toMillis(Math.max(1, intervalMinutes)),
+                random.nextDouble() * MAX_JITTER_FRACTION);
+        slots.add(slot);
+        resync();
+        return slot;
+    }
+
+    /**
+     * Runs a one-off task in the next free startup slot.
+     */
+    public synchronized ScheduledFuture<?> runAtStartup(Runnable task) {
+        long now = System.currentTimeMillis();
+        long runAt = Math.max(now, nextStartupMillis);
+        nextStartupMillis = runAt + STARTUP_SPACING_MILLIS;
+        return Objects.requireNonNull(scheduler.schedule(task, runAt - now, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Re-spreads all registered slots over their interval.
+     */
+    public synchronized void resync() {
+        long now = System.currentTimeMillis();
+        for (Slot slot : slots) {
+            List<Slot> peers = slots.stream().filter(s -> s.intervalMillis == slot.intervalMillis).toList();
+            double share = 1.0 / peers.size();
+            long offset = (long) (slot.intervalMillis * share * (peers.indexOf(slot) + slot.jitter));
+            long phase = Math.floorMod(now - epochMillis, slot.intervalMillis);
+            long delay = Math.floorMod(offset - phase, slot.intervalMillis);
+            if (slot.offsetMillis == offset && slot.periodicFuture != null) {
+                continue;
+            }
+            slot.offsetMillis = offset;
+            ScheduledFuture<?> previous = slot.periodicFuture;
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            slot.periodicFuture = scheduler.scheduleAtFixedRate(slot.task, delay, slot.intervalMillis,
+                    TimeUnit.MILLISECONDS);
+            logger.debug("Refresh slot of {} at {} s into the {} min interval (next in {} s)", slot.key,
+                    TimeUnit.MILLISECONDS.toSeconds(offset), TimeUnit.MILLISECONDS.toMinutes(slot.intervalMillis),
+                    TimeUnit.MILLISECONDS.toSeconds(delay));
+        }
+    }
+
+    public synchronized int getSlotCount() {
+        return slots.size();
+    }
+
+    synchronized long getOffsetMillis(ScheduledFuture<?> future) {
+        return future instanceof Slot slot ? slot.offsetMillis : -1;
+    }
+
+    private synchronized boolean unregister(Slot slot) {
+        if (!slots.remove(slot)) {
+            return false;
+        }
+        ScheduledFuture<?> periodic = slot.periodicFuture;
+        if (periodic != null) {
+            periodic.cancel(false);
+        }
+        resync();
+        return true;
+    }
+
+    /**
+     * Handle of one vehicle's refresh; cancelling it releases the slot and re-spreads the others.
+     */
+    private class Slot implements ScheduledFuture<Object> {
+        final String key;
+        final Runnable task;
+        final long intervalMillis;
+        final double jitter;
+        long offsetMillis = -1;
+        @Nullable
+        ScheduledFuture<?> periodicFuture;
+        volatile boolean cancelled;
+
+        Slot(String key, Runnable task, long intervalMillis, double jitter) {
+            this.key = key;
+            this.task = task;
+            this.intervalMillis = intervalMillis;
+            this.jitter = jitter;
+        }
+
+        @Override
+        public long getDelay(@Nullable TimeUnit unit) {
+            ScheduledFuture<?> periodic;
+            synchronized (StaggeredRefreshScheduler.this) {
+                periodic = periodicFuture;
+            }
+            return periodic != null ? periodic.getDelay(unit) : 0;
+        }
+
+        @Override
+        public int compareTo(@Nullable Delayed other) {
+            return other == null ? 1
+                    : Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            cancelled = true;
+            return unregister(this);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled;
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            throw new CancellationException("Periodic refresh slots never complete");
+        }
+
+        @Override
+        public Object get(long timeout, @Nullable TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            throw new CancellationException("Periodic refresh slots never complete");
+        }
+    }
+}
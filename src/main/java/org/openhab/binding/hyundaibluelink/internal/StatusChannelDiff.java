@@ -0,0 +1,128 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
+
+/**
+ * Compares each new {@link VehicleStatusSnapshot} with the last published one so that only channels whose value or
+ * unit changed are updated.
+ * <p>
+ * A full publish happens for the first snapshot, after {@link #requestFullPublish()}, and on every pass while
+ * {@link #setAlwaysPublishFull(boolean)} is enabled. Channels written outside the status refresh (for example
+ * optimistic command states) must be {@link #invalidate(String) invalidated} so the next pass republishes them.
+ */
+@NonNullByDefault
+public class StatusChannelDiff {
+    private volatile @Nullable VehicleStatusSnapshot lastPublished;
+    private volatile boolean fullPublishRequested = true;
+    private volatile boolean alwaysPublishFull;
+    private final Set<String> invalidatedChannels = ConcurrentHashMap.newKeySet();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong suppressedCount = new AtomicLong();
+
+    public void setAlwaysPublishFull(boolean alwaysPublishFull) {
+        this.alwaysPublishFull = alwaysPublishFull;
+    }
+
+    public void requestFullPublish() {
+        fullPublishRequested = true;
+    }
+
+    public void invalidate(String channelId) {
+        invalidatedChannels.add(channelId);
+    }
+
+    public Pass begin(VehicleStatusSnapshot current) {
+        boolean full = fullPublishRequested || alwaysPublishFull;
+        fullPublishRequested = false;
+        return new Pass(full ? null : lastPublished, current);
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    public long getSuppressedCount() {
+        return suppressedCount.get();
+    }
+
+    /**
+     * Returns the share of channel updates suppressed so far, between 0 and 1.
+     */
+    public double getSuppressionRate() {
+        long suppressed = suppressedCount.get();
+        long total = suppressed + publishedCount.get();
+        return total == 0 ? 0 : (double) suppressed / total;
+    }
+
+    /**
+     * A single comparison pass. Each {@code changed} call accounts for one channel update.
+     */
+    public final class Pass {
+        private final @Nullable VehicleStatusSnapshot previous;
+        private final VehicleStatusSnapshot current;
+        private int published;
+        private int suppressed;
+
+        private Pass(@Nullable VehicleStatusSnapshot previous, VehicleStatusSnapshot current) {
+            this.previous = previous;
+            this.current = current;
+        }
+
+        public boolean isFull() {
+            return previous == null;
+        }
+
+        public boolean changed(String channelId, Field field) {
+            VehicleStatusSnapshot prev = previous;
+            return count(channelId, prev == null || prev.differs(field, current)
+                    || prev.getDistanceUnit(field) != current.getDistanceUnit(field));
+        }
+
+        public boolean changed(String channelId, Field first, Field second) {
+            VehicleStatusSnapshot prev = previous;
+            return count(channelId, prev == null || prev.differs(first, current) || prev.differs(second, current));
+        }
+
+        public boolean changed(String channelId, Function<VehicleStatusSnapshot, @Nullable Object> value) {
+            VehicleStatusSnapshot prev = previous;
+            return count(channelId, prev == null || !Objects.equals(value.apply(prev), value.apply(current)));
+        }
+
+        public boolean changedAny(String channelId) {
+            return count(channelId, !current.equals(previous));
+        }
+
+        public int getPublished() {
+            return published;
+        }
+
+        public int getSuppressed() {
+            return suppressed;
+        }
+
+        public void complete() {
+            lastPublished = current;
+            publishedCount.addAndGet(published);
+            suppressedCount.addAndGet(suppressed);
+        }
+
+        private boolean count(String channelId, boolean changed) {
+            boolean publish = changed || invalidatedChannels.remove(channelId);
+            if (publish) {
+                published++;
+            } else {
+                suppressed++;
+            }
+            return publish;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+
+/**
+ * Counts how many refreshes in a row returned the same server-side snapshot.
+ * <p>
+ * A snapshot is identified by its {@code lastUpdated} timestamp, or by its content if the vehicle does not report
+ * one. Every unchanged snapshot doubles the refresh delay, up to {@link #MAX_BACKOFF_FACTOR} times and
+ * {@link #MAX_DELAY_SECONDS}; a new snapshot or a command starts over.
+ */
+@NonNullByDefault
+public class StatusFreshnessTracker {
+    static final int MAX_BACKOFF_FACTOR = 8;
+    static final long MAX_DELAY_SECONDS = 4 * 3600;
+
+    private @Nullable Object lastKey;
+    private int unchangedCount;
+
+    /**
+     * Records a fetched status.
+     *
+     * @return {@code true} if the server had new data
+     */
+    public synchronized boolean observe(VehicleStatusSnapshot status) {
+        Instant lastUpdated = status.getLastUpdated();
+        Object key = lastUpdated != null ? lastUpdated : status;
+        if (Objects.equals(key, lastKey)) {
+            unchangedCount++;
+            return false;
+        }
+        lastKey = key;
+        unchangedCount = 0;
+        return true;
+    }
+
+    /**
+     * Drops the backoff, e.g. after a command that will change the vehicle state.
+     */
+    public synchronized void reset() {
+        unchangedCount = 0;
+    }
+
+    public synchronized int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    /**
+     * Stretches {@code delaySeconds} for the unchanged snapshots seen so far; delays beyond the cap are kept as is.
+     */
+    public synchronized long stretch(long delaySeconds) {
+        if (unchangedCount == 0 || delaySeconds >= MAX_DELAY_SECONDS) {
+            return delaySeconds;
+        }
+        int factor = Math.min(MAX_BACKOFF_FACTOR, 1 << Math.min(unchangedCount, 30));
+        return Math.min(MAX_DELAY_SECONDS, delaySeconds * factor);
+    }
+}
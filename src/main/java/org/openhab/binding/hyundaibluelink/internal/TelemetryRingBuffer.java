@@ -0,0 +1,305 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.api.DistanceUnit;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the charge, range, odometer and charging state of every fetched status in a memory-mapped ring file, so
+ * they can be charted at polling resolution without the persistence service.
+ * <p>
+ * The file holds a header with the capacity and the number of records ever appended, followed by {@code capacity}
+ * fixed-width records; the oldest record is overwritten once the ring is full. Appending writes a few primitives into
+ * the mapping and allocates nothing. Records are kept in time order, so a status whose timestamp is not newer than the
+ * last record, e.g. a vehicle that has not reported since, is skipped and range queries use a binary search.
+ */
+@NonNullByDefault
+public class TelemetryRingBuffer {
+    static final int DEFAULT_CAPACITY = 8192;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 40;
+
+    private static final int MAGIC = 0x48424c54; // "HBLT"
+    private static final byte VERSION = 1;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int RECORD_SIZE_OFFSET = 12;
+    private static final int COUNT_OFFSET = 16;
+
+    private static final int HAS_BATTERY_LEVEL = 1;
+    private static final int HAS_RANGE = 2;
+    private static final int HAS_ODOMETER = 4;
+    private static final int HAS_CHARGING_STATE = 8;
+    private static final int HAS_CHARGING = 16;
+    private static final int CHARGING = 32;
+    private static final DistanceUnit[] UNITS = DistanceUnit.values();
+
+    private final Logger logger = Objects.requireNonNull(LoggerFactory.getLogger(TelemetryRingBuffer.class));
+    private final Path file;
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private long count;
+    private boolean closed;
+
+    /**
+     * A recorded status. Values the vehicle did not report are {@code null}.
+     */
+    public static class Sample {
+        public final Instant time;
+        public final @Nullable Double batteryLevel;
+        public final @Nullable Double range;
+        public final @Nullable DistanceUnit rangeUnit;
+        public final @Nullable Double odometer;
+        public final @Nullable DistanceUnit odometerUnit;
+        public final @Nullable Integer chargingState;
+        public final @Nullable Boolean charging;
+
+        Sample(Instant time, @Nullable Double batteryLevel, @Nullable Double range, @Nullable DistanceUnit rangeUnit,
+                @Nullable Double odometer, @Nullable DistanceUnit odometerUnit, @Nullable Integer chargingState,
+                @Nullable Boolean charging) {
+            this.time = time;
+            this.batteryLevel = batteryLevel;
+            this.range = range;
+            this.rangeUnit = rangeUnit;
+            this.odometer = odometer;
+            this.odometerUnit = odometerUnit;
+            this.chargingState = chargingState;
+            this.charging = charging;
+        }
+
+        /**
+         * Returns a line like {@code 2026-10-01T08:00:00Z battery=80.5 range=312.0 km chargingState=2 charging=true};
+         * values that were not reported are left out.
+         */
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder().append(time);
+            if (batteryLevel != null) {
+                sb.append(" battery=").append(batteryLevel);
+            }
+            appendDistance(sb, "range", range, rangeUnit);
+            appendDistance(sb, "odometer", odometer, odometerUnit);
+            if (chargingState != null) {
+                sb.append(" chargingState=").append(chargingState);
+            }
+            if (charging != null) {
+                sb.append(" charging=").append(charging);
+            }
+            return sb.toString();
+        }
+
+        private static void appendDistance(StringBuilder sb, String key, @Nullable Double value,
+                @Nullable DistanceUnit unit) {
+            if (value == null) {
+                return;
+            }
+            sb.append(' ').append(key).append('=').append(value);
+            if (unit != null) {
+                sb.append(' ').append(unit.getDisplay());
+            }
+        }
+    }
+
+    /**
+     * Opens the ring file, keeping its records if it was written with the same capacity and starting empty otherwise.
+     */
+    public static TelemetryRingBuffer open(Path file, int capacity) throws IOException {
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new TelemetryRingBuffer(file, capacity);
+    }
+
+    private TelemetryRingBuffer(Path file, int capacity) throws IOException {
+        this.file = file;
+        this.capacity = Math.max(1, capacity);
+        long size = HEADER_SIZE + (long) this.capacity * RECORD_SIZE;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            boolean reuse = channel.size() == size;
+            if (channel.size() > size) {
+                channel.truncate(size);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            if (reuse && buffer.getInt(0) == MAGIC && buffer.get(4) == VERSION
+                    && buffer.getInt(CAPACITY_OFFSET) == this.capacity
+                    && buffer.getInt(RECORD_SIZE_OFFSET) == RECORD_SIZE && buffer.getLong(COUNT_OFFSET) >= 0) {
+                count = buffer.getLong(COUNT_OFFSET);
+            } else {
+                buffer.putInt(0, MAGIC);
+                buffer.put(4, VERSION);
+                buffer.putInt(CAPACITY_OFFSET, this.capacity);
+                buffer.putInt(RECORD_SIZE_OFFSET, RECORD_SIZE);
+                buffer.putLong(COUNT_OFFSET, 0);
+                count = 0;
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the charge, range, odometer and charging state of {@code snapshot}, stamped with its
+     * {@code lastUpdated} or {@code fetchedMillis} if it has none.
+     *
+     * @return {@code false} if the buffer is closed or the timestamp is not newer than the last record
+     */
+    public synchronized boolean append(VehicleStatusSnapshot snapshot, long fetchedMillis) {
+        Instant lastUpdated = snapshot.getLastUpdated();
+        long time = lastUpdated != null ? lastUpdated.toEpochMilli() : fetchedMillis;
+        if (closed || (count > 0 && time <= timeAt(count - 1))) {
+            return false;
+        }
+        int flags = 0;
+        double batteryLevel = 0;
+        double range = 0;
+        double odometer = 0;
+        int chargingState = 0;
+        if (snapshot.has(Field.BATTERY_LEVEL)) {
+            flags |= HAS_BATTERY_LEVEL;
+            batteryLevel = snapshot.getDouble(Field.BATTERY_LEVEL);
+        }
+        if (snapshot.has(Field.RANGE)) {
+            flags |= HAS_RANGE;
+            range = snapshot.getDouble(Field.RANGE);
+        }
+        if (snapshot.has(Field.ODOMETER)) {
+            flags |= HAS_ODOMETER;
+            odometer = snapshot.getDouble(Field.ODOMETER);
+        }
+        if (snapshot.has(Field.CHARGING_STATE)) {
+            flags |= HAS_CHARGING_STATE;
+            chargingState = snapshot.getInt(Field.CHARGING_STATE);
+        }
+        if (snapshot.has(Field.CHARGING)) {
+            flags |= HAS_CHARGING | (snapshot.getBoolean(Field.CHARGING) ? CHARGING : 0);
+        }
+        int offset = offset(count);
+        buffer.putLong(offset, time);
+        buffer.putDouble(offset + 8, batteryLevel);
+        buffer.putDouble(offset + 16, range);
+        buffer.putDouble(offset + 24, odometer);
+        buffer.putInt(offset + 32, chargingState);
+        buffer.put(offset + 36, (byte) flags);
+        buffer.put(offset + 37, unitOrdinal(snapshot.getDistanceUnit(Field.RANGE)));
+        buffer.put(offset + 38, unitOrdinal(snapshot.getDistanceUnit(Field.ODOMETER)));
+        // the record is complete before the count makes it visible
+        count++;
+        buffer.putLong(COUNT_OFFSET, count);
+        return true;
+    }
+
+    /**
+     * Returns the records with {@code from <= time < to}, oldest first.
+     */
+    public synchronized List<Sample> query(Instant from, Instant to) {
+        List<Sample> samples = new ArrayList<>();
+        if (closed) {
+            return samples;
+        }
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        for (long index = firstAtOrAfter(fromMillis); index < count && timeAt(index) < toMillis; index++) {
+            samples.add(read(index));
+        }
+        return samples;
+    }
+
+    public synchronized int size() {
+        return (int) Math.min(count, capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the time of the newest record, or {@code null} if the buffer is empty.
+     */
+    public synchronized @Nullable Instant getLatestTime() {
+        return closed || count == 0 ? null : Instant.ofEpochMilli(timeAt(count - 1));
+    }
+
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Failed to close telemetry buffer {}: {}", file, e.getMessage());
+        }
+    }
+
+    public synchronized void delete() {
+        close();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Failed to delete telemetry buffer {}: {}", file, e.getMessage());
+        }
+    }
+
+    private long firstAtOrAfter(long millis) {
+        long low = Math.max(0, count - capacity);
+        long high = count;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (timeAt(mid) < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private long timeAt(long index) {
+        return buffer.getLong(offset(index));
+    }
+
+    private int offset(long index) {
+        return HEADER_SIZE + (int) (index % capacity) * RECORD_SIZE;
+    }
+
+    private Sample read(long index) {
+        int offset = offset(index);
+        int flags = buffer.get(offset + 36);
+        return new Sample(Instant.ofEpochMilli(buffer.getLong(offset)),
+                (flags & HAS_BATTERY_LEVEL) != 0 ? Double.valueOf(buffer.getDouble(offset + 8)) : null,
+                (flags & HAS_RANGE) != 0 ? Double.valueOf(buffer.getDouble(offset + 16)) : null,
+                unit(buffer.get(offset + 37)),
+                (flags & HAS_ODOMETER) != 0 ? Double.valueOf(buffer.getDouble(offset + 24)) : null,
+                unit(buffer.get(offset + 38)),
+                (flags & HAS_CHARGING_STATE) != 0 ? Integer.valueOf(buffer.getInt(offset + 32)) : null,
+                (flags & HAS_CHARGING) != 0 ? Boolean.valueOf((flags & CHARGING) != 0) : null);
+    }
+
+    private static byte unitOrdinal(@Nullable DistanceUnit unit) {
+        return (byte) (unit != null ? unit.ordinal() : -1);
+    }
+
+    private static @Nullable DistanceUnit unit(byte ordinal) {
+        return ordinal >= 0 && ordinal < UNITS.length ? UNITS[ordinal] : null;
+    }
+}
@@ -1,16 +1,19 @@
 package org.openhab.binding.hyundaibluelink.internal;
 
 import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.hyundaibluelink.internal.api.BlueLinkApi;
+import org.openhab.binding.hyundaibluelink.internal.api.CommandTiming;
 import org.openhab.binding.hyundaibluelink.internal.api.Reservation;
 import org.openhab.binding.hyundaibluelink.internal.model.VehicleCommandResponse;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingUID;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
@@ -22,10 +25,41 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class VehicleCommandManager {
+
+    /**
+     * What happened to a command passed to {@link #dispatch(ChannelUID, Command)} and friends.
+     */
+    public enum DispatchResult {
+        /** The request was accepted by the API. */
+        SENT,
+        /** Another command is pending; the command runs once it completes. */
+        QUEUED,
+        /** The request could not be sent or was rejected. */
+        FAILED,
+        /** The command does not result in a request. */
+        IGNORED
+    }
+
     private final Logger logger = Objects.requireNonNull(LoggerFactory.getLogger(VehicleCommandManager.class));
     private final HyundaiBlueLinkVehicleHandler handler;
+    private static final int COMMAND_QUEUE_CAPACITY = 8;
+    /** Returned by {@link #beginCommandExecution(ChannelUID, Command)} when the command was queued. */
+    public static final long NO_SLOT = 0;
+
     private final Object commandExecutionLock = new Object();
-    private boolean commandInProgress;
+    private final VehicleCommandQueue commandQueue = new VehicleCommandQueue(COMMAND_QUEUE_CAPACITY);
+    // token of the command holding the execution slot, or NO_SLOT
+    private long commandSlotHolder = NO_SLOT;
+    private long lastCommandSlot = NO_SLOT;
+    private boolean drainingCommandQueue;
+    private final Object coalescingLock = new Object();
+    private @Nullable ScheduledFuture<?> pendingTemperatureFlush;
+    private @Nullable Double pendingTemperature;
+    private @Nullable ScheduledFuture<?> pendingChargeLimitFlush;
+    private int pendingLimitAC = -1;
+    private int pendingLimitDC = -1;
+    private volatile long lastQueueWaitMillis;
+    private volatile long maxQueueWaitMillis;
 
     private volatile State lastKnownLockState = UnDefType.UNDEF;
     private volatile boolean defrostHeating = false;
@@ -33,6 +67,7 @@ public class VehicleCommandManager {
     private volatile boolean steeringWheelHeating = false;
     private volatile boolean sideMirrorHeating = false;
     private volatile boolean rearWindowHeating = false;
+    // guarded by coalescingLock
     private @Nullable Double targetTemperatureValue;
 
     public VehicleCommandManager(HyundaiBlueLinkVehicleHandler handler) {
@@ -40,15 +75,72 @@ public class VehicleCommandManager {
     }
 
     public void handleCommand(ChannelUID channelUID, Command command) {
+        if (deferForCoalescing(channelUID, command)) {
+            return;
+        }
+        executeCommand(channelUID, command, -1);
+    }
+
+    /**
+     * Sends a command right away, bypassing the coalescing window; used for fleet actions that already carry the
+     * complete request.
+     */
+    public DispatchResult dispatch(ChannelUID channelUID, Command command) {
+        return executeCommand(channelUID, command, -1);
+    }
+
+    /**
+     * Starts the climate control, using {@code temperature} as the new target temperature if given.
+     */
+    public DispatchResult dispatchClimateStart(@Nullable Double temperature) {
+        ThingUID thingUID = handler.getThing().getUID();
+        if (temperature != null) {
+            synchronized (coalescingLock) {
+                cancelFuture(pendingTemperatureFlush);
+                pendingTemperatureFlush = null;
+                pendingTemperature = null;
+                targetTemperatureValue = temperature;
+            }
+            handler.updateState(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_TARGET_TEMPERATURE),
+                    new DecimalType(temperature.doubleValue()));
+        }
+        return executeCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL),
+                OnOffType.ON, -1);
+    }
+
+    /**
+     * Sets both charge limits with a single request.
+     */
+    public DispatchResult dispatchChargeLimits(int limitAC, int limitDC) {
+        synchronized (coalescingLock) {
+            cancelFuture(pendingChargeLimitFlush);
+            pendingChargeLimitFlush = null;
+            pendingLimitAC = -1;
+            pendingLimitDC = -1;
+        }
+        return executeCommand(
+                new ChannelUID(handler.getThing().getUID(), HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC),
+                new DecimalType(limitAC), limitDC);
+    }
+
+    /**
+     * Executes a command. For charge limit commands, {@code companionChargeLimit} carries the coalesced value of the
+     * other (AC/DC) limit, or {@code -1} to leave it unchanged.
+     */
+    private DispatchResult executeCommand(ChannelUID channelUID, Command command, int companionChargeLimit) {
         if (!handler.ensureApi()) {
             logger.warn("No API available to process command {}", command);
-            return;
+            return DispatchResult.FAILED;
         }
         BlueLinkApi activeApi = Objects.requireNonNull(handler.getApi());
 
         String vin = handler.getThing().getUID().getId();
         String vehicleId = handler.resolveVehicleId(vin);
         String channelId = channelUID.getId();
+        CommandTiming timing = new CommandTiming();
+        // set once this call holds the execution slot; only the holder may release it
+        long slot = NO_SLOT;
+        activeApi.beginCommandTiming(timing);
         try {
             VehicleCommandResponse commandResponse = null;
             boolean commandHandled = false;
@@ -56,112 +148,105 @@ public class VehicleCommandManager {
             switch (channelId) {
                 case HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE:
                     if (command == OnOffType.ON || command == OnOffType.OFF) {
-                        if (!beginCommandExecution(channelUID, command)) {
-                            return;
+                        slot = beginCommandExecution(channelUID, command);
+                        if (slot == NO_SLOT) {
+                            return DispatchResult.QUEUED;
                         }
-                        try {
-                            State previousState = lastKnownLockState;
-                            if (command == OnOffType.ON) {
-                                commandResponse = activeApi.lock(vehicleId, vin, handler.isCcs2Supported());
-                                updateLockState(channelUID, OnOffType.ON);
-                            } else {
-                                commandResponse = activeApi.unlock(vehicleId, vin, handler.isCcs2Supported());
-                                updateLockState(channelUID, OnOffType.OFF);
-                            }
-                            pendingContext = new PendingCommandContext(channelUID,
-                                    previousState);
-                            commandHandled = true;
-                        } catch (Exception e) {
-                            completeCommandExecution();
-                            throw e;
+                        State previousState = lastKnownLockState;
+                        if (command == OnOffType.ON) {
+                            commandResponse = activeApi.lock(vehicleId, vin, handler.isCcs2Supported());
+                            updateLockState(channelUID, OnOffType.ON);
+                        } else {
+                            commandResponse = activeApi.unlock(vehicleId, vin, handler.isCcs2Supported());
+                            updateLockState(channelUID, OnOffType.OFF);
                         }
+                        pendingContext = new PendingCommandContext(channelUID,
+                                previousState);
+                        commandHandled = true;
                     }
                     break;
                 case HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL:
                     if (command == OnOffType.ON || command == OnOffType.OFF) {
-                        if (!beginCommandExecution(channelUID, command)) {
-                            return;
+                        slot = beginCommandExecution(channelUID, command);
+                        if (slot == NO_SLOT) {
+                            return DispatchResult.QUEUED;
                         }
-                        try {
-                            if (command == OnOffType.ON) {
-                                commandResponse = activeApi.start(vehicleId, vin, targetTemperatureValue,
-                                        defrostHeating, rearHeating, steeringWheelHeating, sideMirrorHeating,
-                                        rearWindowHeating, handler.isCcs2Supported());
-                            } else {
-                                commandResponse = activeApi.stop(vehicleId, vin, handler.isCcs2Supported());
+                        if (command == OnOffType.ON) {
+                            Double temperature;
+                            synchronized (coalescingLock) {
+                                temperature = targetTemperatureValue;
                             }
-                            handler.updateState(channelUID, (State) command);
-                            pendingContext = new PendingCommandContext(channelUID,
-                                    UnDefType.UNDEF);
-                            commandHandled = true;
-                        } catch (Exception e) {
-                            completeCommandExecution();
-                            throw e;
+                            commandResponse = activeApi.start(vehicleId, vin, temperature,
+                                    defrostHeating, rearHeating, steeringWheelHeating, sideMirrorHeating,
+                                    rearWindowHeating, handler.isCcs2Supported());
+                        } else {
+                            commandResponse = activeApi.stop(vehicleId, vin, handler.isCcs2Supported());
                         }
+                        handler.updateState(channelUID, (State) command);
+                        pendingContext = new PendingCommandContext(channelUID,
+                                UnDefType.UNDEF);
+                        commandHandled = true;
                     }
                     break;
                 case HyundaiBlueLinkBindingConstants.CHANNEL_STARTCHARGE:
                     if (command == OnOffType.ON || command == OnOffType.OFF) {
-                        if (!beginCommandExecution(channelUID, command)) {
-                            return;
+                        slot = beginCommandExecution(channelUID, command);
+                        if (slot == NO_SLOT) {
+                            return DispatchResult.QUEUED;
                         }
-                        try {
-                            if (command == OnOffType.ON) {
-                                commandResponse = activeApi.startCharge(vehicleId, vin, handler.isCcs2Supported());
-                            } else {
-                                commandResponse = activeApi.stopCharge(vehicleId, vin, handler.isCcs2Supported());
-                            }
-                            handler.updateState(channelUID, (State) command);
-                            pendingContext = new PendingCommandContext(channelUID,
-                                    UnDefType.UNDEF);
-                            commandHandled = true;
-                        } catch (Exception e) {
-                            completeCommandExecution();
-                            throw e;
+                        if (command == OnOffType.ON) {
+                            commandResponse = activeApi.startCharge(vehicleId, vin, handler.isCcs2Supported());
+                        } else {
+                            commandResponse = activeApi.stopCharge(vehicleId, vin, handler.isCcs2Supported());
                         }
+                        handler.updateState(channelUID, (State) command);
+                        pendingContext = new PendingCommandContext(channelUID,
+                                UnDefType.UNDEF);
+                        commandHandled = true;
                     }
                     break;
                 case HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC:
                 case HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC:
                     if (command instanceof DecimalType decimal) {
                         int limit = decimal.intValue();
-                        int limitAC = HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC.equals(channelId) ? limit
-                                : -1;
-                        int limitDC = HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC.equals(channelId) ? limit
-                                : -1;
-                        if (!beginCommandExecution(channelUID, command)) {
-                            return;
+                        boolean ac = HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC.equals(channelId);
+                        int limitAC = ac ? limit : companionChargeLimit;
+                        int limitDC = ac ? companionChargeLimit : limit;
+                        ChannelUID companionChannelUID = new ChannelUID(handler.getThing().getUID(),
+                                ac ? HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC
+                                        : HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC);
+                        // a queued pair stays one entry and is drained into one request
+                        slot = beginCommandExecution(channelUID, command, companionChargeLimit);
+                        if (slot == NO_SLOT) {
+                            return DispatchResult.QUEUED;
                         }
-                        try {
-                            commandResponse = activeApi.setChargeLimit(vehicleId, vin, limitAC, limitDC,
-                                    handler.isCcs2Supported());
-                            handler.updateState(channelUID, decimal);
-                            pendingContext = new PendingCommandContext(channelUID,
-                                    UnDefType.UNDEF);
-                            commandHandled = true;
-                        } catch (Exception e) {
-                            completeCommandExecution();
-                            throw e;
+                        commandResponse = activeApi.setChargeLimit(vehicleId, vin, limitAC, limitDC,
+                                handler.isCcs2Supported());
+                        handler.updateState(channelUID, decimal);
+                        if (companionChargeLimit >= 0) {
+                            handler.updateState(companionChannelUID, new DecimalType(companionChargeLimit));
                         }
+                        pendingContext = new PendingCommandContext(channelUID,
+                                UnDefType.UNDEF);
+                        commandHandled = true;
                     }
                     break;
                 case HyundaiBlueLinkBindingConstants.CHANNEL_TARGET_TEMPERATURE:
                     if (command instanceof DecimalType decimal) {
-                        if (!beginCommandExecution(channelUID, command)) {
-                            return;
+                        slot = beginCommandExecution(channelUID, command);
+                        if (slot == NO_SLOT) {
+                            return DispatchResult.QUEUED;
                         }
-                        try {
-                            targetTemperatureValue = decimal.doubleValue();
-                            commandResponse = activeApi.setTargetTemperature(vehicleId, vin, targetTemperatureValue,
-                                    handler.isCcs2Supported());
-                            handler.updateState(channelUID, decimal);
-                            pendingContext = new PendingCommandContext(channelUID,
-                                    UnDefType.UNDEF);
-                            commandHandled = true;
-                        } catch (Exception e) {
-                            completeCommandExecution();
-                            throw e;
+                        double temperature = decimal.doubleValue();
+                        synchronized (coalescingLock) {
+                            targetTemperatureValue = temperature;
                         }
+                        commandResponse = activeApi.setTargetTemperature(vehicleId, vin, temperature,
+                                handler.isCcs2Supported());
+                        handler.updateState(channelUID, decimal);
+                        pendingContext = new PendingCommandContext(channelUID,
+                                UnDefType.UNDEF);
+                        commandHandled = true;
                     }
                     break;
                 case HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_FRONT_WINDOW_HEATING:
@@ -197,20 +282,16 @@ public class VehicleCommandManager {
                 case HyundaiBlueLinkBindingConstants.CHANNEL_RESERVATION_ACTIVE:
                 case HyundaiBlueLinkBindingConstants.CHANNEL_RESERVATION_DEFROST:
                 case HyundaiBlueLinkBindingConstants.CHANNEL_RESERVATION_TIME:
-                    if (!beginCommandExecution(channelUID, command)) {
-                        return;
+                    slot = beginCommandExecution(channelUID, command);
+                    if (slot == NO_SLOT) {
+                        return DispatchResult.QUEUED;
                     }
-                    try {
-                        performReservationChange(activeApi, vehicleId, vin, channelId, command);
-                        handler.updateState(channelUID, (State) (command instanceof State ? command : UnDefType.UNDEF)); // Optimistic
-                                                                                                                         // update
+                    commandResponse = performReservationChange(activeApi, vehicleId, vin, channelId, command);
+                    handler.updateState(channelUID, (State) (command instanceof State ? command : UnDefType.UNDEF)); // Optimistic
+                                                                                                                     // update
 
-                        pendingContext = new PendingCommandContext(channelUID, UnDefType.UNDEF);
-                        commandHandled = true;
-                    } catch (Exception e) {
-                        completeCommandExecution();
-                        throw e;
-                    }
+                    pendingContext = new PendingCommandContext(channelUID, UnDefType.UNDEF);
+                    commandHandled = true;
                     break;
                 default:
                     logger.debug("Unknown command for channel {}: {}", channelId, command);
@@ -219,29 +300,259 @@ public class VehicleCommandManager {
             if (commandHandled && commandResponse != null) {
                 handler.triggerAsyncRefresh(Objects.requireNonNull(vehicleId), Objects.requireNonNull(vin),
                         commandResponse,
-                        pendingContext);
+                        pendingContext, timing, slot);
+                return DispatchResult.SENT;
             }
+            if (slot != NO_SLOT) {
+                // nothing was sent that a refresh would complete
+                completeCommandExecution(slot);
+            }
+            return DispatchResult.IGNORED;
         } catch (Exception e) {
             logger.warn("Command execution failed for channel {}: {}", channelId, e.getMessage());
             handler.updateState(channelUID, UnDefType.UNDEF);
-            completeCommandExecution();
+            if (slot != NO_SLOT) {
+                completeCommandExecution(slot);
+            }
+            return DispatchResult.FAILED;
+        } finally {
+            activeApi.endCommandTiming();
+        }
+    }
+
+    /**
+     * Marks a command as running and returns the token that releases its execution slot. If another command is
+     * still pending, the command is queued (or merged with a queued command for the same channel) and
+     * {@link #NO_SLOT} is returned.
+     */
+    public long beginCommandExecution(ChannelUID channelUID, Command command) {
+        return beginCommandExecution(channelUID, command, -1);
+    }
+
+    private long beginCommandExecution(ChannelUID channelUID, Command command, int companionChargeLimit) {
+        synchronized (commandExecutionLock) {
+            if (commandSlotHolder == NO_SLOT) {
+                commandSlotHolder = ++lastCommandSlot;
+                return commandSlotHolder;
+            }
+            switch (commandQueue.offer(channelUID, command, companionChargeLimit, System.nanoTime())) {
+                case QUEUED:
+                    logger.debug("Queued command {} for {} behind the pending command ({} queued)", command,
+                            channelUID, commandQueue.size());
+                    break;
+                case COALESCED:
+                    logger.debug("Command {} for {} supersedes the queued command for this channel", command,
+                            channelUID);
+                    break;
+                case REJECTED:
+                    logger.warn("Ignoring command {} for {} because {} commands are already queued", command,
+                            channelUID, commandQueue.size());
+                    break;
+            }
+            return NO_SLOT;
         }
     }
 
-    public boolean beginCommandExecution(ChannelUID channelUID, Command command) {
+    /**
+     * Releases the execution slot held by {@code slot} and hands the queued commands to the I/O executor, so the next
+     * command is not sent on the thread that completes this one. A slot that was already released, and has possibly
+     * been taken by a later command since, is left alone.
+     */
+    public void completeCommandExecution(long slot) {
+        boolean queued;
         synchronized (commandExecutionLock) {
-            if (commandInProgress) {
-                logger.warn("Ignoring command {} for {} because another command is still pending", command, channelUID);
-                return false;
+            if (slot == NO_SLOT || slot != commandSlotHolder) {
+                logger.debug("Ignoring release of command slot {}; slot {} holds it", slot, commandSlotHolder);
+                return;
             }
-            commandInProgress = true;
-            return true;
+            commandSlotHolder = NO_SLOT;
+            queued = commandQueue.size() > 0;
+        }
+        if (queued) {
+            handler.runOnIoExecutor(this::drainCommandQueue);
         }
     }
 
-    public void completeCommandExecution() {
+    /**
+     * Drops all queued and coalescing commands and frees the execution slot, e.g. when the handler is disposed.
+     */
+    public void cancelQueuedCommands() {
+        synchronized (coalescingLock) {
+            cancelFuture(pendingTemperatureFlush);
+            pendingTemperatureFlush = null;
+            pendingTemperature = null;
+            cancelFuture(pendingChargeLimitFlush);
+            pendingChargeLimitFlush = null;
+            pendingLimitAC = -1;
+            pendingLimitDC = -1;
+        }
         synchronized (commandExecutionLock) {
-            commandInProgress = false;
+            int dropped = commandQueue.size();
+            commandQueue.clear();
+            commandSlotHolder = NO_SLOT;
+            if (dropped > 0) {
+                logger.debug("Discarded {} queued commands for {}", dropped, handler.getThing().getUID());
+            }
+        }
+    }
+
+    /**
+     * Returns a summary like {@code queued=1 lastWait=4200ms maxWait=9100ms} of the commands waiting for the execution
+     * slot and how long the drained ones waited.
+     */
+    public String formatQueueMetrics() {
+        int queued;
+        synchronized (commandExecutionLock) {
+            queued = commandQueue.size();
+        }
+        return "queued=" + queued + " lastWait=" + lastQueueWaitMillis + "ms maxWait=" + maxQueueWaitMillis + "ms";
+    }
+
+    private void drainCommandQueue() {
+        while (true) {
+            VehicleCommandQueue.QueuedCommand next;
+            synchronized (commandExecutionLock) {
+                // a command dispatched from here may complete synchronously; the loop below picks up the next one
+                if (drainingCommandQueue || commandSlotHolder != NO_SLOT || handler.isDisposed()) {
+                    return;
+                }
+                next = commandQueue.poll();
+                if (next == null) {
+                    return;
+                }
+                drainingCommandQueue = true;
+            }
+            try {
+                long waitMillis = (System.nanoTime() - next.getEnqueuedNanos()) / 1_000_000;
+                lastQueueWaitMillis = waitMillis;
+                maxQueueWaitMillis = Math.max(maxQueueWaitMillis, waitMillis);
+                handler.publishCommandQueueMetrics(formatQueueMetrics());
+                logger.debug("Running queued command {} for {} after {} ms", next.getCommand(), next.getChannelUID(),
+                        waitMillis);
+                executeCommand(next.getChannelUID(), next.getCommand(), next.getCompanionChargeLimit());
+            } finally {
+                synchronized (commandExecutionLock) {
+                    drainingCommandQueue = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Holds back target temperature and charge limit commands for the configured coalescing window so that related
+     * commands are sent as one {@code setChargeLimit} or one climate {@code start} request.
+     *
+     * @return {@code true} if the command was deferred
+     */
+    private boolean deferForCoalescing(ChannelUID channelUID, Command command) {
+        String channelId = channelUID.getId();
+        synchronized (coalescingLock) {
+            switch (channelId) {
+                case HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL:
+                    Double temperature = pendingTemperature;
+                    if (temperature != null && command == OnOffType.ON) {
+                        // the climate start carries the temperature, so no separate request is needed; a stop does
+                        // not, so the pending temperature is left to its flush
+                        cancelFuture(pendingTemperatureFlush);
+                        pendingTemperatureFlush = null;
+                        pendingTemperature = null;
+                        targetTemperatureValue = temperature;
+                        logger.debug("Merged pending target temperature {} into climate command {}", temperature,
+                                command);
+                    }
+                    return false;
+                case HyundaiBlueLinkBindingConstants.CHANNEL_TARGET_TEMPERATURE:
+                    long temperatureWindow = getCoalescingWindowMillis();
+                    if (temperatureWindow <= 0 || !(command instanceof DecimalType temperatureCommand)) {
+                        return false;
+                    }
+                    pendingTemperature = temperatureCommand.doubleValue();
+                    handler.updateState(channelUID, temperatureCommand);
+                    if (pendingTemperatureFlush == null) {
+                        pendingTemperatureFlush = handler.scheduleCoalescedCommandTask(this::flushPendingTemperature,
+                                temperatureWindow);
+                    }
+                    return true;
+                case HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC:
+                case HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC:
+                    long limitWindow = getCoalescingWindowMillis();
+                    if (limitWindow <= 0 || !(command instanceof DecimalType limitCommand)) {
+                        return false;
+                    }
+                    if (HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC.equals(channelId)) {
+                        pendingLimitAC = limitCommand.intValue();
+                    } else {
+                        pendingLimitDC = limitCommand.intValue();
+                    }
+                    handler.updateState(channelUID, limitCommand);
+                    if (pendingChargeLimitFlush == null) {
+                        pendingChargeLimitFlush = handler.scheduleCoalescedCommandTask(this::flushPendingChargeLimits,
+                                limitWindow);
+                    }
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    private void flushPendingTemperature() {
+        Double temperature;
+        synchronized (coalescingLock) {
+            temperature = pendingTemperature;
+            pendingTemperature = null;
+            pendingTemperatureFlush = null;
+        }
+        if (temperature != null && !handler.isDisposed()) {
+            executeCommand(
+                    new ChannelUID(handler.getThing().getUID(),
+                            HyundaiBlueLinkBindingConstants.CHANNEL_TARGET_TEMPERATURE),
+                    new DecimalType(temperature.doubleValue()), -1);
+        }
+    }
+
+    private void flushPendingChargeLimits() {
+        int limitAC;
+        int limitDC;
+        synchronized (coalescingLock) {
+            limitAC = pendingLimitAC;
+            limitDC = pendingLimitDC;
+            pendingLimitAC = -1;
+            pendingLimitDC = -1;
+            pendingChargeLimitFlush = null;
+        }
+        if (handler.isDisposed()) {
+            return;
+        }
+        ThingUID thingUID = handler.getThing().getUID();
+        if (limitAC >= 0) {
+            executeCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC),
+                    new DecimalType(limitAC), limitDC);
+        } else if (limitDC >= 0) {
+            executeCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC),
+                    new DecimalType(limitDC), -1);
+        }
+    }
+
+    private long getCoalescingWindowMillis() {
+        Object configured = handler.getThing().getConfiguration()
+                .get(HyundaiBlueLinkBindingConstants.CONFIG_COMMAND_COALESCING_WINDOW);
+        if (configured instanceof Number number) {
+            return number.longValue();
+        }
+        if (configured instanceof String text && !text.isBlank()) {
+            try {
+                return Long.parseLong(text.trim());
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring invalid command coalescing window '{}'", text);
+            }
+        }
+        return 0;
+    }
+
+    private static void cancelFuture(@Nullable ScheduledFuture<?> future) {
+        if (future != null) {
+            future.cancel(false);
         }
     }
 
@@ -260,8 +571,8 @@ public class VehicleCommandManager {
         return lastKnownLockState;
     }
 
-    private void performReservationChange(BlueLinkApi api, String vehicleId, String vin, String channelId,
-            Command command) throws Exception {
+    private @Nullable VehicleCommandResponse performReservationChange(BlueLinkApi api, String vehicleId, String vin,
+            String channelId, Command command) throws Exception {
         // 1. Fetch current reservation
         Reservation current = api.getReservation(vehicleId, vin, handler.isCcs2Supported());
         if (current == null) {
@@ -288,6 +599,6 @@ public class VehicleCommandManager {
         }
 
         // 3. Set new reservation
-        api.setReservation(vehicleId, vin, current, handler.isCcs2Supported());
+        return api.setReservation(vehicleId, vin, current, handler.isCcs2Supported());
     }
 }
@@ -0,0 +1,112 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.types.Command;
+
+/**
+ * Bounded FIFO of vehicle commands waiting for the running command to complete.
+ * <p>
+ * Commands for the same channel supersede each other: a newer command replaces the queued one and keeps its
+ * position, so repeated set points or a lock followed by an unlock only reach the vehicle once. A charge limit can
+ * carry the other (AC/DC) limit along, so a coalesced pair stays one request. The queue is not thread-safe; callers
+ * synchronize on their own lock.
+ */
+@NonNullByDefault
+public class VehicleCommandQueue {
+
+    /**
+     * A command waiting in the queue.
+     */
+    public static final class QueuedCommand {
+        private final ChannelUID channelUID;
+        private final Command command;
+        private final int companionChargeLimit;
+        private final long enqueuedNanos;
+
+        QueuedCommand(ChannelUID channelUID, Command command, int companionChargeLimit, long enqueuedNanos) {
+            this.channelUID = channelUID;
+            this.command = command;
+            this.companionChargeLimit = companionChargeLimit;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        public ChannelUID getChannelUID() {
+            return channelUID;
+        }
+
+        public Command getCommand() {
+            return command;
+        }
+
+        /**
+         * Returns the other (AC/DC) charge limit to send along, or {@code -1}.
+         */
+        public int getCompanionChargeLimit() {
+            return companionChargeLimit;
+        }
+
+        public long getEnqueuedNanos() {
+            return enqueuedNanos;
+        }
+    }
+
+    public enum OfferResult {
+        QUEUED,
+        COALESCED,
+        REJECTED
+    }
+
+    private final int capacity;
+    private final Map<String, QueuedCommand> commands = new LinkedHashMap<>();
+
+    public VehicleCommandQueue(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public OfferResult offer(ChannelUID channelUID, Command command, long nowNanos) {
+        return offer(channelUID, command, -1, nowNanos);
+    }
+
+    /**
+     * Queues a command; {@code companionChargeLimit} is the other (AC/DC) charge limit to send with it, or {@code -1}.
+     */
+    public OfferResult offer(ChannelUID channelUID, Command command, int companionChargeLimit, long nowNanos) {
+        String key = channelUID.getId();
+        QueuedCommand existing = commands.get(key);
+        if (existing != null) {
+            // keep the original enqueue time so the wait time reflects the oldest request
+            int companion = companionChargeLimit >= 0 ? companionChargeLimit : existing.companionChargeLimit;
+            commands.put(key, new QueuedCommand(channelUID, command, companion, existing.enqueuedNanos));
+            return OfferResult.COALESCED;
+        }
+        if (commands.size() >= capacity) {
+            return OfferResult.REJECTED;
+        }
+        commands.put(key, new QueuedCommand(channelUID, command, companionChargeLimit, nowNanos));
+        return OfferResult.QUEUED;
+    }
+
+    public @Nullable QueuedCommand poll() {
+        Iterator<QueuedCommand> iterator = commands.values().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        QueuedCommand next = iterator.next();
+        iterator.remove();
+        return next;
+    }
+
+    public int size() {
+        return commands.size();
+    }
+
+    public void clear() {
+        commands.clear();
+    }
+}
@@ -0,0 +1,150 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleSummary;
+
+/**
+ * The vehicles of one account, indexed by VIN and vehicle ID.
+ * <p>
+ * The list is downloaded on first use and kept for the time-to-live. Callers that arrive while a download is running
+ * wait for it instead of starting their own, so vehicles starting up together cause a single list request. A failed
+ * download is not cached; every waiting caller gets its exception. {@link #invalidate()} starts a new generation: a
+ * download that was already running still answers its own callers, but its list is not cached.
+ */
+@NonNullByDefault
+public class VehicleDirectory {
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(15);
+
+    /**
+     * Downloads the vehicle list.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        List<VehicleSummary> load() throws Exception;
+    }
+
+    private final Loader loader;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private @Nullable Entries entries;
+    private @Nullable CompletableFuture<Entries> inFlight;
+    private long generation;
+
+    public VehicleDirectory(Loader loader) {
+        this(loader, DEFAULT_TTL, System::nanoTime);
+    }
+
+    VehicleDirectory(Loader loader, Duration ttl, LongSupplier nanoClock) {
+        this.loader = loader;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public List<VehicleSummary> getVehicles() throws Exception {
+        return current().vehicles;
+    }
+
+    public @Nullable VehicleSummary findByVin(String vin) throws Exception {
+        return current().byVin.get(vin.toUpperCase(Locale.ROOT));
+    }
+
+    public @Nullable VehicleSummary findByVehicleId(String vehicleId) throws Exception {
+        return current().byVehicleId.get(vehicleId);
+    }
+
+    /**
+     * Drops the cached list, e.g. after the account was re-initialized; the next read downloads it again.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        entries = null;
+        inFlight = null;
+    }
+
+    private Entries current() throws Exception {
+        CompletableFuture<Entries> flight;
+        boolean owner = false;
+        long flightGeneration;
+        synchronized (this) {
+            Entries cached = entries;
+            if (cached != null && nanoClock.getAsLong() - cached.loadedNanos < ttlNanos) {
+                return cached;
+            }
+            flight = inFlight;
+            if (flight == null) {
+                flight = new CompletableFuture<>();
+                inFlight = flight;
+                owner = true;
+            }
+            flightGeneration = generation;
+        }
+        if (owner) {
+            return load(flight, flightGeneration);
+        }
+        try {
+            return flight.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+    }
+
+    private Entries load(CompletableFuture<Entries> flight, long flightGeneration) throws Exception {
+        try {
+            Entries loaded = new Entries(loader.load(), nanoClock.getAsLong());
+            synchronized (this) {
+                if (generation == flightGeneration) {
+                    entries = loaded;
+                }
+                if (inFlight == flight) {
+                    inFlight = null;
+                }
+            }
+            flight.complete(loaded);
+            return loaded;
+        } catch (Exception e) {
+            synchronized (this) {
+                if (inFlight == flight) {
+                    inFlight = null;
+                }
+            }
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static class Entries {
+        final List<VehicleSummary> vehicles;
+        final Map<String, VehicleSummary> byVin = new HashMap<>();
+        final Map<String, VehicleSummary> byVehicleId = new HashMap<>();
+        final long loadedNanos;
+
+        Entries(List<VehicleSummary> vehicles, long loadedNanos) {
+            this.vehicles = List.copyOf(vehicles);
+            this.loadedNanos = loadedNanos;
+            for (VehicleSummary summary : this.vehicles) {
+                String vin = summary.vin;
+                if (vin != null && !vin.isBlank()) {
+                    byVin.put(vin.toUpperCase(Locale.ROOT), summary);
+                }
+                String vehicleId = summary.vehicleId;
+                if (vehicleId != null && !vehicleId.isBlank()) {
+                    byVehicleId.put(vehicleId, summary);
+                }
+            }
+        }
+    }
+}
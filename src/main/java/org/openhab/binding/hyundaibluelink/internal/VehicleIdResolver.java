@@ -4,6 +4,7 @@ import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleSummary;
 import org.openhab.core.config.core.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -96,16 +97,11 @@ public class VehicleIdResolver {
         }
 
         try {
-            for (org.openhab.binding.hyundaibluelink.internal.model.VehicleSummary summary : bridgeHandler
-                    .listVehicles()) {
-                String summaryVin = summary.vin;
-                if (summaryVin != null && summaryVin.equalsIgnoreCase(vin)) {
-                    String summaryVehicleId = summary.vehicleId;
-                    if (summaryVehicleId != null && !summaryVehicleId.isBlank()) {
-                        logger.debug("Resolved vehicle {} to UUID {} via bridge", vin, summaryVehicleId);
-                        return summaryVehicleId;
-                    }
-                }
+            VehicleSummary summary = bridgeHandler.getVehicleDirectory().findByVin(vin);
+            String summaryVehicleId = summary != null ? summary.vehicleId : null;
+            if (summaryVehicleId != null && !summaryVehicleId.isBlank()) {
+                logger.debug("Resolved vehicle {} to UUID {} via bridge", vin, summaryVehicleId);
+                return summaryVehicleId;
             }
         } catch (Exception e) {
             String detail = e.getMessage();
@@ -0,0 +1,184 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.api.DistanceUnit;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the last good status snapshot of one vehicle on disk so its channels can be published right after a restart.
+ * <p>
+ * The file holds a magic number and format version, the presence mask, the reported primitive values in
+ * {@link Field} order, the distance units, the texts and {@code lastUpdated}. It is replaced atomically when the
+ * snapshot changed; an unchanged snapshot only touches the modification time, which records when the values were
+ * last confirmed.
+ */
+@NonNullByDefault
+public class VehicleSnapshotStore {
+    private static final int MAGIC = 0x48424c53; // "HBLS"
+    private static final byte VERSION = 1;
+    private static final Field[] FIELDS = Field.values();
+    private static final Field[] DISTANCE_FIELDS = { Field.RANGE, Field.ODOMETER, Field.EV_MODE_RANGE,
+            Field.GAS_MODE_RANGE };
+    private static final DistanceUnit[] UNITS = DistanceUnit.values();
+
+    private final Logger logger = Objects.requireNonNull(LoggerFactory.getLogger(VehicleSnapshotStore.class));
+    private final Path file;
+    private @Nullable VehicleStatusSnapshot lastSaved;
+    private @Nullable Instant savedAt;
+
+    public VehicleSnapshotStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the stored snapshot, or {@code null} if there is none or it cannot be read.
+     */
+    public synchronized @Nullable VehicleStatusSnapshot load() {
+        try {
+            VehicleStatusSnapshot snapshot = decode(Files.readAllBytes(file));
+            lastSaved = snapshot;
+            savedAt = Files.getLastModifiedTime(file).toInstant();
+            return snapshot;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Ignoring unreadable status snapshot {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes {@code snapshot}, or only records the confirmation if it equals the stored one.
+     */
+    public synchronized void save(VehicleStatusSnapshot snapshot) {
+        Instant now = Instant.now();
+        try {
+            if (snapshot.equals(lastSaved)) {
+                Files.setLastModifiedTime(file, FileTime.from(now));
+                savedAt = now;
+                return;
+            }
+            Path parent = file.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, encode(snapshot));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lastSaved = snapshot;
+            savedAt = now;
+        } catch (IOException e) {
+            logger.debug("Failed to store status snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns when the stored snapshot was last written or confirmed, or {@code null} if nothing is stored.
+     */
+    public synchronized @Nullable Instant getSavedAt() {
+        return savedAt;
+    }
+
+    public synchronized void delete() {
+        lastSaved = null;
+        savedAt = null;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Failed to delete status snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    static byte[] encode(VehicleStatusSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(snapshot.presenceMask());
+            for (Field field : FIELDS) {
+                if (!snapshot.has(field)) {
+                    continue;
+                }
+                switch (field.kind()) {
+                    case DOUBLE -> out.writeDouble(snapshot.getDouble(field));
+                    case BOOLEAN -> out.writeBoolean(snapshot.getBoolean(field));
+                    case INT -> out.writeInt(snapshot.getInt(field));
+                }
+            }
+            for (Field field : DISTANCE_FIELDS) {
+                DistanceUnit unit = snapshot.getDistanceUnit(field);
+                out.writeByte(unit != null ? unit.ordinal() : -1);
+            }
+            writeText(out, snapshot.getVin());
+            writeText(out, snapshot.getDoorStatusSummary());
+            writeText(out, snapshot.getWindowStatusSummary());
+            writeText(out, snapshot.getMinorWarnings());
+            writeText(out, snapshot.getLastNotification());
+            Instant lastUpdated = snapshot.getLastUpdated();
+            out.writeBoolean(lastUpdated != null);
+            if (lastUpdated != null) {
+                out.writeLong(lastUpdated.getEpochSecond());
+                out.writeInt(lastUpdated.getNano());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static VehicleStatusSnapshot decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("unknown snapshot format");
+            }
+            VehicleStatusSnapshot.Builder builder = VehicleStatusSnapshot.builder();
+            long presence = in.readLong();
+            for (Field field : FIELDS) {
+                if ((presence & (1L << field.ordinal())) == 0) {
+                    continue;
+                }
+                switch (field.kind()) {
+                    case DOUBLE -> builder.setDouble(field, in.readDouble());
+                    case BOOLEAN -> builder.setBoolean(field, in.readBoolean());
+                    case INT -> builder.setInt(field, in.readInt());
+                }
+            }
+            for (Field field : DISTANCE_FIELDS) {
+                int unit = in.readByte();
+                builder.setDistanceUnit(field, unit >= 0 && unit < UNITS.length ? UNITS[unit] : null);
+            }
+            builder.setVin(readText(in)).setDoorStatusSummary(readText(in)).setWindowStatusSummary(readText(in))
+                    .setMinorWarnings(readText(in)).setLastNotification(readText(in));
+            if (in.readBoolean()) {
+                builder.setLastUpdated(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+            }
+            return builder.build();
+        }
+    }
+
+    private static void writeText(DataOutputStream out, @Nullable String text) throws IOException {
+        out.writeBoolean(text != null);
+        if (text != null) {
+            out.writeUTF(text);
+        }
+    }
+
+    private static @Nullable String readText(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
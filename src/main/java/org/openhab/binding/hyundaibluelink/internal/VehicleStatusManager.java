@@ -1,11 +1,17 @@
 package org.openhab.binding.hyundaibluelink.internal;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.measure.Unit;
 import javax.measure.quantity.Length;
@@ -14,10 +20,11 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.hyundaibluelink.internal.api.BlueLinkApi;
 import org.openhab.binding.hyundaibluelink.internal.api.DistanceUnit;
-import org.openhab.binding.hyundaibluelink.internal.api.JsonResponse;
 import org.openhab.binding.hyundaibluelink.internal.api.Reservation;
+import org.openhab.binding.hyundaibluelink.internal.model.MonthlyReport;
 import org.openhab.binding.hyundaibluelink.internal.model.VehicleLocation;
-import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatus;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
@@ -32,7 +39,6 @@ import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.binding.builder.ChannelBuilder;
-import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.openhab.core.thing.type.ChannelTypeUID;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
@@ -44,25 +50,197 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class VehicleStatusManager {
+    private enum DistanceChannel {
+        ODOMETER(Field.ODOMETER, HyundaiBlueLinkBindingConstants.CHANNEL_ODOMETER,
+                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_ODOMETER_KILOMETRES),
+                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_ODOMETER_MILES)),
+        RANGE(Field.RANGE, HyundaiBlueLinkBindingConstants.CHANNEL_RANGE,
+                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_RANGE_KILOMETRES),
+                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_RANGE_MILES)),
+        EV_MODE_RANGE(Field.EV_MODE_RANGE, HyundaiBlueLinkBindingConstants.CHANNEL_EV_MODE_RANGE,
+                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_EV_RANGE_KILOMETRES),
+                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_EV_RANGE_MILES)),
+        GAS_MODE_RANGE(Field.GAS_MODE_RANGE, HyundaiBlueLinkBindingConstants.CHANNEL_GAS_MODE_RANGE,
+                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_GAS_RANGE_KILOMETRES),
+                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_GAS_RANGE_MILES));
+
+        private final Field field;
+        private final String channelId;
+        private final ChannelTypeUID kilometreType;
+        private final ChannelTypeUID mileType;
+
+        DistanceChannel(Field field, String channelId, ChannelTypeUID kilometreType, ChannelTypeUID mileType) {
+            this.field = field;
+            this.channelId = channelId;
+            this.kilometreType = kilometreType;
+            this.mileType = mileType;
+        }
+    }
+
+    private static final DistanceChannel[] DISTANCE_CHANNELS = DistanceChannel.values();
+
+    static final int DEFAULT_MAX_STALE_MINUTES = 720;
+    static final Duration MONTHLY_REPORT_CHECK_INTERVAL = Duration.ofDays(1);
+
     private final Logger logger = Objects.requireNonNull(LoggerFactory.getLogger(VehicleStatusManager.class));
     private final HyundaiBlueLinkVehicleHandler handler;
-    private final Object refreshLock = new Object();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final StatusChannelDiff channelDiff = new StatusChannelDiff();
+    private final Map<DistanceChannel, DistanceUnit> appliedDistanceUnits = new EnumMap<>(DistanceChannel.class);
+    private @Nullable Thing distanceUnitsThing;
+    private @Nullable VehicleSnapshotStore snapshotStore;
+    private @Nullable MonthlyReportStore monthlyReportStore;
+    private @Nullable Instant nextMonthlyReportCheck;
+    private volatile @Nullable TelemetryRingBuffer telemetry;
+    private final DataFreshness freshness = new DataFreshness();
+    private volatile Duration maxStaleAge = Duration.ofMinutes(DEFAULT_MAX_STALE_MINUTES);
+    private @Nullable ScheduledFuture<?> revalidationFuture;
+    private @Nullable CommandRefreshPlan revalidationPlan;
 
     public VehicleStatusManager(HyundaiBlueLinkVehicleHandler handler) {
         this.handler = handler;
     }
 
+    /**
+     * Forgets the last published status so the next refresh publishes every channel, and re-reads the
+     * {@code publishUnchangedStates} and {@code maxStaleMinutes} configuration.
+     */
+    public void resetPublishedState() {
+        Object configured = handler.getThing().getConfiguration()
+                .get(HyundaiBlueLinkBindingConstants.CONFIG_PUBLISH_UNCHANGED_STATES);
+        channelDiff.setAlwaysPublishFull(configured instanceof Boolean flag ? flag.booleanValue()
+                : Boolean.parseBoolean(String.valueOf(configured)));
+        channelDiff.requestFullPublish();
+        Object maxStale = handler.getThing().getConfiguration()
+                .get(HyundaiBlueLinkBindingConstants.CONFIG_MAX_STALE_MINUTES);
+        int minutes = DEFAULT_MAX_STALE_MINUTES;
+        if (maxStale instanceof Number number) {
+            minutes = number.intValue();
+        } else if (maxStale != null) {
+            try {
+                minutes = Integer.parseInt(maxStale.toString());
+            } catch (NumberFormatException e) {
+                logger.debug("Invalid maxStaleMinutes '{}', using {}", maxStale, minutes);
+            }
+        }
+        maxStaleAge = Duration.ofMinutes(Math.max(0, minutes));
+    }
+
+    public DataFreshness.Level getFreshnessLevel() {
+        return freshness.getLevel();
+    }
+
+    public void cancelRevalidation() {
+        refreshLock.lock();
+        try {
+            ScheduledFuture<?> future = revalidationFuture;
+            if (future != null) {
+                future.cancel(false);
+            }
+            revalidationFuture = null;
+            revalidationPlan = null;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Publishes the last persisted status, with its original {@code lastUpdated}, and keeps {@code store} for the
+     * statuses fetched from now on.
+     */
+    public void restorePersistedStatus(@Nullable VehicleSnapshotStore store) {
+        snapshotStore = store;
+        VehicleStatusSnapshot snapshot = store != null ? store.load() : null;
+        if (snapshot == null) {
+            return;
+        }
+        refreshLock.lock();
+        try {
+            // the values are as old as the last refresh that confirmed them, not as the vehicle's lastUpdated
+            Instant confirmed = Objects.requireNonNull(store).getSavedAt();
+            boolean located = applyVehicleStatus(snapshot);
+            if (confirmed != null) {
+                freshness.succeeded(DataFreshness.Source.STATUS, confirmed);
+                if (located) {
+                    freshness.succeeded(DataFreshness.Source.LOCATION, confirmed);
+                }
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+        logger.debug("Restored status of {} as of {}", handler.getThing().getUID(), snapshot.getLastUpdated());
+    }
+
+    /**
+     * Publishes the latest stored monthly report and keeps {@code store} for the months fetched from now on. The next
+     * full refresh checks for a new month.
+     */
+    public void restoreMonthlyReports(@Nullable MonthlyReportStore store) {
+        MonthlyReport latest;
+        refreshLock.lock();
+        try {
+            monthlyReportStore = store;
+            nextMonthlyReportCheck = null;
+            latest = store != null ? store.latest() : null;
+        } finally {
+            refreshLock.unlock();
+        }
+        if (latest != null) {
+            publishMonthlyReport(latest);
+        }
+    }
+
+    /**
+     * Records every fetched status in {@code buffer} from now on; the previous buffer is closed.
+     */
+    public void setTelemetry(@Nullable TelemetryRingBuffer buffer) {
+        TelemetryRingBuffer previous;
+        refreshLock.lock();
+        try {
+            previous = telemetry;
+            telemetry = buffer;
+        } finally {
+            refreshLock.unlock();
+        }
+        if (previous != null && previous != buffer) {
+            previous.close();
+        }
+    }
+
+    public @Nullable TelemetryRingBuffer getTelemetry() {
+        return telemetry;
+    }
+
+    public void requestFullPublish() {
+        channelDiff.requestFullPublish();
+    }
+
+    /**
+     * Marks a channel as written outside the status refresh so the next refresh republishes it.
+     */
+    public void invalidateChannel(String channelId) {
+        channelDiff.invalidate(channelId);
+    }
+
     public void refreshVehicleData() {
-        if (handler.isDisposed()) {
+        refreshVehicleData(CommandRefreshPlan.FULL);
+    }
+
+    /**
+     * Fetches what {@code plan} asks for: a {@link CommandRefreshPlan#STATUS} refresh skips location and
+     * reservation, a {@link CommandRefreshPlan#RESERVATION} refresh fetches nothing else.
+     */
+    public void refreshVehicleData(CommandRefreshPlan plan) {
+        if (handler.isDisposed() || plan == CommandRefreshPlan.NONE) {
             return;
         }
         handler.ensureRefreshScheduleUpToDate();
-        if (handler.shouldDeferRefreshDuringCommandPoll()) {
+        if (handler.shouldDeferRefreshDuringCommandPoll(plan)) {
             return;
         }
         if (!handler.ensureApi()) {
             logger.debug("Skipping refresh for {} because API is not ready", handler.getThing().getUID());
-            handler.scheduleRefreshTask(this::refreshVehicleData, 30, TimeUnit.SECONDS);
+            handler.scheduleRefreshTask(() -> refreshVehicleData(plan), 30, TimeUnit.SECONDS);
             return;
         }
 
@@ -73,372 +251,417 @@ public class VehicleStatusManager {
             return;
         }
 
-        synchronized (refreshLock) {
-            VehicleStatus status;
+        refreshLock.lock();
+        try {
+            if (plan == CommandRefreshPlan.RESERVATION) {
+                refreshReservation(vehicleId, vin);
+                return;
+            }
+            VehicleStatusSnapshot status;
             try {
                 BlueLinkApi activeApi = Objects.requireNonNull(handler.getApi());
                 status = activeApi.getVehicleStatus(vehicleId, vin, handler.isCcs2Supported());
             } catch (Exception e) {
-                logger.warn("Vehicle status refresh failed for {}: {}", vin, e.getMessage());
-                markStatusChannelsError(e.getMessage());
+                handleFailure(DataFreshness.Source.STATUS, plan, vin, e);
+                handler.planAdaptiveRefresh(null);
                 return;
             }
+            Instant fetched = Instant.now();
+            freshness.succeeded(DataFreshness.Source.STATUS, fetched);
+            handler.planAdaptiveRefresh(status);
+            VehicleSnapshotStore store = snapshotStore;
+            TelemetryRingBuffer recorder = telemetry;
+            if (store != null) {
+                store.save(status);
+            }
+            if (recorder != null) {
+                recorder.append(status, fetched.toEpochMilli());
+            }
 
-            applyVehicleStatus(status);
-
-            if (status != null) {
-                Double statusLatitude = status.latitude;
-                Double statusLongitude = status.longitude;
-                if (statusLatitude != null && statusLongitude != null) {
-                    VehicleLocation location = new VehicleLocation();
-                    location.latitude = statusLatitude.doubleValue();
-                    location.longitude = statusLongitude.doubleValue();
-                    updateLocationChannel(location);
-                } else {
-                    try {
-                        BlueLinkApi activeApi = Objects.requireNonNull(handler.getApi());
-                        VehicleLocation location = activeApi.getVehicleLocation(vehicleId, vin,
-                                handler.isCcs2Supported());
-                        updateLocationChannel(location);
-                    } catch (Exception e) {
-                        logger.warn("Vehicle location refresh failed for {}: {}", vin, e.getMessage());
-                        updateState(HyundaiBlueLinkBindingConstants.CHANNEL_LOCATION, UnDefType.UNDEF);
-                    }
-                }
-
-                // Fetch Reservation Status
+            if (applyVehicleStatus(status)) {
+                freshness.succeeded(DataFreshness.Source.LOCATION, fetched);
+            } else if (plan == CommandRefreshPlan.FULL) {
                 try {
                     BlueLinkApi activeApi = Objects.requireNonNull(handler.getApi());
-                    Reservation reservation = activeApi.getReservation(vehicleId, vin, handler.isCcs2Supported());
-                    applyReservationStatus(reservation);
+                    VehicleLocation location = activeApi.getVehicleLocation(vehicleId, vin,
+                            handler.isCcs2Supported());
+                    if (updateLocationChannel(location)) {
+                        freshness.succeeded(DataFreshness.Source.LOCATION, fetched);
+                    }
                 } catch (Exception e) {
-                    logger.debug("Reservation status refresh failed for {}: {}", vin, e.getMessage());
-                    // Don't mark everything as error, just undef reservation channels
-                    updateState(HyundaiBlueLinkBindingConstants.CHANNEL_RESERVATION_ACTIVE, UnDefType.UNDEF);
-                    updateState(HyundaiBlueLinkBindingConstants.CHANNEL_RESERVATION_TIME, UnDefType.UNDEF);
-                    updateState(HyundaiBlueLinkBindingConstants.CHANNEL_RESERVATION_DEFROST, UnDefType.UNDEF);
+                    handleFailure(DataFreshness.Source.LOCATION, CommandRefreshPlan.FULL, vin, e);
                 }
             }
+
+            if (plan == CommandRefreshPlan.FULL) {
+                refreshReservation(vehicleId, vin);
+                Instant nextCheck = nextMonthlyReportCheck;
+                if (nextCheck == null || !fetched.isBefore(nextCheck)) {
+                    nextMonthlyReportCheck = fetched.plus(MONTHLY_REPORT_CHECK_INTERVAL);
+                    syncMonthlyReport(vehicleId, vin);
+                }
+            }
+            publishFreshness();
+        } finally {
+            refreshLock.unlock();
         }
     }
 
-    public void performInitialVehicleBootstrapPolls() {
+    /**
+     * Keeps serving the last good values of {@code source} while they are younger than {@code maxStaleMinutes},
+     * expires them otherwise, and schedules a revalidation.
+     */
+    private void handleFailure(DataFreshness.Source source, CommandRefreshPlan retryPlan, String vin, Exception e) {
+        boolean serveStale = freshness.failed(source, Instant.now(), maxStaleAge);
+        if (serveStale) {
+            logger.warn("{} refresh failed for {}, keeping values from {} ago: {}", source, vin,
+                    freshness.getAge(source, Instant.now()), e.getMessage());
+        } else {
+            logger.warn("{} refresh failed for {}: {}", source, vin, e.getMessage());
+            expire(source);
+        }
+        if (source == DataFreshness.Source.STATUS && !serveStale) {
+            markStatusChannelsError(e.getMessage());
+        }
+        publishFreshness();
+        if (freshness.getLevel() != DataFreshness.Level.FRESH) {
+            scheduleRevalidation(retryPlan);
+        }
+    }
+
+    private void expire(DataFreshness.Source source) {
+        switch (source) {
+            // the diff turns every previously published status value into UNDEF
+            case STATUS -> applyVehicleStatus(VehicleStatusSnapshot.builder().build());
+            case LOCATION -> {
+                updateState(HyundaiBlueLinkBindingConstants.CHANNEL_LOCATION, UnDefType.UNDEF);
+                channelDiff.invalidate(HyundaiBlueLinkBindingConstants.CHANNEL_LOCATION);
+            }
+            case RESERVATION -> applyReservationStatus(null);
+        }
+    }
+
+    private void scheduleRevalidation(CommandRefreshPlan plan) {
+        if (handler.isDisposed()) {
+            return;
+        }
+        ScheduledFuture<?> existing = revalidationFuture;
+        CommandRefreshPlan pending = revalidationPlan;
+        if (existing != null && !existing.isDone() && pending != null) {
+            revalidationPlan = pending.merge(plan);
+            return;
+        }
+        long delay = freshness.nextRetrySeconds();
+        revalidationPlan = plan;
+        revalidationFuture = handler.scheduleRefreshTask(this::revalidate, delay, TimeUnit.SECONDS);
+        logger.debug("Revalidating {} of {} in {} s", plan, handler.getThing().getUID(), Long.valueOf(delay));
+    }
+
+    private void revalidate() {
+        CommandRefreshPlan plan;
+        refreshLock.lock();
+        try {
+            plan = revalidationPlan;
+            revalidationPlan = null;
+            revalidationFuture = null;
+        } finally {
+            refreshLock.unlock();
+        }
+        if (plan != null) {
+            refreshVehicleData(plan);
+        }
+    }
+
+    private void publishFreshness() {
+        updateState(HyundaiBlueLinkBindingConstants.CHANNEL_DATA_FRESHNESS,
+                new StringType(freshness.getLevel().name()));
+    }
+
+    private void refreshReservation(String vehicleId, String vin) {
+        try {
+            BlueLinkApi activeApi = Objects.requireNonNull(handler.getApi());
+            Reservation reservation = activeApi.getReservation(vehicleId, vin, handler.isCcs2Supported());
+            applyReservationStatus(reservation);
+            if (reservation != null) {
+                freshness.succeeded(DataFreshness.Source.RESERVATION, Instant.now());
+            }
+        } catch (Exception e) {
+            // Don't mark everything as error, the reservation channels are kept or expired on their own
+            handleFailure(DataFreshness.Source.RESERVATION, CommandRefreshPlan.RESERVATION, vin, e);
+        }
+    }
+
+    /**
+     * First contact with the vehicle after startup: waits for the API, resolves the vehicle ID, trims the channels to
+     * the vehicle type and runs one full refresh, which also fetches a monthly report that is not stored yet.
+     */
+    public void runStartupPipeline() {
         if (handler.isDisposed()) {
             return;
         }
         if (!handler.ensureApi()) {
-            logger.debug("API is not ready for initial data poll on {}", handler.getThing().getUID());
-            handler.scheduleRefreshTask(this::performInitialVehicleBootstrapPolls, 30, TimeUnit.SECONDS);
+            logger.debug("API is not ready for the startup refresh of {}", handler.getThing().getUID());
+            handler.scheduleRefreshTask(this::runStartupPipeline, 30, TimeUnit.SECONDS);
             return;
         }
 
         String vin = handler.getThing().getUID().getId();
         String vehicleId = handler.resolveVehicleId(vin);
         if (vehicleId == null || vehicleId.isBlank()) {
-            logger.warn("Unable to resolve vehicle ID for {} during initial data poll", handler.getThing().getUID());
-            handler.scheduleRefreshTask(this::performInitialVehicleBootstrapPolls, 30, TimeUnit.SECONDS);
+            logger.warn("Unable to resolve vehicle ID for {} during startup", handler.getThing().getUID());
+            handler.scheduleRefreshTask(this::runStartupPipeline, 30, TimeUnit.SECONDS);
             return;
         }
 
-        BlueLinkApi activeApi = Objects.requireNonNull(handler.getApi());
+        handler.initializeChannels();
+        refreshVehicleData(CommandRefreshPlan.FULL);
+    }
+
+    /**
+     * Fetches the monthly report of a CCS2 vehicle unless the last complete month is already stored, and appends it if
+     * its month is new. The endpoint only returns the latest report, so each month costs one request and months
+     * before the first fetch are not available.
+     */
+    private void syncMonthlyReport(String vehicleId, String vin) {
+        MonthlyReportStore store = monthlyReportStore;
+        YearMonth lastComplete = YearMonth.now().minusMonths(1);
+        if (!handler.isCcs2Supported() || store == null || store.contains(lastComplete)) {
+            return;
+        }
+        MonthlyReport report;
         try {
-            if (handler.isCcs2Supported()) {
-                JsonResponse ccs2Response = activeApi.getVehicleCcs2CarStatusLatest(vehicleId, vin);
-                if (ccs2Response != null) {
-                    if (ccs2Response.isSuccessful()) {
-                        logger.info("Initial CCS2 car status response for {} (HTTP {}): {}", vin,
-                                Integer.valueOf(ccs2Response.getStatusCode()), ccs2Response.getBodyForLog());
-                    } else if (ccs2Response.isClientError()) {
-                        logger.info(
-                                "CCS2 car status endpoint unavailable for {} (HTTP {}), falling back to legacy status",
-                                vin, Integer.valueOf(ccs2Response.getStatusCode()));
-                        JsonResponse legacyResponse = activeApi.getVehicleStatusLatestRaw(vehicleId, vin, false,
-                                handler.isCcs2Supported());
-                        if (legacyResponse != null) {
-                            if (legacyResponse.isSuccessful()) {
-                                logger.info("Initial legacy vehicle status response for {} (HTTP {}): {}", vin,
-                                        Integer.valueOf(legacyResponse.getStatusCode()),
-                                        legacyResponse.getBodyForLog());
-                            } else {
-                                logger.warn("Legacy vehicle status request for {} returned HTTP {}: {}", vin,
-                                        Integer.valueOf(legacyResponse.getStatusCode()),
-                                        legacyResponse.getBodyForLog());
-                            }
-                        }
-                    } else {
-                        logger.warn("Initial CCS2 car status request for {} returned HTTP {}: {}", vin,
-                                Integer.valueOf(ccs2Response.getStatusCode()), ccs2Response.getBodyForLog());
-                    }
-                }
-            }
+            BlueLinkApi activeApi = Objects.requireNonNull(handler.getApi());
+            report = activeApi.getLatestMonthlyReport(vehicleId, vin, true);
         } catch (Exception e) {
-            logger.warn("Initial CCS2 car status request for {} failed: {}", vin, e.getMessage());
+            logger.warn("Monthly report request for {} failed: {}", vin, e.getMessage());
+            return;
         }
-
-        try {
-            if (handler.isCcs2Supported()) {
-                JsonResponse monthlyReport = activeApi.getVehicleMonthlyReport(vehicleId, vin,
-                        handler.isCcs2Supported());
-                if (monthlyReport != null) {
-                    if (monthlyReport.isSuccessful()) {
-                        logger.info("Initial monthly report response for {} (HTTP {}): {}", vin,
-                                Integer.valueOf(monthlyReport.getStatusCode()), monthlyReport.getBodyForLog());
-                    } else if (monthlyReport.isClientError()) {
-                        logger.info("Monthly report endpoint unavailable for {} (HTTP {})", vin,
-                                Integer.valueOf(monthlyReport.getStatusCode()));
-                    } else {
-                        logger.warn("Monthly report request for {} returned HTTP {}: {}", vin,
-                                Integer.valueOf(monthlyReport.getStatusCode()), monthlyReport.getBodyForLog());
-                    }
-                }
+        if (report == null) {
+            logger.debug("No monthly report available for {}", vin);
+        } else if (report.month.isAfter(lastComplete)) {
+            logger.debug("Ignoring monthly report of the running month {} for {}", report.month, vin);
+        } else if (store.append(report)) {
+            logger.debug("Stored monthly report {} for {}", report.month, vin);
+            MonthlyReport latest = store.latest();
+            if (latest != null) {
+                publishMonthlyReport(latest);
             }
-        } catch (Exception e) {
-            logger.warn("Initial monthly report request for {} failed: {}", vin, e.getMessage());
         }
     }
 
-    private void applyVehicleStatus(VehicleStatus status) {
-        if (status.doorsLocked != null) {
-            handler.updateLockState(status.doorsLocked.booleanValue() ? OnOffType.ON : OnOffType.OFF);
-        } else {
-            handler.updateLockState(UnDefType.UNDEF);
+    private void publishMonthlyReport(MonthlyReport report) {
+        Double distance = report.distanceKm;
+        Integer minutes = report.drivingMinutes;
+        Double energy = report.energyConsumedKwh;
+        updateState(HyundaiBlueLinkBindingConstants.CHANNEL_MONTHLY_REPORT_MONTH,
+                new StringType(report.month.toString()));
+        updateState(HyundaiBlueLinkBindingConstants.CHANNEL_MONTHLY_DISTANCE,
+                distance != null ? new QuantityType<>(distance, MetricPrefix.KILO(SIUnits.METRE)) : UnDefType.UNDEF);
+        updateState(HyundaiBlueLinkBindingConstants.CHANNEL_MONTHLY_DRIVING_TIME,
+                minutes != null ? new QuantityType<>(minutes, Units.MINUTE) : UnDefType.UNDEF);
+        updateState(HyundaiBlueLinkBindingConstants.CHANNEL_MONTHLY_ENERGY_CONSUMPTION,
+                energy != null ? new QuantityType<>(energy, Units.KILOWATT_HOUR) : UnDefType.UNDEF);
+    }
+
+    /**
+     * Publishes the channels whose value changed since the last published status.
+     *
+     * @return {@code true} if the status carried a location
+     */
+    private boolean applyVehicleStatus(VehicleStatusSnapshot status) {
+        StatusChannelDiff.Pass pass = channelDiff.begin(status);
+
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE, Field.DOORS_LOCKED)) {
+            if (status.has(Field.DOORS_LOCKED)) {
+                handler.updateLockState(status.getBoolean(Field.DOORS_LOCKED) ? OnOffType.ON : OnOffType.OFF);
+            } else {
+                handler.updateLockState(UnDefType.UNDEF);
+            }
         }
 
-        if (status.charging != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_STARTCHARGE,
-                    status.charging ? OnOffType.ON : OnOffType.OFF);
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_STARTCHARGE, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_STARTCHARGE, Field.CHARGING)) {
+            publishOnOff(HyundaiBlueLinkBindingConstants.CHANNEL_STARTCHARGE, status, Field.CHARGING);
         }
 
-        Integer chargingState = status.chargingState;
-        if (chargingState != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGING_STATE, new DecimalType(chargingState));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGING_STATE, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGING_STATE, Field.CHARGING_STATE)) {
+            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGING_STATE,
+                    status.has(Field.CHARGING_STATE) ? new DecimalType(status.getInt(Field.CHARGING_STATE))
+                            : UnDefType.UNDEF);
         }
 
-        Integer remainTime = status.remainingChargeTimeMinutes;
-        if (remainTime != null) {
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_REMAINING_CHARGE_TIME,
+                Field.REMAINING_CHARGE_TIME_MINUTES)) {
             updateState(HyundaiBlueLinkBindingConstants.CHANNEL_REMAINING_CHARGE_TIME,
-                    new QuantityType<>(remainTime, Units.MINUTE));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_REMAINING_CHARGE_TIME, UnDefType.UNDEF);
+                    status.has(Field.REMAINING_CHARGE_TIME_MINUTES)
+                            ? new QuantityType<>(status.getInt(Field.REMAINING_CHARGE_TIME_MINUTES), Units.MINUTE)
+                            : UnDefType.UNDEF);
         }
 
-        if (status.connectorFastened != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CONNECTOR_FASTENED,
-                    status.connectorFastened ? OnOffType.ON : OnOffType.OFF);
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CONNECTOR_FASTENED, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_CONNECTOR_FASTENED, Field.CONNECTOR_FASTENED)) {
+            publishOnOff(HyundaiBlueLinkBindingConstants.CHANNEL_CONNECTOR_FASTENED, status, Field.CONNECTOR_FASTENED);
         }
 
-        if (status.climateOn != null) {
-            OnOffType climateState = status.climateOn ? OnOffType.ON : OnOffType.OFF;
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_STATUS, climateState);
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL, climateState);
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_STATUS, UnDefType.UNDEF);
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_STATUS, Field.CLIMATE_ON)) {
+            publishOnOff(HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_STATUS, status, Field.CLIMATE_ON);
+        }
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL, Field.CLIMATE_ON)) {
+            publishOnOff(HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL, status, Field.CLIMATE_ON);
         }
 
-        if (status.batteryWarning != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_BATTERY_WARNING,
-                    status.batteryWarning ? OnOffType.ON : OnOffType.OFF);
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_BATTERY_WARNING, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_BATTERY_WARNING, Field.BATTERY_WARNING)) {
+            publishOnOff(HyundaiBlueLinkBindingConstants.CHANNEL_BATTERY_WARNING, status, Field.BATTERY_WARNING);
         }
 
-        if (status.acc != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_ACC,
-                    status.acc ? OnOffType.ON : OnOffType.OFF);
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_ACC, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_ACC, Field.ACC)) {
+            publishOnOff(HyundaiBlueLinkBindingConstants.CHANNEL_ACC, status, Field.ACC);
         }
 
-        if (status.minorWarnings != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_MINOR_WARNINGS, new StringType(status.minorWarnings));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_MINOR_WARNINGS, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_MINOR_WARNINGS,
+                VehicleStatusSnapshot::getMinorWarnings)) {
+            publishString(HyundaiBlueLinkBindingConstants.CHANNEL_MINOR_WARNINGS, status.getMinorWarnings());
         }
 
-        if (status.lastNotification != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_LAST_NOTIFICATION,
-                    new StringType(status.lastNotification));
+        String lastNotification = status.getLastNotification();
+        if (lastNotification != null && pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_LAST_NOTIFICATION,
+                VehicleStatusSnapshot::getLastNotification)) {
+            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_LAST_NOTIFICATION, new StringType(lastNotification));
         }
 
-        Thing thing = handler.getThing();
-        ThingBuilder distanceChannelBuilder = handler.editThing();
-        List<Channel> updatedChannels = new ArrayList<>(thing.getChannels());
-        boolean distanceChannelTypeUpdated = false;
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_ODOMETER, Field.ODOMETER)) {
+            publishDistance(HyundaiBlueLinkBindingConstants.CHANNEL_ODOMETER, status, Field.ODOMETER);
+        }
 
-        distanceChannelTypeUpdated |= updateDistanceChannelUnit(updatedChannels, status.odometerUnit,
-                HyundaiBlueLinkBindingConstants.CHANNEL_ODOMETER,
-                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_ODOMETER_KILOMETRES),
-                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_ODOMETER_MILES));
-        Double odometer = status.odometer;
-        if (odometer != null) {
-            QuantityType<Length> odometerQuantity = new QuantityType<>(odometer,
-                    resolveDistanceUnit(status.odometerUnit));
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_ODOMETER, odometerQuantity);
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_ODOMETER, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_BATTERY_LEVEL, Field.BATTERY_LEVEL)) {
+            publishPercent(HyundaiBlueLinkBindingConstants.CHANNEL_BATTERY_LEVEL, status, Field.BATTERY_LEVEL);
         }
 
-        Double batteryLevel = status.batteryLevel;
-        if (batteryLevel != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_BATTERY_LEVEL,
-                    new QuantityType<>(batteryLevel, Units.PERCENT));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_BATTERY_LEVEL, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC, Field.CHARGE_LIMIT_AC)) {
+            publishPercent(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC, status, Field.CHARGE_LIMIT_AC);
         }
 
-        Double chargeLimitAc = status.chargeLimitAC;
-        if (chargeLimitAc != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC,
-                    new QuantityType<>(chargeLimitAc, Units.PERCENT));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC, Field.CHARGE_LIMIT_DC)) {
+            publishPercent(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC, status, Field.CHARGE_LIMIT_DC);
         }
 
-        Double chargeLimitDc = status.chargeLimitDC;
-        if (chargeLimitDc != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC,
-                    new QuantityType<>(chargeLimitDc, Units.PERCENT));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_RANGE, Field.RANGE)) {
+            publishDistance(HyundaiBlueLinkBindingConstants.CHANNEL_RANGE, status, Field.RANGE);
         }
 
-        distanceChannelTypeUpdated |= updateDistanceChannelUnit(updatedChannels, status.rangeUnit,
-                HyundaiBlueLinkBindingConstants.CHANNEL_RANGE,
-                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_RANGE_KILOMETRES),
-                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_RANGE_MILES));
-        Double range = status.range;
-        if (range != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_RANGE,
-                    new QuantityType<>(range, resolveDistanceUnit(status.rangeUnit)));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_RANGE, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_EV_MODE_RANGE, Field.EV_MODE_RANGE)) {
+            publishDistance(HyundaiBlueLinkBindingConstants.CHANNEL_EV_MODE_RANGE, status, Field.EV_MODE_RANGE);
         }
 
-        distanceChannelTypeUpdated |= updateDistanceChannelUnit(updatedChannels, status.evModeRangeUnit,
-                HyundaiBlueLinkBindingConstants.CHANNEL_EV_MODE_RANGE,
-                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_EV_RANGE_KILOMETRES),
-                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_EV_RANGE_MILES));
-        Double evModeRange = status.evModeRange;
-        if (evModeRange != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_EV_MODE_RANGE,
-                    new QuantityType<>(evModeRange, resolveDistanceUnit(status.evModeRangeUnit)));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_EV_MODE_RANGE, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_GAS_MODE_RANGE, Field.GAS_MODE_RANGE)) {
+            publishDistance(HyundaiBlueLinkBindingConstants.CHANNEL_GAS_MODE_RANGE, status, Field.GAS_MODE_RANGE);
         }
 
-        distanceChannelTypeUpdated |= updateDistanceChannelUnit(updatedChannels, status.gasModeRangeUnit,
-                HyundaiBlueLinkBindingConstants.CHANNEL_GAS_MODE_RANGE,
-                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_GAS_RANGE_KILOMETRES),
-                Objects.requireNonNull(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_GAS_RANGE_MILES));
-        Double gasModeRange = status.gasModeRange;
-        if (gasModeRange != null) {
-            Unit<Length> unit = resolveDistanceUnit(status.gasModeRangeUnit);
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_GAS_MODE_RANGE, new QuantityType<>(gasModeRange, unit));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_GAS_MODE_RANGE, UnDefType.UNDEF);
+        updateDistanceChannelTypes(status);
+
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_FUEL_LEVEL, Field.FUEL_LEVEL)) {
+            publishPercent(HyundaiBlueLinkBindingConstants.CHANNEL_FUEL_LEVEL, status, Field.FUEL_LEVEL);
         }
 
-        if (distanceChannelTypeUpdated) {
-            distanceChannelBuilder.withChannels(updatedChannels);
-            handler.updateThing(distanceChannelBuilder.build());
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_LAST_UPDATED, VehicleStatusSnapshot::getLastUpdated)) {
+            Instant lastUpdated = status.getLastUpdated();
+            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_LAST_UPDATED, lastUpdated != null
+                    ? new DateTimeType(Objects.requireNonNull(lastUpdated.atZone(ZoneOffset.UTC)))
+                    : UnDefType.UNDEF);
         }
 
-        Double fuelLevel = status.fuelLevel;
-        if (fuelLevel != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_FUEL_LEVEL,
-                    new QuantityType<>(fuelLevel, Units.PERCENT));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_FUEL_LEVEL, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_DOOR_STATUS,
+                VehicleStatusSnapshot::getDoorStatusSummary)) {
+            publishString(HyundaiBlueLinkBindingConstants.CHANNEL_DOOR_STATUS, status.getDoorStatusSummary());
         }
 
-        Instant lastUpdated = status.lastUpdated;
-        if (lastUpdated != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_LAST_UPDATED,
-                    new DateTimeType(Objects.requireNonNull(lastUpdated.atZone(ZoneOffset.UTC))));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_LAST_UPDATED, UnDefType.UNDEF);
+        if (pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_WINDOW_STATUS,
+                VehicleStatusSnapshot::getWindowStatusSummary)) {
+            publishString(HyundaiBlueLinkBindingConstants.CHANNEL_WINDOW_STATUS, status.getWindowStatusSummary());
         }
 
-        if (status.doorStatusSummary != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_DOOR_STATUS, new StringType(status.doorStatusSummary));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_DOOR_STATUS, UnDefType.UNDEF);
+        if (pass.changedAny(HyundaiBlueLinkBindingConstants.CHANNEL_STATUS)) {
+            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_STATUS, new StringType(buildStatusSummary(status)));
         }
 
-        if (status.windowStatusSummary != null) {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_WINDOW_STATUS,
-                    new StringType(status.windowStatusSummary));
-        } else {
-            updateState(HyundaiBlueLinkBindingConstants.CHANNEL_WINDOW_STATUS, UnDefType.UNDEF);
+        boolean hasLocation = status.has(Field.LATITUDE) && status.has(Field.LONGITUDE);
+        if (hasLocation && pass.changed(HyundaiBlueLinkBindingConstants.CHANNEL_LOCATION, Field.LATITUDE,
+                Field.LONGITUDE)) {
+            VehicleLocation location = new VehicleLocation();
+            location.latitude = status.getDouble(Field.LATITUDE);
+            location.longitude = status.getDouble(Field.LONGITUDE);
+            updateLocationChannel(location);
         }
 
-        updateState(HyundaiBlueLinkBindingConstants.CHANNEL_STATUS, new StringType(buildStatusSummary(status)));
+        pass.complete();
+        long suppressedPercent = Math.round(channelDiff.getSuppressionRate() * 100);
+        handler.publishSuppressedUpdates(suppressedPercent + "%");
+        if (logger.isDebugEnabled()) {
+            logger.debug("Published {} of {} status channels for {} ({}% suppressed since initialization)",
+                    pass.getPublished(), pass.getPublished() + pass.getSuppressed(), status.getVin(),
+                    suppressedPercent);
+        }
+        return hasLocation;
+    }
+
+    private void publishOnOff(String channelId, VehicleStatusSnapshot status, Field field) {
+        updateState(channelId,
+                status.has(field) ? (status.getBoolean(field) ? OnOffType.ON : OnOffType.OFF) : UnDefType.UNDEF);
+    }
+
+    private void publishPercent(String channelId, VehicleStatusSnapshot status, Field field) {
+        updateState(channelId,
+                status.has(field) ? new QuantityType<>(status.getDouble(field), Units.PERCENT) : UnDefType.UNDEF);
+    }
 
+    private void publishDistance(String channelId, VehicleStatusSnapshot status, Field field) {
+        updateState(channelId, status.has(field)
+                ? new QuantityType<>(status.getDouble(field), resolveDistanceUnit(status.getDistanceUnit(field)))
+                : UnDefType.UNDEF);
     }
 
-    private void updateLocationChannel(@Nullable VehicleLocation location) {
+    private void publishString(String channelId, @Nullable String value) {
+        updateState(channelId, value != null ? new StringType(value) : UnDefType.UNDEF);
+    }
+
+    private boolean updateLocationChannel(@Nullable VehicleLocation location) {
         if (location == null) {
-            return;
+            return false;
         }
         if (Double.isNaN(location.latitude) || Double.isNaN(location.longitude)) {
-            return;
+            return false;
         }
         updateState(HyundaiBlueLinkBindingConstants.CHANNEL_LOCATION,
                 new PointType(new DecimalType(location.latitude), new DecimalType(location.longitude)));
+        return true;
     }
 
     private void markStatusChannelsError(@Nullable String message) {
         String detail = (message == null || message.isBlank()) ? "Unknown error" : message;
         StringType error = new StringType("ERROR: " + detail);
         updateState(HyundaiBlueLinkBindingConstants.CHANNEL_STATUS, error);
+        channelDiff.invalidate(HyundaiBlueLinkBindingConstants.CHANNEL_STATUS);
     }
 
-    private String buildStatusSummary(VehicleStatus status) {
+    private String buildStatusSummary(VehicleStatusSnapshot status) {
         StringBuilder sb = new StringBuilder();
-        appendKeyValue(sb, "locked", status.doorsLocked);
-        appendKeyValue(sb, "charging", status.charging);
-        appendKeyValue(sb, "chargingState", status.chargingState);
-        appendKeyValue(sb, "remainCharge", status.remainingChargeTimeMinutes);
-        appendKeyValue(sb, "connectorFastened", status.connectorFastened);
-        appendKeyValue(sb, "climate", status.climateOn);
-        appendKeyValue(sb, "batteryWarning", status.batteryWarning);
-        appendKeyValue(sb, "lowFuelLight", status.lowFuelLight);
-        appendKeyValue(sb, "limitAC", status.chargeLimitAC);
-        appendKeyValue(sb, "limitDC", status.chargeLimitDC);
-        if (status.doorStatusSummary != null) {
-            appendKeyValue(sb, "doors", status.doorStatusSummary);
-        }
-        if (status.windowStatusSummary != null) {
-            appendKeyValue(sb, "windows", status.windowStatusSummary);
-        }
-        if (status.range != null) {
-            appendKeyValue(sb, "range", formatDistance(status.range, status.rangeUnit));
-        }
-        if (status.odometer != null) {
-            appendKeyValue(sb, "odometer", formatDistance(status.odometer, status.odometerUnit));
-        }
-        if (status.evModeRange != null) {
-            appendKeyValue(sb, "evModeRange", formatDistance(status.evModeRange, status.evModeRangeUnit));
-        }
-        if (status.gasModeRange != null) {
-            appendKeyValue(sb, "gasModeRange", formatDistance(status.gasModeRange, status.gasModeRangeUnit));
-        }
-        if (status.batteryLevel != null) {
-            appendKeyValue(sb, "batteryLevel", status.batteryLevel);
-        }
-        if (status.fuelLevel != null) {
-            appendKeyValue(sb, "fuelLevel", status.fuelLevel);
-        }
-        if (status.lastUpdated != null) {
-            appendKeyValue(sb, "updated", status.lastUpdated);
-        }
+        appendField(sb, "locked", status, Field.DOORS_LOCKED);
+        appendField(sb, "charging", status, Field.CHARGING);
+        appendField(sb, "chargingState", status, Field.CHARGING_STATE);
+        appendField(sb, "remainCharge", status, Field.REMAINING_CHARGE_TIME_MINUTES);
+        appendField(sb, "connectorFastened", status, Field.CONNECTOR_FASTENED);
+        appendField(sb, "climate", status, Field.CLIMATE_ON);
+        appendField(sb, "batteryWarning", status, Field.BATTERY_WARNING);
+        appendField(sb, "lowFuelLight", status, Field.LOW_FUEL_LIGHT);
+        appendField(sb, "limitAC", status, Field.CHARGE_LIMIT_AC);
+        appendField(sb, "limitDC", status, Field.CHARGE_LIMIT_DC);
+        appendKeyValue(sb, "doors", status.getDoorStatusSummary());
+        appendKeyValue(sb, "windows", status.getWindowStatusSummary());
+        appendKeyValue(sb, "range", formatDistance(status, Field.RANGE));
+        appendKeyValue(sb, "odometer", formatDistance(status, Field.ODOMETER));
+        appendKeyValue(sb, "evModeRange", formatDistance(status, Field.EV_MODE_RANGE));
+        appendKeyValue(sb, "gasModeRange", formatDistance(status, Field.GAS_MODE_RANGE));
+        appendField(sb, "batteryLevel", status, Field.BATTERY_LEVEL);
+        appendField(sb, "fuelLevel", status, Field.FUEL_LEVEL);
+        appendKeyValue(sb, "updated", status.getLastUpdated());
         return Objects.requireNonNull(sb.length() > 0 ? sb.toString() : "{}");
     }
 
@@ -449,12 +672,14 @@ public class VehicleStatusManager {
         return MetricPrefix.KILO(SIUnits.METRE);
     }
 
-    private @Nullable String formatDistance(@Nullable Double value, @Nullable DistanceUnit unit) {
-        if (value == null) {
+    private @Nullable String formatDistance(VehicleStatusSnapshot status, Field field) {
+        if (!status.has(field)) {
             return null;
         }
+        double value = status.getDouble(field);
+        DistanceUnit unit = status.getDistanceUnit(field);
         if (unit == null) {
-            return value.toString();
+            return Double.toString(value);
         }
         return value + " " + unit.getDisplay();
     }
@@ -469,25 +694,54 @@ public class VehicleStatusManager {
         sb.append(key).append('=').append(value);
     }
 
-    private boolean updateDistanceChannelUnit(List<Channel> channels, @Nullable DistanceUnit unit, String channelId,
-            ChannelTypeUID kilometreType, ChannelTypeUID mileType) {
-        if (unit == null) {
-            return false;
+    private void appendField(StringBuilder sb, String key, VehicleStatusSnapshot status, Field field) {
+        if (!status.has(field)) {
+            return;
         }
-        ChannelTypeUID desiredType = unit == DistanceUnit.MILES ? mileType : kilometreType;
-        for (int i = 0; i < channels.size(); i++) {
-            Channel channel = Objects.requireNonNull(channels.get(i));
-            if (!channel.getUID().getId().equals(channelId)) {
+        if (sb.length() > 0) {
+            sb.append(' ');
+        }
+        sb.append(key).append('=');
+        switch (field.kind()) {
+            case DOUBLE -> sb.append(status.getDouble(field));
+            case BOOLEAN -> sb.append(status.getBoolean(field));
+            case INT -> sb.append(status.getInt(field));
+        }
+    }
+
+    /**
+     * Switches distance channels between their kilometre and mile channel types. The applied units are cached per
+     * {@link Thing} instance, so the Thing is only edited when a reported unit actually flips.
+     */
+    private void updateDistanceChannelTypes(VehicleStatusSnapshot snapshot) {
+        Thing thing = handler.getThing();
+        if (thing != distanceUnitsThing) {
+            appliedDistanceUnits.clear();
+            distanceUnitsThing = thing;
+        }
+        @Nullable
+        List<Channel> updatedChannels = null;
+        for (DistanceChannel distance : DISTANCE_CHANNELS) {
+            DistanceUnit unit = snapshot.getDistanceUnit(distance.field);
+            if (unit == null || unit == appliedDistanceUnits.get(distance)) {
                 continue;
             }
-            ChannelTypeUID currentType = channel.getChannelTypeUID();
-            if (desiredType.equals(currentType)) {
-                return false;
+            appliedDistanceUnits.put(distance, unit);
+            Channel channel = thing.getChannel(distance.channelId);
+            ChannelTypeUID desiredType = unit == DistanceUnit.MILES ? distance.mileType : distance.kilometreType;
+            if (channel == null || desiredType.equals(channel.getChannelTypeUID())) {
+                continue;
             }
-            channels.set(i, ChannelBuilder.create(channel).withType(desiredType).build());
-            return true;
+            if (updatedChannels == null) {
+                updatedChannels = new ArrayList<>(thing.getChannels());
+            }
+            updatedChannels.set(updatedChannels.indexOf(channel),
+                    ChannelBuilder.create(channel).withType(desiredType).build());
+        }
+        if (updatedChannels != null) {
+            handler.updateThing(handler.editThing().withChannels(updatedChannels).build());
+            distanceUnitsThing = handler.getThing();
         }
-        return false;
     }
 
     private void applyReservationStatus(@Nullable Reservation reservation) {
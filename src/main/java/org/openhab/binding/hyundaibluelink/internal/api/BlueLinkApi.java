@@ -8,18 +8,22 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import java.util.function.Supplier;
 
@@ -31,6 +35,7 @@ import com.google.gson.JsonPrimitive;
 
 import org.openhab.binding.hyundaibluelink.internal.util.EndpointResolver.Endpoints;
 import org.openhab.binding.hyundaibluelink.internal.model.*;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
 
 import org.slf4j.LoggerFactory;
 
@@ -49,13 +54,23 @@ public class BlueLinkApi {
     private volatile boolean vehicleStatusPostDisabled;
     private @Nullable String controlToken;
     private @Nullable Instant controlTokenExpiry;
+    private final ReentrantLock controlTokenLock = new ReentrantLock();
 
     private final HttpClient httpClient;
 
     private final BlueLinkCommandHandler commandHandler;
     private final BlueLinkClimateHandler climateHandler;
     private final BlueLinkStatusHandler statusHandler;
-
+    private final Map<String, NotificationsFeed> notificationFeeds = new ConcurrentHashMap<>();
+    private final Map<String, VehicleUriTable> uriTables = new ConcurrentHashMap<>();
+    private final Map<String, Integer> monthlyReportRoutes = new ConcurrentHashMap<>();
+    private final ThreadLocal<@Nullable CommandTiming> activeCommandTiming = new ThreadLocal<>();
+
+    // monthly report routes in the order they are tried: SPA v2, SPA v1 with /v2 suffix, SPA v1 without it
+    private static final String[] MONTHLY_REPORT_SUFFIXES = { VehicleUriTable.MONTHLY_REPORT_V2,
+            VehicleUriTable.MONTHLY_REPORT_V2, VehicleUriTable.MONTHLY_REPORT };
+    private static final boolean[] MONTHLY_REPORT_SPA_V2 = { true, false, false };
+    private static final Duration NOTIFICATIONS_TTL = Duration.ofSeconds(2);
     private static final int DEFAULT_HVAC_TYPE = 0;
     private static final String DEFAULT_CLIMATE_TEMP_CODE = "0CH";
     private static final String DEFAULT_CLIMATE_UNIT = "C";
@@ -126,14 +141,15 @@ public class BlueLinkApi {
         }
     }
 
-    public VehicleStatus getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported) throws Exception {
+    public VehicleStatusSnapshot getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported)
+            throws Exception {
         return statusHandler.getVehicleStatus(vehicleId, vinHint, ccs2Supported);
     }
 
-    protected VehicleStatus getVehicleStatusImpl(String vehicleId, String vinHint, boolean ccs2Supported)
+    protected VehicleStatusSnapshot getVehicleStatusImpl(String vehicleId, String vinHint, boolean ccs2Supported)
             throws Exception {
         String vinForLog = (vinHint == null || vinHint.isBlank()) ? "UNKNOWN" : vinHint;
-        VehicleStatus status = null;
+        VehicleStatusSnapshot status = null;
 
         if (ccs2Supported) {
             JsonObject ccs2Root = fetchVehicleStatusFromCcs2(vehicleId, vinForLog);
@@ -149,7 +165,10 @@ public class BlueLinkApi {
 
         if (status != null) {
             try {
-                status.lastNotification = fetchLatestNotification(vehicleId);
+                String notification = fetchLatestNotification(vehicleId);
+                if (notification != null) {
+                    status = status.toBuilder().setLastNotification(notification).build();
+                }
             } catch (Exception e) {
                 logger.debug("Failed to fetch latest notification for {}: {}", vinForLog, e.getMessage());
             }
@@ -161,7 +180,8 @@ public class BlueLinkApi {
     public JsonResponse getVehicleStatusRaw(String vehicleId, String vin, boolean ccs2Supported) throws Exception {
         String vinForLog = (vin == null || vin.isBlank()) ? "UNKNOWN" : vin;
         try {
-            JsonResponse res = fetchSpaVehicleData(vehicleId, vinForLog, "status", "status", true, ccs2Supported);
+            JsonResponse res = fetchSpaVehicleData(vehicleId, vinForLog, VehicleUriTable.STATUS, "status", true,
+                    ccs2Supported);
             if (shouldFallbackToLegacyStatusLatest(res)) {
                 res = fetchLegacyVehicleStatusLatestResponse(vehicleId, vinForLog, ccs2Supported);
             }
@@ -178,9 +198,9 @@ public class BlueLinkApi {
     }
 
     @SuppressWarnings("null")
-    VehicleStatus fetchLegacyVehicleStatus(String vehicleId, String vinForLog, boolean ccs2Supported)
+    VehicleStatusSnapshot fetchLegacyVehicleStatus(String vehicleId, String vinForLog, boolean ccs2Supported)
             throws Exception {
-        URI uri = URI.create(ep.ccapi.baseUrl + "/vehicles/" + vehicleId + "/status");
+        URI uri = uris(vehicleId).legacyStatus();
         HttpRequest.Builder postBuilder = null;
         String requestBody = null;
         boolean attemptedPost = false;
@@ -249,37 +269,42 @@ public class BlueLinkApi {
 
     @SuppressWarnings("null")
     private @Nullable JsonObject fetchVehicleStatusFromCcs2(String vehicleId, String vinForLog) throws Exception {
-        URI uri = buildSpaVehicleUri(ep.ccapi.baseUrl, vehicleId, "ccs2/carstatus/latest", true);
+        URI uri = uris(vehicleId).spa(VehicleUriTable.CCS2_CARSTATUS_LATEST, true, false);
         Supplier<HttpRequest.Builder> builderSupplier = () -> HttpRequest.newBuilder(uri).GET();
         HttpResponse<String> resp;
         try {
             resp = sendWithRetry(builderSupplier.get(), AuthorizationMode.CONTROL_TOKEN,
                     HeaderInclusion.OMIT_CONTROL_TOKEN_AND_PIN);
             int statusCode = resp.statusCode();
-            String bodyForLog = formatBodyForLog(resp.body());
             if (controlTokenSupported && statusCode / 100 == 4 && shouldRetrySpaVehicleData(statusCode)) {
                 logger.debug(
                         "CCS2 car status control-token request disallowed for {} ({} {}), retrying with access token",
-                        vinForLog, Integer.valueOf(statusCode), bodyForLog);
+                        vinForLog, Integer.valueOf(statusCode), formatBodyForLog(resp.body()));
                 resp = sendWithRetry(builderSupplier.get(), AuthorizationMode.ACCESS_TOKEN,
                         HeaderInclusion.OMIT_CONTROL_TOKEN_AND_PIN);
                 statusCode = resp.statusCode();
-                bodyForLog = formatBodyForLog(resp.body());
             }
 
+            JsonResponse response = newJsonResponse(statusCode, resp.body());
             int statusClass = statusCode / 100;
             if (statusClass == 2) {
-                logger.debug("CCS2 car status response for {}: {}", vinForLog, bodyForLog);
-                JsonObject rootJson = JsonParser.parseString(resp.body()).getAsJsonObject();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("CCS2 car status response for {}: {}", vinForLog, response.getBodyForLog());
+                }
+                JsonElement tree = response.getBodyAsJsonElement();
+                if (tree == null || !tree.isJsonObject()) {
+                    throw new IOException("CCS2 car status response is not a JSON object");
+                }
+                JsonObject rootJson = tree.getAsJsonObject();
                 JsonObject unwrapped = unwrapVehicleStatus(rootJson);
                 return unwrapped != null ? unwrapped : rootJson;
             }
             if (statusClass == 4) {
                 logger.debug("CCS2 car status unavailable for {}: status {} {}", vinForLog, Integer.valueOf(statusCode),
-                        bodyForLog);
+                        response.getBodyForLog());
             } else {
                 logger.warn("CCS2 car status request failed for {}: {} {}", vinForLog, Integer.valueOf(statusCode),
-                        bodyForLog);
+                        response.getBodyForLog());
             }
         } catch (Exception e) {
             if (e instanceof InterruptedException) {
@@ -322,18 +347,16 @@ public class BlueLinkApi {
             return null;
         }
 
-        try {
-            return JsonParser.parseString(body).getAsJsonObject();
-        } catch (Exception e) {
-            logger.warn("Failed to parse legacy vehicle status latest payload for {}: {}", vinForLog, e.getMessage());
-            logger.debug("Failed to parse legacy vehicle status latest payload for {}", vinForLog, e);
+        JsonElement tree = response.getBodyAsJsonElement();
+        if (tree == null || !tree.isJsonObject()) {
+            logger.warn("Failed to parse legacy vehicle status latest payload for {}: not a JSON object", vinForLog);
             return null;
         }
+        return tree.getAsJsonObject();
     }
 
-    private VehicleStatus parseVehicleStatusResponse(String vinForLog, JsonObject rootJson) {
-        VehicleStatus s = new VehicleStatus();
-        s.vin = vinForLog;
+    private VehicleStatusSnapshot parseVehicleStatusResponse(String vinForLog, JsonObject rootJson) {
+        VehicleStatusSnapshot.Builder s = VehicleStatusSnapshot.builder().setVin(vinForLog);
 
         JsonObject json = unwrapVehicleStatus(rootJson);
         if (json == null) {
@@ -362,7 +385,7 @@ public class BlueLinkApi {
         parseLastUpdated(s, json, rootJson, evStatus);
 
         logger.debug("Vehicle status retrieved for {}", vinForLog);
-        return s;
+        return s.build();
     }
 
     private boolean isVehicleStatusPostDisabled() {
@@ -569,6 +592,21 @@ public class BlueLinkApi {
         return sanitizeBody(body);
     }
 
+    private JsonResponse newJsonResponse(int statusCode, String body) {
+        return new JsonResponse(statusCode, body, this::formatResponseBodyForLog);
+    }
+
+    private String formatResponseBodyForLog(JsonResponse response) {
+        JsonElement tree = response.getBodyAsJsonElement();
+        if (tree == null) {
+            String body = response.getBody();
+            return body == null ? "<none>" : body.isEmpty() ? "<empty>" : body;
+        }
+        JsonElement copy = Objects.requireNonNull(tree.deepCopy());
+        sanitizeJsonElement(copy);
+        return Objects.requireNonNull(copy.toString());
+    }
+
     private String sanitizeBody(String body) {
         try {
             JsonElement element = JsonParser.parseString(body);
@@ -662,12 +700,27 @@ public class BlueLinkApi {
         }
     }
 
-    private synchronized void invalidateControlToken() {
-        controlToken = null;
-        controlTokenExpiry = null;
+    private void invalidateControlToken() {
+        controlTokenLock.lock();
+        try {
+            controlToken = null;
+            controlTokenExpiry = null;
+        } finally {
+            controlTokenLock.unlock();
+        }
     }
 
-    public synchronized String ensureControlToken() throws Exception {
+    public String ensureControlToken() throws Exception {
+        // a lock rather than synchronized, so a virtual thread waiting for the token exchange does not pin its carrier
+        controlTokenLock.lock();
+        try {
+            return ensureControlTokenLocked();
+        } finally {
+            controlTokenLock.unlock();
+        }
+    }
+
+    private String ensureControlTokenLocked() throws Exception {
         if (!controlTokenSupported) {
             throw new IllegalStateException("Control token exchange is not available without a configured PIN");
         }
@@ -680,7 +733,12 @@ public class BlueLinkApi {
             }
         }
 
-        requestControlToken();
+        CommandTiming timing = startStage();
+        try {
+            requestControlToken();
+        } finally {
+            stopStage(timing, CommandTiming.Stage.CONTROL_TOKEN);
+        }
         String currentToken = controlToken;
         if (currentToken == null || currentToken.isBlank()) {
             throw new IOException("Control token request failed: no token in response");
@@ -688,7 +746,7 @@ public class BlueLinkApi {
         return currentToken;
     }
 
-    private synchronized void requestControlToken() throws Exception {
+    private void requestControlToken() throws Exception {
         if (!controlTokenSupported) {
             throw new IllegalStateException("Control token exchange is not available without a configured PIN");
         }
@@ -732,10 +790,8 @@ public class BlueLinkApi {
             expiry = Instant.now().plusSeconds(300);
         }
 
-        synchronized (this) {
-            controlToken = activeToken;
-            controlTokenExpiry = expiry;
-        }
+        controlToken = activeToken;
+        controlTokenExpiry = expiry;
 
         logger.debug("Control token acquired, valid until {}", expiry);
     }
@@ -828,7 +884,7 @@ public class BlueLinkApi {
                 normalized.replaceAll("(?i)/api/v2/spa", "/api/v2/spa").replaceAll("(?i)/api/v1/spa", "/api/v2/spa"));
     }
 
-    private static String ensureSpaV1BaseUrl(String url) {
+    static String ensureSpaV1BaseUrl(String url) {
         String normalized = url.trim();
         if (!normalized.toLowerCase(Locale.ROOT).contains("/api/")) {
             normalized = normalized.endsWith("/") ? normalized.substring(0, normalized.length() - 1) : normalized;
@@ -838,177 +894,205 @@ public class BlueLinkApi {
                 normalized.replaceAll("(?i)/api/v2/spa", "/api/v1/spa").replaceAll("(?i)/api/v1/spa", "/api/v1/spa"));
     }
 
-    public boolean pollVehicleCommandResult(String vehicleId, String vin, @Nullable String messageId) throws Exception {
-        if (messageId == null || messageId.isBlank()) {
-            return false;
+    /**
+     * Records the stages of the API calls made by the current thread into {@code timing} until
+     * {@link #endCommandTiming()} is called.
+     */
+    public void beginCommandTiming(CommandTiming timing) {
+        activeCommandTiming.set(timing);
+    }
+
+    public void endCommandTiming() {
+        activeCommandTiming.remove();
+    }
+
+    private @Nullable CommandTiming startStage() {
+        CommandTiming timing = activeCommandTiming.get();
+        if (timing != null) {
+            timing.start();
         }
+        return timing;
+    }
 
-        String baseUrl = ensureSpaV1BaseUrl(Objects.requireNonNull(ep.ccapi.baseUrl));
-        if (!baseUrl.endsWith("/")) {
-            baseUrl += "/";
+    private static void stopStage(@Nullable CommandTiming timing, CommandTiming.Stage stage) {
+        if (timing != null) {
+            timing.stop(stage);
         }
-        URI uri = URI.create(baseUrl + "notifications/" + vehicleId + "/records");
+    }
+
+    private void rotateDevice() throws Exception {
+        CommandTiming timing = startStage();
+        try {
+            oauth.rotateDevice();
+        } finally {
+            stopStage(timing, CommandTiming.Stage.DEVICE_ROTATION);
+        }
+    }
+
+    /**
+     * Returns the shared notifications feed of a vehicle.
+     */
+    public NotificationsFeed getNotificationsFeed(String vehicleId) {
+        return Objects.requireNonNull(notificationFeeds.computeIfAbsent(vehicleId,
+                id -> new NotificationsFeed(NOTIFICATIONS_TTL, () -> fetchNotificationRecords(id))));
+    }
+
+    /**
+     * Returns the request URIs of a vehicle, rebuilt once after the base URL changed.
+     */
+    public VehicleUriTable uris(String vehicleId) {
+        String baseUrl = Objects.requireNonNull(ep.ccapi.baseUrl);
+        VehicleUriTable table = uriTables.get(vehicleId);
+        if (table == null || !table.isBuiltFrom(baseUrl)) {
+            table = new VehicleUriTable(baseUrl, vehicleId);
+            uriTables.put(vehicleId, table);
+        }
+        return table;
+    }
+
+    private NotificationsFeed.Records fetchNotificationRecords(String vehicleId) throws Exception {
+        URI uri = uris(vehicleId).notificationRecords();
 
         HttpRequest.Builder builder = Objects.requireNonNull(HttpRequest.newBuilder(uri).GET());
         HttpResponse<String> resp = sendWithRetry(builder, AuthorizationMode.ACCESS_TOKEN);
+        String body = resp.body();
+        return new NotificationsFeed.Records(resp.statusCode(), body != null ? body : "");
+    }
+
+    /**
+     * Polls the result of a single command and rotates the device ID once the vehicle answered it.
+     *
+     * @return {@code true} if the command succeeded, {@code false} while it is pending
+     * @throws IOException if the command failed or timed out on the vehicle
+     */
+    public boolean pollVehicleCommandResult(String vehicleId, String vin, @Nullable String messageId) throws Exception {
+        if (messageId == null || messageId.isBlank()) {
+            return false;
+        }
+        CommandResults results = pollVehicleCommandResults(vehicleId, vin, List.of(messageId));
+        if (!results.isPending(messageId)) {
+            rotateDeviceAfterCommandResults();
+        }
+        String failure = results.getFailure(messageId);
+        if (failure != null) {
+            throw new IOException(failure);
+        }
+        return results.isSucceeded(messageId);
+    }
+
+    /**
+     * Resolves all {@code messageIds} against a single notifications response. The device ID is not rotated; callers
+     * do that once through {@link #rotateDeviceAfterCommandResults()} when no command is outstanding any more.
+     */
+    public CommandResults pollVehicleCommandResults(String vehicleId, String vin, Collection<String> messageIds)
+            throws Exception {
+        CommandResults results = new CommandResults();
+        if (messageIds.isEmpty()) {
+            return results;
+        }
+        NotificationsFeed.Records records = getNotificationsFeed(vehicleId).get();
 
         String vinForLog = (vin == null || vin.isBlank()) ? "UNKNOWN" : vin;
-        int statusCode = resp.statusCode();
-        logger.debug("Command result polling (notifications) {} for {} status: {}", messageId, vinForLog,
+        int statusCode = records.getStatusCode();
+        logger.debug("Command result polling (notifications) {} for {} status: {}", messageIds, vinForLog,
                 Integer.valueOf(statusCode));
 
-        if (statusCode >= 400) {
-            String body = Objects.requireNonNull(resp.body());
-            String bodyForLog = formatBodyForLog(body);
-            logger.debug("Job polling failed via notifications for {} with HTTP {}: {}", vinForLog,
-                    Integer.valueOf(statusCode), bodyForLog);
-            // The command likely finished but since our pushRegId is fake,
-            // the Hyundai server couldn't push the result and killed our session.
-            // We must rotate the device ID to prevent subsequent 400/403 errors.
-            try {
-                oauth.rotateDevice();
-            } catch (Exception e) {
-                logger.debug("Failed to rotate device ID after polling fallback: {}", e.getMessage());
+        if (statusCode >= 400 || records.getBody().isBlank()) {
+            if (statusCode >= 400) {
+                // The commands likely finished but since our pushRegId is fake, the Hyundai server couldn't push
+                // the result and killed our session; the caller rotates the device ID to recover.
+                logger.debug("Job polling failed via notifications for {} with HTTP {}: {}", vinForLog,
+                        Integer.valueOf(statusCode), formatBodyForLog(records.getBody()));
             }
-            // Fallback: assume success rather than failing the command and breaking the
-            // item state
-            return true;
-        }
-
-        String responseBody = Objects.requireNonNull(resp.body());
-        if (responseBody == null || responseBody.isBlank()) {
-            return true;
+            // Fallback: assume success rather than failing the commands and breaking the item states
+            for (String messageId : messageIds) {
+                results.succeeded(messageId);
+            }
+            return results;
         }
 
         try {
-            JsonObject json = Objects.requireNonNull(JsonParser.parseString(responseBody).getAsJsonObject());
-            JsonElement messagesObj = null;
-            if (json.has("resMsg") && json.get("resMsg").isJsonArray()) {
-                messagesObj = json.get("resMsg");
-            } else if (json.has("messages") && json.get("messages").isJsonArray()) {
-                messagesObj = json.get("messages");
-            } else if (json.has("records") && json.get("records").isJsonArray()) {
-                messagesObj = json.get("records");
-            }
-
-            if (messagesObj != null && messagesObj.isJsonArray()) {
-                JsonArray messages = messagesObj.getAsJsonArray();
-                for (JsonElement el : messages) {
-                    if (el.isJsonObject()) {
-                        JsonObject msg = el.getAsJsonObject();
-                        String recordId = "";
-                        if (msg.has("recordId") && !msg.get("recordId").isJsonNull()) {
-                            recordId = msg.get("recordId").getAsString();
-                        } else if (msg.has("messageId") && !msg.get("messageId").isJsonNull()) {
-                            recordId = msg.get("messageId").getAsString();
-                        }
-
-                        if (messageId.equals(recordId)) {
-                            String result = "";
-                            if (msg.has("result") && !msg.get("result").isJsonNull()) {
-                                result = msg.get("result").getAsString();
-                            } else if (msg.has("status") && !msg.get("status").isJsonNull()) {
-                                result = msg.get("status").getAsString();
-                            }
-
-                            if ("success".equalsIgnoreCase(result)) {
-                                try {
-                                    oauth.rotateDevice();
-                                } catch (Exception e) {
-                                    logger.debug("Failed to rotate device ID after command success: {}",
-                                            e.getMessage());
-                                }
-                                return true;
-                            } else if ("fail".equalsIgnoreCase(result)) {
-                                try {
-                                    oauth.rotateDevice();
-                                } catch (Exception e) {
-                                    logger.debug("Failed to rotate device ID after command failure: {}",
-                                            e.getMessage());
-                                }
-                                throw new IOException("Command failed according to notification: " + result);
-                            } else if ("non-response".equalsIgnoreCase(result)) {
-                                try {
-                                    oauth.rotateDevice();
-                                } catch (Exception e) {
-                                    logger.debug("Failed to rotate device ID after command timeout: {}",
-                                            e.getMessage());
-                                }
-                                throw new IOException("Command timed out: " + result);
-                            } else {
-                                // pending or unfamiliar state
-                                return false;
-                            }
-                        }
-                    }
+            JsonArray messages = records.getMessages();
+            if (messages == null) {
+                logger.debug("No records array found in notifications response: {}",
+                        formatBodyForLog(records.getBody()));
+                return results;
+            }
+            for (JsonElement el : messages) {
+                if (!el.isJsonObject()) {
+                    continue;
                 }
-            } else {
-                logger.debug("No records array found in notifications response: {}", formatBodyForLog(responseBody));
+                JsonObject msg = el.getAsJsonObject();
+                String recordId = "";
+                if (msg.has("recordId") && !msg.get("recordId").isJsonNull()) {
+                    recordId = msg.get("recordId").getAsString();
+                } else if (msg.has("messageId") && !msg.get("messageId").isJsonNull()) {
+                    recordId = msg.get("messageId").getAsString();
+                }
+                if (!messageIds.contains(recordId) || !results.isPending(recordId)) {
+                    continue;
+                }
+                String result = "";
+                if (msg.has("result") && !msg.get("result").isJsonNull()) {
+                    result = msg.get("result").getAsString();
+                } else if (msg.has("status") && !msg.get("status").isJsonNull()) {
+                    result = msg.get("status").getAsString();
+                }
+                if ("success".equalsIgnoreCase(result)) {
+                    results.succeeded(recordId);
+                } else if ("fail".equalsIgnoreCase(result)) {
+                    results.failed(recordId, "Command failed according to notification: " + result);
+                } else if ("non-response".equalsIgnoreCase(result)) {
+                    results.failed(recordId, "Command timed out: " + result);
+                }
+                // pending or unfamiliar states are polled again
             }
-        } catch (IOException e) {
-            throw e;
         } catch (Exception e) {
-            logger.debug("Failed to parse notifications result response for {}: {}", messageId, e.getMessage());
+            logger.debug("Failed to parse notifications result response for {}: {}", messageIds, e.getMessage());
         }
-
-        // Return false to continue polling if we couldn't find it yet.
-        return false;
+        return results;
     }
 
-    public @Nullable String fetchLatestNotification(String vehicleId) throws Exception {
-        String baseUrl = ensureSpaV1BaseUrl(Objects.requireNonNull(ep.ccapi.baseUrl));
-        if (!baseUrl.endsWith("/")) {
-            baseUrl += "/";
-        }
-        URI uri = URI.create(baseUrl + "notifications/" + vehicleId + "/records");
-
-        HttpRequest.Builder builder = Objects.requireNonNull(HttpRequest.newBuilder(uri).GET());
-        HttpResponse<String> resp = sendWithRetry(builder, AuthorizationMode.ACCESS_TOKEN);
-
-        int statusCode = resp.statusCode();
-        if (statusCode >= 400) {
-            return null;
+    /**
+     * Rotates the device ID after the vehicle answered the outstanding commands, since the server drops the session
+     * of a device it could not push the results to.
+     */
+    public void rotateDeviceAfterCommandResults() {
+        try {
+            rotateDevice();
+        } catch (Exception e) {
+            logger.debug("Failed to rotate device ID after command results: {}", e.getMessage());
         }
+    }
 
-        String responseBody = Objects.requireNonNull(resp.body());
-        if (responseBody == null || responseBody.isBlank()) {
+    public @Nullable String fetchLatestNotification(String vehicleId) throws Exception {
+        NotificationsFeed.Records records = getNotificationsFeed(vehicleId).get();
+        JsonArray messages = records.getMessages();
+        if (messages == null) {
             return null;
         }
 
         try {
-            JsonObject json = Objects.requireNonNull(JsonParser.parseString(responseBody).getAsJsonObject());
-            JsonElement messagesObj = null;
-            if (json.has("resMsg") && json.get("resMsg").isJsonArray()) {
-                messagesObj = json.get("resMsg");
-            } else if (json.has("messages") && json.get("messages").isJsonArray()) {
-                messagesObj = json.get("messages");
-            } else if (json.has("records") && json.get("records").isJsonArray()) {
-                messagesObj = json.get("records");
-            }
-
-            if (messagesObj != null && messagesObj.isJsonArray()) {
-                JsonArray messages = messagesObj.getAsJsonArray();
-                for (JsonElement el : messages) {
-                    if (el.isJsonObject()) {
-                        JsonObject msg = el.getAsJsonObject();
-                        // We want to skip the polling responses. Usually, command receipts have
-                        // "result" field or something.
-                        // For now we just return the first string we find from title/message
-                        String title = optString(msg, "title", "messageTitle");
-                        String content = optString(msg, "content", "message", "body", "messageBody", "text");
-
-                        if (title != null || content != null) {
-                            String result = "";
-                            if (title != null && !title.isBlank())
-                                result += title;
-                            if (content != null && !content.isBlank()) {
-                                if (!result.isEmpty())
-                                    result += ": ";
-                                result += content;
-                            }
+            for (JsonElement el : messages) {
+                if (el.isJsonObject()) {
+                    JsonObject msg = el.getAsJsonObject();
+                    // We want to skip the polling responses. Usually, command receipts have
+                    // "result" field or something.
+                    // For now we just return the first string we find from title/message
+                    String title = optString(msg, "title", "messageTitle");
+                    String content = optString(msg, "content", "message", "body", "messageBody", "text");
+
+                    if (title != null || content != null) {
+                        String result = "";
+                        if (title != null && !title.isBlank())
+                            result += title;
+                        if (content != null && !content.isBlank()) {
                             if (!result.isEmpty())
-                                return result;
+                                result += ": ";
+                            result += content;
                         }
+                        if (!result.isEmpty())
+                            return result;
                     }
                 }
             }
@@ -1025,26 +1109,35 @@ public class BlueLinkApi {
 
     public VehicleCommandResponse sendVehicleCommand(String vehicleId, String vin, String action,
             VehicleCommandRequest request, boolean ccs2Supported) throws Exception {
-        URI uri = Objects
-                .requireNonNull(request.buildUri(Objects.requireNonNull(ep.ccapi.baseUrl), vehicleId, ccs2Supported));
-        JsonObject payload = request.getPayload(Objects.requireNonNull(ep.ccapi.baseUrl), oauth.getDeviceId(),
-                ccs2Supported);
+        VehicleUriTable table = uris(vehicleId);
+        boolean isV1 = table.isBaseV1();
+        URI uri = request.buildUri(table, isV1, ccs2Supported);
+        JsonObject payload = request.getPayload(isV1, oauth.getDeviceId(), ccs2Supported);
         String payloadString = payload != null ? Objects.requireNonNull(payload.toString()) : "{}";
         HttpRequest.Builder builder = Objects.requireNonNull(HttpRequest.newBuilder(uri))
                 .header("Content-Type", "application/json")
                 .POST(HttpRequest.BodyPublishers.ofString(payloadString));
-        boolean isV1 = uri.toString().toLowerCase(Locale.ROOT).contains("/api/v1/spa");
         AuthorizationMode authorizationMode = request.requiresCcspToken(isV1, ccs2Supported)
                 ? AuthorizationMode.CONTROL_TOKEN_CCSP
                 : AuthorizationMode.CONTROL_TOKEN;
-        HttpResponse<String> resp = sendWithRetry(Objects.requireNonNull(builder), authorizationMode, payloadString);
+        CommandTiming timing = startStage();
+        if (timing != null) {
+            timing.setCommandType(action);
+        }
+        HttpResponse<String> resp;
+        try {
+            resp = sendWithRetry(Objects.requireNonNull(builder), authorizationMode, payloadString);
+        } finally {
+            stopStage(timing, CommandTiming.Stage.SEND);
+        }
         String vinForLog = (vin == null || vin.isBlank()) ? "UNKNOWN" : vin;
+        // the command produces a new notification record; do not serve polls from an older response
+        getNotificationsFeed(vehicleId).invalidate();
 
-        if (resp.statusCode() == 403 && uri.toString().contains("/api/v2/spa")) {
+        if (resp.statusCode() == 403 && !isV1) {
             logger.debug("{} command disallowed on SPA v2 for {} (403), retrying with SPA v1 base", action, vinForLog);
-            String v1Base = ensureSpaV1BaseUrl(Objects.requireNonNull(ep.ccapi.baseUrl));
-            URI v1Uri = Objects.requireNonNull(request.buildUri(v1Base, vehicleId, ccs2Supported));
-            JsonObject v1Payload = request.getPayload(v1Base, oauth.getDeviceId());
+            URI v1Uri = request.buildUri(table, true, ccs2Supported);
+            JsonObject v1Payload = request.getPayload(true, oauth.getDeviceId(), false);
             String v1PayloadString = v1Payload != null ? Objects.requireNonNull(v1Payload.toString()) : "{}";
             HttpRequest.Builder v1Builder = Objects.requireNonNull(HttpRequest.newBuilder(v1Uri))
                     .header("Content-Type", "application/json")
@@ -1052,7 +1145,12 @@ public class BlueLinkApi {
             AuthorizationMode v1AuthMode = request.requiresCcspToken(true, ccs2Supported)
                     ? AuthorizationMode.CONTROL_TOKEN_CCSP
                     : AuthorizationMode.CONTROL_TOKEN;
-            resp = sendWithRetry(Objects.requireNonNull(v1Builder), v1AuthMode, v1PayloadString);
+            timing = startStage();
+            try {
+                resp = sendWithRetry(Objects.requireNonNull(v1Builder), v1AuthMode, v1PayloadString);
+            } finally {
+                stopStage(timing, CommandTiming.Stage.SPA_V1_RETRY);
+            }
         }
 
         if (resp.statusCode() / 100 != 2) {
@@ -1276,8 +1374,8 @@ public class BlueLinkApi {
         // Let's use the provided logic but wrap the V2 attempt in a check.
 
         boolean tryV2 = true;
-        URI v2Uri = buildSpaVehicleUri(Objects.requireNonNull(ep.ccapi.baseUrl), vehicleId, "control/reservation/hvac",
-                true, ccs2Supported);
+        VehicleUriTable table = uris(vehicleId);
+        URI v2Uri = table.spa(VehicleUriTable.RESERVATION_HVAC, true, ccs2Supported);
 
         try {
             HttpRequest.Builder builder;
@@ -1297,9 +1395,7 @@ public class BlueLinkApi {
             }
 
             if (resp == null) {
-                String v1Base = ensureSpaV1BaseUrl(Objects.requireNonNull(ep.ccapi.baseUrl));
-                URI v1Uri = Objects
-                        .requireNonNull(buildSpaVehicleUri(v1Base, vehicleId, "control/reservation/hvac", false));
+                URI v1Uri = table.spa(VehicleUriTable.RESERVATION_HVAC, false, false);
                 builder = Objects.requireNonNull(HttpRequest.newBuilder(v1Uri).GET());
                 resp = controlTokenSupported ? sendWithRetry(builder, AuthorizationMode.CONTROL_TOKEN)
                         : sendWithRetry(builder);
@@ -1357,8 +1453,8 @@ public class BlueLinkApi {
 
         // This is a 'scheduled' command, likely POST
         // We will try the 'control' style endpoint first
-        URI uri = Objects.requireNonNull(buildSpaVehicleUri(Objects.requireNonNull(ep.ccapi.baseUrl), vehicleId,
-                "control/reservation/hvac", true, ccs2Supported));
+        VehicleUriTable table = uris(vehicleId);
+        URI uri = table.spa(VehicleUriTable.RESERVATION_HVAC, true, ccs2Supported);
 
         // We reuse the generic command sending logic but manually since it's not a
         // standard 'control' segment action
@@ -1430,10 +1526,7 @@ public class BlueLinkApi {
         if (resp.statusCode() == 403 && uri.toString().contains("/api/v2/spa")) {
             String vinForLog = (vin == null || vin.isBlank()) ? "UNKNOWN" : vin;
             logger.debug("Set reservation disallowed on SPA v2 for {} (403), retrying with SPA v1 base", vinForLog);
-            String v1Base = ensureSpaV1BaseUrl(Objects.requireNonNull(ep.ccapi.baseUrl));
-            URI v1Uri = Objects
-                    .requireNonNull(buildSpaVehicleUri(v1Base, vehicleId, "control/reservation/hvac", false,
-                            ccs2Supported));
+            URI v1Uri = table.spa(VehicleUriTable.RESERVATION_HVAC, false, ccs2Supported);
             builder = Objects.requireNonNull(HttpRequest.newBuilder(v1Uri)
                     .header("Content-Type", "application/json")
                     .POST(HttpRequest.BodyPublishers.ofString(payload.toString())));
@@ -1527,8 +1620,8 @@ public class BlueLinkApi {
 
         // Try /location (V2 then V1 if needed)
         try {
-            JsonObject locationJson = fetchSpaVehicleData(vehicleId, vinForLog, "location/latest", "location", true,
-                    ccs2Supported).getBodyAsJson();
+            JsonObject locationJson = fetchSpaVehicleData(vehicleId, vinForLog, VehicleUriTable.LOCATION_LATEST,
+                    "location", true, ccs2Supported).getBodyAsJson();
             VehicleLocation loc = parseVehicleLocation(locationJson);
             if (loc != null && isValidVehicleLocation(loc)) {
                 logger.debug("Location retrieved for {} via /location: {}, {}", vinForLog, loc.latitude, loc.longitude);
@@ -1540,8 +1633,8 @@ public class BlueLinkApi {
 
         // Try /ccs2/location (V2 then V1 if needed)
         try {
-            JsonObject locationJson = fetchSpaVehicleData(vehicleId, vinForLog, "ccs2/location/latest", "ccs2 location",
-                    true, ccs2Supported).getBodyAsJson();
+            JsonObject locationJson = fetchSpaVehicleData(vehicleId, vinForLog, VehicleUriTable.CCS2_LOCATION_LATEST,
+                    "ccs2 location", true, ccs2Supported).getBodyAsJson();
             VehicleLocation loc = parseVehicleLocation(locationJson);
             if (loc != null && isValidVehicleLocation(loc)) {
                 logger.debug("Location retrieved for {} via /ccs2/location: {}, {}", vinForLog, loc.latitude,
@@ -1554,8 +1647,8 @@ public class BlueLinkApi {
 
         // Try /ccs2/carstatus/latest (for some regions/models)
         try {
-            JsonObject statusJson = fetchSpaVehicleData(vehicleId, vinForLog, "ccs2/carstatus/latest", "ccs2 carstatus",
-                    true, ccs2Supported).getBodyAsJson();
+            JsonObject statusJson = fetchSpaVehicleData(vehicleId, vinForLog, VehicleUriTable.CCS2_CARSTATUS_LATEST,
+                    "ccs2 carstatus", true, ccs2Supported).getBodyAsJson();
             VehicleLocation loc = parseVehicleLocation(statusJson);
             if (loc != null && isValidVehicleLocation(loc)) {
                 logger.debug("Location retrieved for {} via /ccs2/carstatus: {}, {}", vinForLog, loc.latitude,
@@ -1662,27 +1755,21 @@ public class BlueLinkApi {
     public JsonResponse getVehicleStatusLatestRaw(String vehicleId, String vinHint, boolean useSpaV2,
             boolean ccs2Supported) throws Exception {
         String vinForLog = (vinHint == null || vinHint.isBlank()) ? "UNKNOWN" : vinHint;
-        String baseUrl = ep.ccapi.baseUrl.trim();
-        if (baseUrl.endsWith("/")) {
-            baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
-        }
+        VehicleUriTable table = uris(vehicleId);
+        URI uri = table.spa(VehicleUriTable.STATUS_LATEST, useSpaV2, ccs2Supported);
 
-        String url = useSpaV2 ? buildSpaVehicleUri(baseUrl, vehicleId, "status/latest", true, ccs2Supported).toString()
-                : buildSpaVehicleUri(baseUrl, vehicleId, "status/latest", false, ccs2Supported).toString();
-
-        HttpRequest.Builder builder = Objects.requireNonNull(HttpRequest.newBuilder(URI.create(url))).GET();
+        HttpRequest.Builder builder = Objects.requireNonNull(HttpRequest.newBuilder(uri)).GET();
         HttpResponse<String> resp = sendWithRetry(builder);
 
         if (useSpaV2 && (resp.statusCode() == 403 || resp.statusCode() == 404)) {
             logger.debug(
                     "Vehicle status latest request disallowed or missing for {} ({}) on SPA v2, retrying with SPA v1",
                     vinForLog, Integer.valueOf(resp.statusCode()));
-            String v1Url = ensureSpaV1BaseUrl(ep.ccapi.baseUrl) + "/vehicles/" + vehicleId + "/status/latest";
-            resp = sendWithRetry(HttpRequest.newBuilder(URI.create(v1Url)).GET());
+            resp = sendWithRetry(HttpRequest.newBuilder(table.spa(VehicleUriTable.STATUS_LATEST, false, false)).GET());
         }
 
         if (resp.statusCode() == 200) {
-            return new JsonResponse(200, resp.body(), formatBodyForLog(resp.body()));
+            return newJsonResponse(200, resp.body());
         }
 
         logger.warn("Vehicle status latest request failed for {}: {} {}", vinForLog, resp.statusCode(), resp.body());
@@ -1699,8 +1786,7 @@ public class BlueLinkApi {
         if (json == null) {
             return new JsonResponse(404, "{}", "{}");
         }
-        String body = json.toString();
-        return new JsonResponse(200, Objects.requireNonNull(body), formatBodyForLog(body));
+        return new JsonResponse(200, Objects.requireNonNull(json.toString()), json, this::formatResponseBodyForLog);
     }
 
     public JsonResponse getVehicleMonthlyReport(String vehicleId, String vin, boolean ccs2Supported)
@@ -1715,36 +1801,60 @@ public class BlueLinkApi {
 
     protected JsonResponse getVehicleMonthlyReportListImpl(String vehicleId, String vinHint, boolean ccs2Supported)
             throws Exception {
-        return fetchSpaVehicleData(vehicleId, vinHint, "monthlyreportlist/latest", "monthly report list", true,
-                ccs2Supported);
+        return fetchSpaVehicleData(vehicleId, vinHint, VehicleUriTable.MONTHLY_REPORT_LIST_LATEST,
+                "monthly report list", true, ccs2Supported);
+    }
+
+    /**
+     * Returns the latest monthly report of the vehicle, or {@code null} if the endpoint is unavailable or the response
+     * names no month.
+     */
+    public @Nullable MonthlyReport getLatestMonthlyReport(String vehicleId, String vin, boolean ccs2Supported)
+            throws Exception {
+        JsonResponse response = getVehicleMonthlyReport(vehicleId, vin, ccs2Supported);
+        return response.isSuccessful() ? MonthlyReport.fromJson(response.getBodyAsJsonElement()) : null;
     }
 
+    /**
+     * Walks the monthly report routes until one is not answered with 404 and remembers it per vehicle, so later
+     * reports cost a single request until the route disappears.
+     */
     protected JsonResponse getVehicleMonthlyReportImpl(String vehicleId, String vinHint, boolean ccs2Supported)
             throws Exception {
         String vinForLog = (vinHint == null || vinHint.isBlank()) ? "UNKNOWN" : vinHint;
-        JsonResponse response = fetchSpaVehicleData(vehicleId, vinForLog, "monthlyreport/v2", "monthly report", true,
-                ccs2Supported);
-        if (response.getStatusCode() != 404) {
-            return response;
-        }
-
-        logger.debug("Monthly report SPA v2 endpoint unavailable for {}, retrying with SPA v1 base", vinForLog);
-
-        response = fetchSpaVehicleData(vehicleId, vinForLog, "monthlyreport/v2", "monthly report", false,
-                ccs2Supported);
-        if (response.getStatusCode() != 404) {
-            return response;
+        Integer known = monthlyReportRoutes.get(vehicleId);
+        if (known != null) {
+            int route = known.intValue();
+            JsonResponse response = fetchSpaVehicleData(vehicleId, vinForLog, MONTHLY_REPORT_SUFFIXES[route],
+                    "monthly report", MONTHLY_REPORT_SPA_V2[route], ccs2Supported);
+            if (response.getStatusCode() != 404) {
+                return response;
+            }
+            logger.debug("Known monthly report endpoint disappeared for {}, probing again", vinForLog);
+            monthlyReportRoutes.remove(vehicleId);
+        }
+
+        JsonResponse response = null;
+        for (int route = 0; route < MONTHLY_REPORT_SUFFIXES.length; route++) {
+            response = fetchSpaVehicleData(vehicleId, vinForLog, MONTHLY_REPORT_SUFFIXES[route], "monthly report",
+                    MONTHLY_REPORT_SPA_V2[route], ccs2Supported);
+            if (response.getStatusCode() != 404) {
+                if (response.isSuccessful()) {
+                    monthlyReportRoutes.put(vehicleId, Integer.valueOf(route));
+                }
+                return response;
+            }
+            logger.debug("Monthly report endpoint {} (SPA {}) unavailable for {}", MONTHLY_REPORT_SUFFIXES[route],
+                    MONTHLY_REPORT_SPA_V2[route] ? "v2" : "v1", vinForLog);
         }
-
-        logger.debug("Monthly report SPA v1 /v2 endpoint unavailable for {}, retrying without /v2 suffix", vinForLog);
-        return fetchSpaVehicleData(vehicleId, vinForLog, "monthlyreport", "monthly report", false, ccs2Supported);
+        return Objects.requireNonNull(response);
     }
 
     private JsonResponse fetchSpaVehicleData(String vehicleId, String vinHint, String suffix,
             String description,
             boolean useSpaV2, boolean ccs2Supported) throws Exception {
-        URI uri = buildSpaVehicleUri(Objects.requireNonNull(ep.ccapi.baseUrl), vehicleId, suffix, useSpaV2,
-                ccs2Supported);
+        VehicleUriTable table = uris(vehicleId);
+        URI uri = table.spa(suffix, useSpaV2, ccs2Supported);
         Supplier<HttpRequest.Builder> builderSupplier = () -> Objects.requireNonNull(HttpRequest.newBuilder(uri).GET());
         HeaderInclusion headerInclusion = (suffix != null && suffix.startsWith("ccs2/")) || ccs2Supported
                 ? HeaderInclusion.NO_PIN
@@ -1759,8 +1869,7 @@ public class BlueLinkApi {
         if (useSpaV2 && (statusCode == 404 || statusCode == 403)) {
             logger.debug("{} SPA v2 request disallowed for {} ({} {}), retrying with SPA v1", description, vinForLog,
                     Integer.valueOf(statusCode), formatBodyForLog(resp.body()));
-            URI v1Uri = buildSpaVehicleUri(Objects.requireNonNull(ep.ccapi.baseUrl), vehicleId, suffix, false,
-                    ccs2Supported);
+            URI v1Uri = table.spa(suffix, false, ccs2Supported);
             resp = controlTokenSupported
                     ? sendWithRetry(Objects.requireNonNull(HttpRequest.newBuilder(v1Uri).GET()),
                             AuthorizationMode.CONTROL_TOKEN, headerInclusion)
@@ -1768,28 +1877,29 @@ public class BlueLinkApi {
             statusCode = resp.statusCode();
         }
 
-        String bodyForLog = formatBodyForLog(resp.body());
         if (controlTokenSupported && (statusCode == 401 || statusCode == 403)) {
             logger.debug("{} control-token request disallowed for {} ({} {}), retrying with access token", description,
-                    vinForLog, Integer.valueOf(statusCode), bodyForLog);
+                    vinForLog, Integer.valueOf(statusCode), formatBodyForLog(resp.body()));
             resp = sendWithRetry(Objects.requireNonNull(builderSupplier.get()), AuthorizationMode.ACCESS_TOKEN);
             statusCode = resp.statusCode();
-            bodyForLog = formatBodyForLog(resp.body());
         }
 
-        String body = Objects.requireNonNull(resp.body());
-        bodyForLog = formatBodyForLog(body);
+        JsonResponse response = newJsonResponse(statusCode, Objects.requireNonNull(resp.body()));
         int statusClass = statusCode / 100;
         if (statusClass == 2) {
-            logger.debug("{} response for {}: {}", description, vinForLog, bodyForLog);
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} response for {}: {}", description, vinForLog, response.getBodyForLog());
+            }
         } else if (statusClass == 4) {
-            logger.debug("{} unavailable for {}: status {} {}", description, vinForLog, Integer.valueOf(statusCode),
-                    bodyForLog);
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} unavailable for {}: status {} {}", description, vinForLog,
+                        Integer.valueOf(statusCode), response.getBodyForLog());
+            }
         } else {
             logger.warn("{} request failed for {}: {} {}", description, vinForLog, Integer.valueOf(statusCode),
-                    bodyForLog);
+                    response.getBodyForLog());
         }
-        return new JsonResponse(statusCode, body, bodyForLog);
+        return response;
     }
 
     private boolean shouldRetrySpaVehicleData(int statusCode) {
@@ -2633,18 +2743,18 @@ public class BlueLinkApi {
         return null;
     }
 
-    private void parseLocation(VehicleStatus s, JsonObject json, JsonObject rootJson) {
+    private void parseLocation(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson) {
         VehicleLocation location = parseVehicleLocation(json);
         if (!isValidVehicleLocation(location) && json != rootJson) {
             location = parseVehicleLocation(rootJson);
         }
         if (location != null && isValidVehicleLocation(location)) {
-            s.latitude = Double.valueOf(location.latitude);
-            s.longitude = Double.valueOf(location.longitude);
+            s.setDouble(Field.LATITUDE, location.latitude);
+            s.setDouble(Field.LONGITUDE, location.longitude);
         }
     }
 
-    private void parseFuelLevel(VehicleStatus s, JsonObject json, JsonObject rootJson, @Nullable JsonObject evStatus) {
+    private void parseFuelLevel(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson, @Nullable JsonObject evStatus) {
         Double val = optDouble(json, "fuelLevel");
         if (val == null) {
             val = optDouble(json, "fuelLevelPercent");
@@ -2662,11 +2772,11 @@ public class BlueLinkApi {
             }
         }
         if (val != null) {
-            s.fuelLevel = val;
+            s.setDouble(Field.FUEL_LEVEL, val);
         }
     }
 
-    private void parseOdometer(VehicleStatus s, JsonObject json, JsonObject rootJson, @Nullable JsonObject evStatus) {
+    private void parseOdometer(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson, @Nullable JsonObject evStatus) {
         DistanceMeasurement distance = null;
 
         Double val = optDouble(json, "odometerKm");
@@ -2718,12 +2828,12 @@ public class BlueLinkApi {
             }
         }
         if (distance != null) {
-            s.odometer = distance.value;
-            s.odometerUnit = distance.unit;
+            s.setDouble(Field.ODOMETER, distance.value);
+            s.setDistanceUnit(Field.ODOMETER, distance.unit);
         }
     }
 
-    private void parseBatteryLevel(VehicleStatus s, JsonObject json, JsonObject rootJson,
+    private void parseBatteryLevel(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson,
             @Nullable JsonObject evStatus) {
         JsonObject batteryObj = firstObject(json, "battery");
         if (batteryObj == null && json != rootJson) {
@@ -2735,14 +2845,14 @@ public class BlueLinkApi {
             val = optDouble(rootJson, "batteryLevel");
         }
         if (val != null) {
-            s.batteryLevel = val;
+            s.setDouble(Field.BATTERY_LEVEL, val);
         } else if (evStatus != null) {
             Double evBattery = optDouble(evStatus, "batteryStatus");
             if (evBattery == null) {
                 evBattery = optDouble(evStatus, "soc");
             }
             if (evBattery != null) {
-                s.batteryLevel = evBattery;
+                s.setDouble(Field.BATTERY_LEVEL, evBattery);
             }
         }
 
@@ -2752,12 +2862,12 @@ public class BlueLinkApi {
                 aux = optDouble(batteryObj, "auxBatteryLevel");
             }
             if (aux != null) {
-                s.auxiliaryBatteryLevel = aux;
+                s.setDouble(Field.AUXILIARY_BATTERY_LEVEL, aux);
             }
         }
     }
 
-    private void parseRange(VehicleStatus s, JsonObject json, JsonObject rootJson, @Nullable JsonObject evStatus) {
+    private void parseRange(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson, @Nullable JsonObject evStatus) {
         DistanceMeasurement distance = null;
         Double val = optDouble(json, "rangeKm");
         if (val == null && json != rootJson) {
@@ -2769,8 +2879,8 @@ public class BlueLinkApi {
             distance = extractRangeFromEvStatus(evStatus);
         }
         if (distance != null) {
-            s.range = distance.value;
-            s.rangeUnit = distance.unit;
+            s.setDouble(Field.RANGE, distance.value);
+            s.setDistanceUnit(Field.RANGE, distance.unit);
         }
 
         DistanceMeasurement evRange = firstDistance(json, "evModeRange", "evRange", "electricRange", "remainingEvRange",
@@ -2792,8 +2902,8 @@ public class BlueLinkApi {
             }
         }
         if (evRange != null) {
-            s.evModeRange = evRange.value;
-            s.evModeRangeUnit = evRange.unit;
+            s.setDouble(Field.EV_MODE_RANGE, evRange.value);
+            s.setDistanceUnit(Field.EV_MODE_RANGE, evRange.unit);
         }
 
         DistanceMeasurement gasRange = firstDistance(json, "gasModeRange", "fuelRange", "fuelRangeKm", "engineRange");
@@ -2812,12 +2922,12 @@ public class BlueLinkApi {
             }
         }
         if (gasRange != null) {
-            s.gasModeRange = gasRange.value;
-            s.gasModeRangeUnit = gasRange.unit;
+            s.setDouble(Field.GAS_MODE_RANGE, gasRange.value);
+            s.setDistanceUnit(Field.GAS_MODE_RANGE, gasRange.unit);
         }
     }
 
-    private void parseRemainTime(VehicleStatus s, JsonObject json, JsonObject rootJson, @Nullable JsonObject evStatus) {
+    private void parseRemainTime(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson, @Nullable JsonObject evStatus) {
         Integer remainTime = firstInteger(json, "remainTime", "remainingChargeTime", "remainChargeTime",
                 "remainingTime");
         if (remainTime == null && json != rootJson) {
@@ -2882,11 +2992,11 @@ public class BlueLinkApi {
             }
         }
         if (remainTime != null) {
-            s.remainingChargeTimeMinutes = remainTime;
+            s.setInt(Field.REMAINING_CHARGE_TIME_MINUTES, remainTime);
         }
     }
 
-    private void parseConnectorStatus(VehicleStatus s, JsonObject json, JsonObject rootJson,
+    private void parseConnectorStatus(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson,
             @Nullable JsonObject evStatus) {
         Boolean connectorFastened = firstBoolean(json, "connectorFastened", "connectorAttached");
         if (connectorFastened == null && json != rootJson) {
@@ -2933,14 +3043,14 @@ public class BlueLinkApi {
             }
         }
         if (connectorFastened != null) {
-            s.connectorFastened = connectorFastened;
+            s.setBoolean(Field.CONNECTOR_FASTENED, connectorFastened);
         }
     }
 
-    private void parseDoorWindowStatus(VehicleStatus s, JsonObject json, JsonObject rootJson) {
+    private void parseDoorWindowStatus(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson) {
         JsonObject doorObj = collectDoorStatus(json, rootJson);
         if (doorObj != null) {
-            s.doorStatusSummary = summarisePositions(doorObj);
+            s.setDoorStatusSummary(summarisePositions(doorObj));
         }
 
         JsonObject windowObj = firstObject(json, "windowStatus", "windows");
@@ -2948,21 +3058,21 @@ public class BlueLinkApi {
             windowObj = firstObject(rootJson, "windowStatus", "windows");
         }
         if (windowObj != null) {
-            s.windowStatusSummary = summarisePositions(windowObj);
+            s.setWindowStatusSummary(summarisePositions(windowObj));
         }
     }
 
-    private void parseAccStatus(VehicleStatus s, JsonObject json, JsonObject rootJson) {
+    private void parseAccStatus(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson) {
         Boolean accMode = firstBoolean(json, "acc");
         if (accMode == null && json != rootJson) {
             accMode = firstBoolean(rootJson, "acc");
         }
         if (accMode != null) {
-            s.acc = accMode;
+            s.setBoolean(Field.ACC, accMode);
         }
     }
 
-    private void parseWarnings(VehicleStatus s, JsonObject json, JsonObject rootJson, @Nullable JsonObject evStatus) {
+    private void parseWarnings(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson, @Nullable JsonObject evStatus) {
         StringBuilder warningsBuilder = new StringBuilder();
         String[] wKeys = { "tailLampStatus", "hazardStatus", "systemCutOffAlert", "sleepModeCheck", "ign3",
                 "transCond" };
@@ -2985,9 +3095,9 @@ public class BlueLinkApi {
             }
         }
         if (warningsBuilder.length() > 0) {
-            s.minorWarnings = warningsBuilder.toString();
+            s.setMinorWarnings(warningsBuilder.toString());
         } else {
-            s.minorWarnings = "OK";
+            s.setMinorWarnings("OK");
         }
 
         Boolean batteryWarn = firstBoolean(json, "batteryWarning", "batteryWarningLamp", "lowBatteryWarning");
@@ -2995,7 +3105,7 @@ public class BlueLinkApi {
             batteryWarn = firstBoolean(rootJson, "batteryWarning", "batteryWarningLamp", "lowBatteryWarning");
         }
         if (batteryWarn != null) {
-            s.batteryWarning = batteryWarn;
+            s.setBoolean(Field.BATTERY_WARNING, batteryWarn);
         }
 
         Boolean lowFuel = firstBoolean(json, "lowFuelLight", "lowFuelWarning", "lowFuelIndicator");
@@ -3006,11 +3116,11 @@ public class BlueLinkApi {
             lowFuel = firstBoolean(evStatus, "lowFuelLight", "lowFuelWarning", "lowFuelIndicator");
         }
         if (lowFuel != null) {
-            s.lowFuelLight = lowFuel;
+            s.setBoolean(Field.LOW_FUEL_LIGHT, lowFuel);
         }
     }
 
-    private void parseLastUpdated(VehicleStatus s, JsonObject json, JsonObject rootJson,
+    private void parseLastUpdated(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson,
             @Nullable JsonObject evStatus) {
         Instant parsed = null;
         if (json.has("lastUpdated")) {
@@ -3029,13 +3139,13 @@ public class BlueLinkApi {
             parsed = extractLastUpdatedFallback(evStatus);
         }
         if (parsed != null) {
-            s.lastUpdated = parsed;
+            s.setLastUpdated(parsed);
         } else {
-            s.lastUpdated = Instant.now();
+            s.setLastUpdated(Instant.now());
         }
     }
 
-    private void parseStatusBooleans(VehicleStatus s, JsonObject json, JsonObject rootJson,
+    private void parseStatusBooleans(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson,
             @Nullable JsonObject evStatus) {
         Boolean doorsLocked = firstBoolean(json, "doorsLocked", "doorLock", "doorLockStatus", "doorLockState");
         if (doorsLocked == null && json != rootJson) {
@@ -3045,7 +3155,7 @@ public class BlueLinkApi {
             doorsLocked = firstBoolean(evStatus, "doorsLocked", "doorLock", "doorLockStatus", "doorLockState");
         }
         if (doorsLocked != null) {
-            s.doorsLocked = doorsLocked;
+            s.setBoolean(Field.DOORS_LOCKED, doorsLocked);
         }
 
         Boolean charging = firstBoolean(json, "charging", "isCharging", "charge", "chargeStatus", "batteryCharge",
@@ -3059,7 +3169,7 @@ public class BlueLinkApi {
                     "evChargeStatus", "chargerStatus", "chargingState");
         }
         if (charging != null) {
-            s.charging = charging;
+            s.setBoolean(Field.CHARGING, charging);
         }
 
         Boolean climateOn = firstBoolean(json, "airCtrlOn", "climateOn", "airCondition", "climateStatus");
@@ -3067,7 +3177,7 @@ public class BlueLinkApi {
             climateOn = firstBoolean(rootJson, "airCtrlOn", "climateOn", "airCondition", "climateStatus");
         }
         if (climateOn != null) {
-            s.climateOn = climateOn;
+            s.setBoolean(Field.CLIMATE_ON, climateOn);
         }
 
         Boolean engineOn = firstBoolean(json, "engine", "engineOn", "isEngineOn");
@@ -3075,7 +3185,7 @@ public class BlueLinkApi {
             engineOn = firstBoolean(rootJson, "engine", "engineOn", "isEngineOn");
         }
         if (engineOn != null) {
-            s.engineOn = engineOn;
+            s.setBoolean(Field.ENGINE_ON, engineOn);
         }
 
         Boolean trunkOpen = firstBoolean(json, "trunkOpen", "trunkStatus");
@@ -3083,7 +3193,7 @@ public class BlueLinkApi {
             trunkOpen = firstBoolean(rootJson, "trunkOpen", "trunkStatus");
         }
         if (trunkOpen != null) {
-            s.trunkOpen = trunkOpen;
+            s.setBoolean(Field.TRUNK_OPEN, trunkOpen);
         }
 
         Boolean hoodOpen = firstBoolean(json, "hoodOpen", "hoodStatus");
@@ -3091,11 +3201,11 @@ public class BlueLinkApi {
             hoodOpen = firstBoolean(rootJson, "hoodOpen", "hoodStatus");
         }
         if (hoodOpen != null) {
-            s.hoodOpen = hoodOpen;
+            s.setBoolean(Field.HOOD_OPEN, hoodOpen);
         }
     }
 
-    private void parseChargingState(VehicleStatus s, JsonObject json, JsonObject rootJson,
+    private void parseChargingState(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson,
             @Nullable JsonObject evStatus) {
         Integer chargingState = firstInteger(json, "chargingState", "chargingStatus");
         if (chargingState == null && json != rootJson) {
@@ -3120,16 +3230,16 @@ public class BlueLinkApi {
                 chargingState = firstInteger(chargingObj, "state", "status", "value");
             }
         }
-        if (chargingState == null && s.charging != null) {
-            chargingState = s.charging ? 1 : 0;
+        if (chargingState == null && s.has(Field.CHARGING)) {
+            chargingState = s.getBoolean(Field.CHARGING) ? 1 : 0;
         }
 
         if (chargingState != null) {
-            s.chargingState = chargingState;
+            s.setInt(Field.CHARGING_STATE, chargingState);
         }
     }
 
-    private void parseChargeLimits(VehicleStatus s, JsonObject json, JsonObject rootJson,
+    private void parseChargeLimits(VehicleStatusSnapshot.Builder s, JsonObject json, JsonObject rootJson,
             @Nullable JsonObject evStatus) {
         if (evStatus == null) {
             return;
@@ -3148,9 +3258,9 @@ public class BlueLinkApi {
                     if (levelVal != null && levelVal > 0) {
                         double level = levelVal.doubleValue();
                         if (plugType == 1) {
-                            s.chargeLimitAC = level;
+                            s.setDouble(Field.CHARGE_LIMIT_AC, level);
                         } else if (plugType == 2) {
-                            s.chargeLimitDC = level;
+                            s.setDouble(Field.CHARGE_LIMIT_DC, level);
                         }
                     }
                 }
@@ -3160,11 +3270,11 @@ public class BlueLinkApi {
             JsonObject obj = targetSOC.getAsJsonObject();
             Double ac = optDouble(obj, "ac");
             if (ac != null) {
-                s.chargeLimitAC = ac;
+                s.setDouble(Field.CHARGE_LIMIT_AC, ac);
             }
             Double dc = optDouble(obj, "dc");
             if (dc != null) {
-                s.chargeLimitDC = dc;
+                s.setDouble(Field.CHARGE_LIMIT_DC, dc);
             }
         }
     }
@@ -3,7 +3,7 @@ package org.openhab.binding.hyundaibluelink.internal.api;
 import java.util.Objects;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.hyundaibluelink.internal.model.VehicleLocation;
-import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatus;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
 
 /**
  * Handler for vehicle status and location retrieval.
@@ -16,7 +16,8 @@ public class BlueLinkStatusHandler {
         this.api = Objects.requireNonNull(api);
     }
 
-    public VehicleStatus getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported) throws Exception {
+    public VehicleStatusSnapshot getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported)
+            throws Exception {
         return api.getVehicleStatusImpl(vehicleId, vinHint, ccs2Supported);
     }
 
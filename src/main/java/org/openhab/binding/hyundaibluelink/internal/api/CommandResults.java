@@ -0,0 +1,49 @@
+package org.openhab.binding.hyundaibluelink.internal.api;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The verdicts one notifications response gives for a set of command message IDs. IDs without a verdict are still
+ * pending.
+ */
+@NonNullByDefault
+public class CommandResults {
+    private final Set<String> succeeded = new HashSet<>();
+    private final Map<String, String> failures = new HashMap<>();
+
+    public void succeeded(String messageId) {
+        succeeded.add(messageId);
+    }
+
+    public void failed(String messageId, String reason) {
+        failures.put(messageId, reason);
+    }
+
+    public boolean isSucceeded(String messageId) {
+        return succeeded.contains(messageId);
+    }
+
+    /**
+     * Returns why the command failed, or {@code null} if it succeeded or is still pending.
+     */
+    public @Nullable String getFailure(String messageId) {
+        return failures.get(messageId);
+    }
+
+    public boolean isPending(String messageId) {
+        return !succeeded.contains(messageId) && !failures.containsKey(messageId);
+    }
+
+    /**
+     * Returns whether any command received a verdict from the vehicle.
+     */
+    public boolean hasVerdicts() {
+        return !succeeded.isEmpty() || !failures.isEmpty();
+    }
+}
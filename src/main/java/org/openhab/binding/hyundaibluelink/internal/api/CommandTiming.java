@@ -0,0 +1,87 @@
+package org.openhab.binding.hyundaibluelink.internal.api;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Stage durations of one vehicle command, from the control token exchange to the follow-up refresh.
+ * <p>
+ * Stages are measured with {@link #start()} and {@link #stop(Stage)} and may nest: a stage started while another one
+ * is running is subtracted from the outer stage, so every millisecond is counted once. A timing is filled by one
+ * thread at a time.
+ */
+@NonNullByDefault
+public class CommandTiming {
+
+    public enum Stage {
+        CONTROL_TOKEN("controlToken"),
+        SEND("send"),
+        SPA_V1_RETRY("spaV1Retry"),
+        FIRST_POLL_WAIT("firstPollWait"),
+        POLL("poll"),
+        DEVICE_ROTATION("deviceRotation"),
+        REFRESH("refresh");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final long[] stageNanos = new long[STAGES.length];
+    private final Deque<long[]> openStages = new ArrayDeque<>();
+    private @Nullable String commandType;
+    private int pollCount;
+
+    public synchronized void start() {
+        // [start time, time spent in nested stages]
+        openStages.push(new long[] { System.nanoTime(), 0 });
+    }
+
+    public synchronized void stop(Stage stage) {
+        long[] frame = openStages.poll();
+        if (frame == null) {
+            return;
+        }
+        long total = System.nanoTime() - frame[0];
+        add(stage, total - frame[1]);
+        long[] outer = openStages.peek();
+        if (outer != null) {
+            outer[1] += total;
+        }
+    }
+
+    public synchronized void add(Stage stage, long nanos) {
+        stageNanos[stage.ordinal()] += Math.max(0, nanos);
+        if (stage == Stage.POLL) {
+            pollCount++;
+        }
+    }
+
+    public synchronized long getMillis(Stage stage) {
+        return TimeUnit.NANOSECONDS.toMillis(stageNanos[stage.ordinal()]);
+    }
+
+    public synchronized int getPollCount() {
+        return pollCount;
+    }
+
+    public synchronized @Nullable String getCommandType() {
+        return commandType;
+    }
+
+    public synchronized void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+}
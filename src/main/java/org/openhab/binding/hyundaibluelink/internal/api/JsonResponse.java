@@ -1,33 +1,71 @@
 package org.openhab.binding.hyundaibluelink.internal.api;
 
-import java.util.Objects;
+import java.util.function.Function;
 
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
 /**
  * Represents a JSON response from the BlueLink API.
+ * <p>
+ * The body is parsed lazily and at most once; every caller shares the same tree, which must therefore be treated as
+ * read-only. The log representation is derived on first use as well.
  */
 public class JsonResponse {
     private final int statusCode;
     private final String body;
-    private final String bodyForLog;
+    private final Function<JsonResponse, String> bodyForLogFormatter;
+
+    private boolean parsed;
+    private @Nullable JsonElement tree;
+    private @Nullable String bodyForLog;
 
     public JsonResponse(int statusCode, String body, String bodyForLog) {
+        this(statusCode, body, response -> bodyForLog);
+    }
+
+    public JsonResponse(int statusCode, String body, Function<JsonResponse, String> bodyForLogFormatter) {
         this.statusCode = statusCode;
         this.body = body;
-        this.bodyForLog = bodyForLog;
+        this.bodyForLogFormatter = bodyForLogFormatter;
     }
 
-    public JsonObject getBodyAsJson() {
-        String b = body;
-        if (b != null && !b.isEmpty()) {
-            try {
-                return Objects.requireNonNull(JsonParser.parseString(b).getAsJsonObject());
-            } catch (Exception e) {
-                // ignore
+    /**
+     * Creates a response around a tree that has already been parsed, so it is not parsed a second time.
+     */
+    public JsonResponse(int statusCode, String body, JsonElement tree,
+            Function<JsonResponse, String> bodyForLogFormatter) {
+        this(statusCode, body, bodyForLogFormatter);
+        this.tree = tree;
+        this.parsed = true;
+    }
+
+    /**
+     * Returns the parsed body, or {@code null} if the body is empty or not valid JSON.
+     */
+    public synchronized @Nullable JsonElement getBodyAsJsonElement() {
+        if (!parsed) {
+            parsed = true;
+            String b = body;
+            if (b != null && !b.isEmpty()) {
+                try {
+                    tree = JsonParser.parseString(b);
+                } catch (Exception e) {
+                    // ignore
+                }
             }
         }
+        return tree;
+    }
+
+    public JsonObject getBodyAsJson() {
+        JsonElement element = getBodyAsJsonElement();
+        if (element != null && element.isJsonObject()) {
+            return element.getAsJsonObject();
+        }
         return new JsonObject();
     }
 
@@ -39,8 +77,13 @@ public class JsonResponse {
         return statusCode;
     }
 
-    public String getBodyForLog() {
-        return bodyForLog;
+    public synchronized String getBodyForLog() {
+        String formatted = bodyForLog;
+        if (formatted == null) {
+            formatted = bodyForLogFormatter.apply(this);
+            bodyForLog = formatted;
+        }
+        return formatted;
     }
 
     public boolean isSuccessful() {
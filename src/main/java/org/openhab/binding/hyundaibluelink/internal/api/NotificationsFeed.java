@@ -0,0 +1,147 @@
+package org.openhab.binding.hyundaibluelink.internal.api;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Per-vehicle view of the {@code notifications/{vehicleId}/records} endpoint.
+ * <p>
+ * Command result polling and the {@code lastNotification} lookup read the same records. The feed caches the last
+ * response for a short time and lets concurrent readers wait for a single in-flight request instead of issuing their
+ * own. {@link #invalidate()} starts a new generation: a request that was already running still answers its own
+ * readers, but its response is not cached and later readers issue a new request.
+ */
+@NonNullByDefault
+public class NotificationsFeed {
+
+    @FunctionalInterface
+    public interface Fetcher {
+        Records fetch() throws Exception;
+    }
+
+    /**
+     * One notifications response; {@link #getMessages()} is shared between readers and must not be modified.
+     */
+    public static final class Records {
+        private final int statusCode;
+        private final String body;
+        private final @Nullable JsonArray messages;
+
+        public Records(int statusCode, String body) {
+            this.statusCode = statusCode;
+            this.body = body;
+            this.messages = statusCode < 400 && !body.isBlank() ? parseMessages(body) : null;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public @Nullable JsonArray getMessages() {
+            return messages;
+        }
+
+        private static @Nullable JsonArray parseMessages(String body) {
+            try {
+                JsonElement root = JsonParser.parseString(body);
+                if (!root.isJsonObject()) {
+                    return null;
+                }
+                JsonObject json = root.getAsJsonObject();
+                for (String key : new String[] { "resMsg", "messages", "records" }) {
+                    JsonElement element = json.get(key);
+                    if (element != null && element.isJsonArray()) {
+                        return element.getAsJsonArray();
+                    }
+                }
+            } catch (RuntimeException e) {
+                // treated as "no records"
+            }
+            return null;
+        }
+    }
+
+    private final long ttlNanos;
+    private final Fetcher fetcher;
+    private @Nullable Records cached;
+    private long cachedAtNanos;
+    private @Nullable CompletableFuture<Records> inFlight;
+    private long generation;
+
+    public NotificationsFeed(Duration ttl, Fetcher fetcher) {
+        this.ttlNanos = ttl.toNanos();
+        this.fetcher = fetcher;
+    }
+
+    public Records get() throws Exception {
+        CompletableFuture<Records> flight;
+        boolean owner = false;
+        long flightGeneration;
+        synchronized (this) {
+            Records current = cached;
+            if (current != null && System.nanoTime() - cachedAtNanos < ttlNanos) {
+                return current;
+            }
+            flight = inFlight;
+            if (flight == null) {
+                flight = new CompletableFuture<>();
+                inFlight = flight;
+                owner = true;
+            }
+            flightGeneration = generation;
+        }
+        if (owner) {
+            try {
+                Records records = fetcher.fetch();
+                synchronized (this) {
+                    if (generation == flightGeneration) {
+                        cached = records;
+                        cachedAtNanos = System.nanoTime();
+                    }
+                    if (inFlight == flight) {
+                        inFlight = null;
+                    }
+                }
+                flight.complete(records);
+                return records;
+            } catch (Exception e) {
+                synchronized (this) {
+                    if (inFlight == flight) {
+                        inFlight = null;
+                    }
+                }
+                flight.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return flight.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception exception ? exception : e;
+        }
+    }
+
+    /**
+     * Drops the cached response and any request still in flight, e.g. after a command was sent and new records are
+     * expected.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        cached = null;
+        inFlight = null;
+    }
+}
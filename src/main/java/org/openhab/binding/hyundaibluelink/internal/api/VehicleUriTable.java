@@ -0,0 +1,99 @@
+package org.openhab.binding.hyundaibluelink.internal.api;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The request URIs of one vehicle, built once from the CCAPI base URL.
+ * <p>
+ * Every SPA suffix the binding calls is prepared in all four variants: SPA v1 or v2, with or without the
+ * {@code ccs2/} prefix of CCS2 vehicles. {@link BlueLinkApi} keeps one table per vehicle and replaces it when the base
+ * URL changes, so requests only look up a ready {@link URI}. Suffixes outside the table are built on demand.
+ */
+@NonNullByDefault
+public final class VehicleUriTable {
+    static final String STATUS = "status";
+    static final String STATUS_LATEST = "status/latest";
+    static final String LOCATION_LATEST = "location/latest";
+    static final String CCS2_LOCATION_LATEST = "ccs2/location/latest";
+    static final String CCS2_CARSTATUS_LATEST = "ccs2/carstatus/latest";
+    static final String MONTHLY_REPORT_LIST_LATEST = "monthlyreportlist/latest";
+    static final String MONTHLY_REPORT_V2 = "monthlyreport/v2";
+    static final String MONTHLY_REPORT = "monthlyreport";
+    static final String RESERVATION_HVAC = "control/reservation/hvac";
+    public static final String CONTROL_DOOR = "control/door";
+    public static final String CCS2_CONTROL_DOOR = "ccs2/control/door";
+
+    private static final List<String> SUFFIXES = List.of(STATUS, STATUS_LATEST, LOCATION_LATEST,
+            CCS2_LOCATION_LATEST, CCS2_CARSTATUS_LATEST, MONTHLY_REPORT_LIST_LATEST, MONTHLY_REPORT_V2, MONTHLY_REPORT,
+            RESERVATION_HVAC, "control/temperature", "control/charge", "control/reservation", CONTROL_DOOR,
+            CCS2_CONTROL_DOOR);
+
+    private final String baseUrl;
+    private final String vehicleId;
+    private final boolean baseV1;
+    private final Map<String, URI[]> spaUris = new HashMap<>();
+    private final URI legacyStatus;
+    private final URI notificationRecords;
+
+    public VehicleUriTable(String baseUrl, String vehicleId) {
+        this.baseUrl = baseUrl;
+        this.vehicleId = vehicleId;
+        this.baseV1 = baseUrl.toLowerCase(Locale.ROOT).contains("/api/v1/spa");
+        for (String suffix : SUFFIXES) {
+            URI[] variants = new URI[4];
+            for (int i = 0; i < variants.length; i++) {
+                variants[i] = BlueLinkApi.buildSpaVehicleUri(baseUrl, vehicleId, suffix, (i & 2) != 0,
+                        (i & 1) != 0);
+            }
+            spaUris.put(suffix, variants);
+        }
+        this.legacyStatus = Objects.requireNonNull(URI.create(baseUrl + "/vehicles/" + vehicleId + "/status"));
+        String v1Base = BlueLinkApi.ensureSpaV1BaseUrl(baseUrl);
+        this.notificationRecords = Objects.requireNonNull(URI.create(
+                (v1Base.endsWith("/") ? v1Base : v1Base + "/") + "notifications/" + vehicleId + "/records"));
+    }
+
+    /**
+     * Returns {@code true} if the table was built from {@code baseUrl} and is still valid for it.
+     */
+    public boolean isBuiltFrom(String baseUrl) {
+        return this.baseUrl == baseUrl || this.baseUrl.equals(baseUrl);
+    }
+
+    /**
+     * Returns {@code true} if the configured base URL addresses SPA v1.
+     */
+    public boolean isBaseV1() {
+        return baseV1;
+    }
+
+    /**
+     * Returns the URI of {@code suffix} below {@code vehicles/<id>/}, as {@link BlueLinkApi#buildSpaVehicleUri}
+     * would build it.
+     */
+    public URI spa(String suffix, boolean useSpaV2, boolean ccs2Supported) {
+        URI[] variants = spaUris.get(suffix);
+        if (variants == null) {
+            return BlueLinkApi.buildSpaVehicleUri(baseUrl, vehicleId, suffix, useSpaV2, ccs2Supported);
+        }
+        return variants[(useSpaV2 ? 2 : 0) | (ccs2Supported ? 1 : 0)];
+    }
+
+    /**
+     * Returns the status URI below the configured base URL as is, used by the legacy status request.
+     */
+    public URI legacyStatus() {
+        return legacyStatus;
+    }
+
+    public URI notificationRecords() {
+        return notificationRecords;
+    }
+}
@@ -7,7 +7,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatus;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -15,80 +16,79 @@ import com.google.gson.JsonObject;
 /**
  * Maps the new Hyundai/Kia CCS2 telemetry protocol responses (e.g. from
  * /ccs2/carstatus/latest)
- * into the standard {@link VehicleStatus} object.
+ * into a {@link VehicleStatusSnapshot}.
  */
 public class Ccs2StatusMapper {
 
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss")
             .withZone(ZoneId.of("UTC"));
 
-    public static VehicleStatus map(String vin, JsonObject ccs2) {
-        VehicleStatus s = new VehicleStatus();
-        s.vin = vin;
+    public static VehicleStatusSnapshot map(String vin, JsonObject ccs2) {
+        VehicleStatusSnapshot.Builder s = VehicleStatusSnapshot.builder().setVin(vin);
 
         // Odometer
         Double odo = optDouble(ccs2, "Drivetrain", "Odometer");
         if (odo != null) {
-            s.odometer = odo;
+            s.setDouble(Field.ODOMETER, odo);
         }
 
         // Fuel / Range for ICE / PHEV
         Double fuelLevel = optDouble(ccs2, "Drivetrain", "FuelSystem", "FuelLevel");
         if (fuelLevel != null) {
-            s.fuelLevel = fuelLevel;
+            s.setDouble(Field.FUEL_LEVEL, fuelLevel);
         }
 
         Double totalRange = optDouble(ccs2, "Drivetrain", "FuelSystem", "DTE", "Total");
         if (totalRange != null) {
-            s.range = totalRange;
+            s.setDouble(Field.RANGE, totalRange);
             // EV range fallback to DTE total if it exists
-            s.evModeRange = totalRange;
+            s.setDouble(Field.EV_MODE_RANGE, totalRange);
         }
 
         // DTE TargetSoC Standard/Quick (from Green component for EVs)
         Double evTargetRangeAc = optDouble(ccs2, "Green", "ChargingInformation", "DTE", "TargetSoC", "Standard");
         if (evTargetRangeAc != null) {
-            s.range = evTargetRangeAc;
-            s.evModeRange = evTargetRangeAc;
+            s.setDouble(Field.RANGE, evTargetRangeAc);
+            s.setDouble(Field.EV_MODE_RANGE, evTargetRangeAc);
         }
 
         // Charge Limits (Target SoC)
         Double targetSoCAc = optDouble(ccs2, "Green", "ChargingInformation", "TargetSoC", "Standard");
         if (targetSoCAc != null) {
-            s.chargeLimitAC = targetSoCAc;
+            s.setDouble(Field.CHARGE_LIMIT_AC, targetSoCAc);
         }
         Double targetSoCDc = optDouble(ccs2, "Green", "ChargingInformation", "TargetSoC", "Quick");
         if (targetSoCDc != null) {
-            s.chargeLimitDC = targetSoCDc;
+            s.setDouble(Field.CHARGE_LIMIT_DC, targetSoCDc);
         }
 
         // Auxiliary Battery
         Double auxBattery = optDouble(ccs2, "Electronics", "Battery", "Level");
         if (auxBattery != null) {
-            s.auxiliaryBatteryLevel = auxBattery;
+            s.setDouble(Field.AUXILIARY_BATTERY_LEVEL, auxBattery);
         }
 
         // Main EV Battery
         Double evBattery = optDouble(ccs2, "Green", "BatteryManagement", "BatteryRemain", "Ratio");
         if (evBattery != null) {
-            s.batteryLevel = evBattery;
+            s.setDouble(Field.BATTERY_LEVEL, evBattery);
         }
 
         // Ignition / Engine
         Boolean drivingReady = optBoolean(ccs2, "DrivingReady");
         if (drivingReady != null) {
-            s.acc = drivingReady;
+            s.setBoolean(Field.ACC, drivingReady);
         }
 
         // Climate (HVAC)
         Double airTemp = optDouble(ccs2, "Cabin", "HVAC", "Row1", "Driver", "Temperature", "Value");
         if (airTemp != null) {
-            s.climateOn = true;
+            s.setBoolean(Field.CLIMATE_ON, true);
         } else {
             // Check if string is OFF
             String tempStr = optString(ccs2, "Cabin", "HVAC", "Row1", "Driver", "Temperature", "Value");
             if ("OFF".equals(tempStr)) {
-                s.climateOn = false;
+                s.setBoolean(Field.CLIMATE_ON, false);
             }
         }
 
@@ -99,7 +99,7 @@ public class Ccs2StatusMapper {
         Boolean rearRightLock = optBoolean(ccs2, "Cabin", "Door", "Row2", "Right", "Lock");
 
         if (frontLeftLock != null && frontRightLock != null && rearLeftLock != null && rearRightLock != null) {
-            s.doorsLocked = frontLeftLock && frontRightLock && rearLeftLock && rearRightLock;
+            s.setBoolean(Field.DOORS_LOCKED, frontLeftLock && frontRightLock && rearLeftLock && rearRightLock);
         }
 
         // Doors Open
@@ -125,9 +125,9 @@ public class Ccs2StatusMapper {
             openDoors.add("Hood");
 
         if (!openDoors.isEmpty()) {
-            s.doorStatusSummary = String.join(", ", openDoors);
+            s.setDoorStatusSummary(String.join(", ", openDoors));
         } else {
-            s.doorStatusSummary = "Closed";
+            s.setDoorStatusSummary("Closed");
         }
 
         // Windows Open
@@ -150,9 +150,9 @@ public class Ccs2StatusMapper {
             openWindows.add("Sunroof");
 
         if (!openWindows.isEmpty()) {
-            s.windowStatusSummary = String.join(", ", openWindows);
+            s.setWindowStatusSummary(String.join(", ", openWindows));
         } else {
-            s.windowStatusSummary = "Closed";
+            s.setWindowStatusSummary("Closed");
         }
 
         // Charging
@@ -160,17 +160,17 @@ public class Ccs2StatusMapper {
         // ConnectorFastening.State (bool)
         Boolean connectorFastened = optBoolean(ccs2, "Green", "ChargingInformation", "ConnectorFastening", "State");
         if (connectorFastened != null) {
-            s.connectorFastened = connectorFastened;
+            s.setBoolean(Field.CONNECTOR_FASTENED, connectorFastened);
         }
         Integer remainTime = optInteger(ccs2, "Green", "ChargingInformation", "Charging", "RemainTime");
         if (remainTime != null && remainTime > 0) {
-            s.remainingChargeTimeMinutes = remainTime;
-            s.charging = true;
-            s.chargingState = 1;
+            s.setInt(Field.REMAINING_CHARGE_TIME_MINUTES, remainTime);
+            s.setBoolean(Field.CHARGING, true);
+            s.setInt(Field.CHARGING_STATE, 1);
         } else if (remainTime != null) {
-            s.charging = false;
-            s.chargingState = 0;
-            s.remainingChargeTimeMinutes = 0;
+            s.setBoolean(Field.CHARGING, false);
+            s.setInt(Field.CHARGING_STATE, 0);
+            s.setInt(Field.REMAINING_CHARGE_TIME_MINUTES, 0);
         }
 
         // Tires
@@ -189,15 +189,15 @@ public class Ccs2StatusMapper {
         }
 
         if (!tireWarnings.isEmpty()) {
-            s.minorWarnings = "Low Tire Pressure: " + String.join(", ", tireWarnings);
+            s.setMinorWarnings("Low Tire Pressure: " + String.join(", ", tireWarnings));
         }
 
         // Location
         Double lat = optDouble(ccs2, "Location", "GeoCoord", "Latitude");
         Double lon = optDouble(ccs2, "Location", "GeoCoord", "Longitude");
         if (lat != null && lon != null && lat != 0.0 && lon != 0.0) {
-            s.latitude = lat;
-            s.longitude = lon;
+            s.setDouble(Field.LATITUDE, lat);
+            s.setDouble(Field.LONGITUDE, lon);
         }
 
         // System Date
@@ -205,13 +205,13 @@ public class Ccs2StatusMapper {
         if (dateStr != null && dateStr.length() >= 14) {
             try {
                 // e.g., 20240915140000 -> Instant
-                s.lastUpdated = Instant.from(DATE_FORMAT.parse(dateStr));
+                s.setLastUpdated(Instant.from(DATE_FORMAT.parse(dateStr)));
             } catch (Exception e) {
                 // Ignore parse errors
             }
         }
 
-        return s;
+        return s.build();
     }
 
     private static @Nullable JsonElement getPath(JsonObject obj, String... path) {
@@ -1,9 +1,13 @@
 package org.openhab.binding.hyundaibluelink.internal.discovery;
 
-import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -13,8 +17,10 @@ import org.openhab.binding.hyundaibluelink.internal.AccountBridgeHandler;
 import org.openhab.binding.hyundaibluelink.internal.HyundaiBlueLinkBindingConstants;
 import org.openhab.binding.hyundaibluelink.internal.model.*;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
+import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.config.discovery.DiscoveryService;
+import org.openhab.core.config.discovery.ScanListener;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusInfo;
@@ -37,101 +43,211 @@ public class HyundaiBlueLinkDiscoveryService extends AbstractDiscoveryService im
     @SuppressWarnings("null")
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES = Objects.requireNonNull(Set
             .of(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE));
+    static final long BACKGROUND_SCAN_MIN_SECONDS = TimeUnit.MINUTES.toSeconds(15);
+    static final long BACKGROUND_SCAN_MAX_SECONDS = TimeUnit.HOURS.toSeconds(6);
 
     private final Logger logger = Objects
             .requireNonNull(LoggerFactory.getLogger(HyundaiBlueLinkDiscoveryService.class));
 
     private @Nullable AccountBridgeHandler accountHandler;
     private @Nullable ScheduledFuture<?> bridgeOnlineRetry;
+    private @Nullable ScheduledFuture<?> backgroundScan;
+    private long backgroundScanDelaySeconds = BACKGROUND_SCAN_MIN_SECONDS;
+    private final Map<ThingUID, String> fingerprints = new HashMap<>();
 
     public HyundaiBlueLinkDiscoveryService() {
-        super(SUPPORTED_THING_TYPES, 10, false);
+        super(SUPPORTED_THING_TYPES, 10, true);
     }
 
     @Override
-    @SuppressWarnings("null")
     protected void startScan() {
+        scan();
+    }
+
+    @Override
+    public void startScan(@Nullable ScanListener listener) {
+        // an explicit scan republishes every vehicle, e.g. results the user removed from the inbox
+        synchronized (fingerprints) {
+            fingerprints.clear();
+        }
+        super.startScan(listener);
+    }
+
+    /**
+     * Publishes the vehicles that were added or changed since the last scan and removes the ones that are gone.
+     *
+     * @return the number of published changes, or {@code -1} if the scan was skipped or failed
+     */
+    private int scan() {
         AccountBridgeHandler handler = accountHandler;
         if (handler == null) {
             logger.debug("Skipping discovery scan because account handler is not set");
-            return;
+            return -1;
         }
 
         Bridge bridge = handler.getThing();
         if (bridge.getStatus() != ThingStatus.ONLINE) {
             logger.debug("Skipping discovery scan because bridge {} is {}", bridge.getUID(), bridge.getStatus());
-            return;
+            return -1;
         }
 
-        Instant scanTimestamp = Instant.now();
-        removeOlderResults(scanTimestamp, bridge.getUID());
-
         List<VehicleSummary> vehicles;
         try {
             vehicles = handler.listVehicles();
         } catch (Exception e) {
             logger.warn("Vehicle discovery failed for {}: {}", bridge.getUID(), e.getMessage(), e);
-            return;
+            return -1;
         }
 
+        ThingUID bridgeUID = bridge.getUID();
+        Map<ThingUID, VehicleSummary> current = new LinkedHashMap<>();
         for (VehicleSummary summary : vehicles) {
             String vin = summary.vin;
             if (vin == null || vin.isBlank()) {
                 logger.debug("Ignoring vehicle without VIN during discovery");
                 continue;
             }
+            current.put(new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridgeUID, vin), summary);
+        }
 
-            ThingUID bridgeUID = bridge.getUID();
-            ThingUID thingUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridgeUID, vin);
-            DiscoveryResultBuilder resultBuilder = DiscoveryResultBuilder.create(thingUID).withBridge(bridgeUID)
-                    .withRepresentationProperty("vin").withProperty("vin", vin);
-
-            if (summary.vehicleId != null && !summary.vehicleId.isBlank()) {
-                resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_ID, summary.vehicleId);
-            }
-            if (summary.modelYear != null && !summary.modelYear.isBlank()) {
-                resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_MODEL_YEAR, summary.modelYear);
-            }
-            if (summary.licensePlate != null && !summary.licensePlate.isBlank()) {
-                resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_LICENSE_PLATE,
-                        summary.licensePlate);
-            }
-            if (summary.type != null && !summary.type.isBlank()) {
-                resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_TYPE, summary.type);
+        int changes = 0;
+        synchronized (fingerprints) {
+            for (Map.Entry<ThingUID, VehicleSummary> entry : current.entrySet()) {
+                String fingerprint = fingerprint(entry.getValue());
+                if (!fingerprint.equals(fingerprints.put(entry.getKey(), fingerprint))) {
+                    thingDiscovered(buildResult(bridgeUID, entry.getKey(), entry.getValue()));
+                    changes++;
+                }
             }
-            if (summary.inColor != null && !summary.inColor.isBlank()) {
-                resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_IN_COLOR, summary.inColor);
-            }
-            if (summary.outColor != null && !summary.outColor.isBlank()) {
-                resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_OUT_COLOR, summary.outColor);
-            }
-            if (summary.saleCarmdlCd != null && !summary.saleCarmdlCd.isBlank()) {
-                resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_SALE_CARMDL_CD,
-                        summary.saleCarmdlCd);
-            }
-            if (summary.bodyType != null && !summary.bodyType.isBlank()) {
-                resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_BODY_TYPE, summary.bodyType);
-            }
-            if (summary.saleCarmdlEnNm != null && !summary.saleCarmdlEnNm.isBlank()) {
-                resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_SALE_CARMDL_EN_NM,
-                        summary.saleCarmdlEnNm);
-            }
-            if (summary.protocolType != null && !summary.protocolType.isBlank()) {
-                resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_PROTOCOL_TYPE,
-                        summary.protocolType);
-            }
-            if (summary.ccuCCS2ProtocolSupport != null && !summary.ccuCCS2ProtocolSupport.isBlank()) {
-                resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_CCU_CCS2_PROTOCOL_SUPPORT,
-                        summary.ccuCCS2ProtocolSupport);
+            for (Iterator<ThingUID> it = fingerprints.keySet().iterator(); it.hasNext();) {
+                ThingUID known = it.next();
+                if (!current.containsKey(known)) {
+                    it.remove();
+                    thingRemoved(known);
+                    changes++;
+                }
             }
+        }
+        logger.debug("Discovery scan of {} found {} vehicles, {} changed", bridgeUID,
+                Integer.valueOf(current.size()), Integer.valueOf(changes));
+        return changes;
+    }
 
-            String label = summary.label;
-            if (label == null || label.isBlank()) {
-                label = vin;
-            }
-            resultBuilder.withLabel(label);
+    @SuppressWarnings("null")
+    private DiscoveryResult buildResult(ThingUID bridgeUID, ThingUID thingUID, VehicleSummary summary) {
+        String vin = Objects.requireNonNull(summary.vin);
+        DiscoveryResultBuilder resultBuilder = DiscoveryResultBuilder.create(thingUID).withBridge(bridgeUID)
+                .withRepresentationProperty("vin").withProperty("vin", vin);
 
-            thingDiscovered(resultBuilder.build());
+        if (summary.vehicleId != null && !summary.vehicleId.isBlank()) {
+            resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_ID, summary.vehicleId);
+        }
+        if (summary.modelYear != null && !summary.modelYear.isBlank()) {
+            resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_MODEL_YEAR, summary.modelYear);
+        }
+        if (summary.licensePlate != null && !summary.licensePlate.isBlank()) {
+            resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_LICENSE_PLATE,
+                    summary.licensePlate);
+        }
+        if (summary.type != null && !summary.type.isBlank()) {
+            resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_TYPE, summary.type);
+        }
+        if (summary.inColor != null && !summary.inColor.isBlank()) {
+            resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_IN_COLOR, summary.inColor);
+        }
+        if (summary.outColor != null && !summary.outColor.isBlank()) {
+            resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_OUT_COLOR, summary.outColor);
+        }
+        if (summary.saleCarmdlCd != null && !summary.saleCarmdlCd.isBlank()) {
+            resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_SALE_CARMDL_CD,
+                    summary.saleCarmdlCd);
+        }
+        if (summary.bodyType != null && !summary.bodyType.isBlank()) {
+            resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_BODY_TYPE, summary.bodyType);
+        }
+        if (summary.saleCarmdlEnNm != null && !summary.saleCarmdlEnNm.isBlank()) {
+            resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_SALE_CARMDL_EN_NM,
+                    summary.saleCarmdlEnNm);
+        }
+        if (summary.protocolType != null && !summary.protocolType.isBlank()) {
+            resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_PROTOCOL_TYPE,
+                    summary.protocolType);
+        }
+        if (summary.ccuCCS2ProtocolSupport != null && !summary.ccuCCS2ProtocolSupport.isBlank()) {
+            resultBuilder.withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_CCU_CCS2_PROTOCOL_SUPPORT,
+                    summary.ccuCCS2ProtocolSupport);
+        }
+
+        String label = summary.label;
+        if (label == null || label.isBlank()) {
+            label = vin;
+        }
+        resultBuilder.withLabel(label);
+
+        return resultBuilder.build();
+    }
+
+    /**
+     * Returns everything a discovery result is built from, so equal fingerprints mean an equal result.
+     */
+    static String fingerprint(VehicleSummary summary) {
+        return String.join("\u0000", Objects.toString(summary.vin), Objects.toString(summary.vehicleId),
+                Objects.toString(summary.label), Objects.toString(summary.modelYear),
+                Objects.toString(summary.licensePlate), Objects.toString(summary.type),
+                Objects.toString(summary.inColor), Objects.toString(summary.outColor),
+                Objects.toString(summary.saleCarmdlCd), Objects.toString(summary.bodyType),
+                Objects.toString(summary.saleCarmdlEnNm), Objects.toString(summary.protocolType),
+                Objects.toString(summary.ccuCCS2ProtocolSupport));
+    }
+
+    @Override
+    protected void startBackgroundDiscovery() {
+        scheduleBackgroundScan(BACKGROUND_SCAN_MIN_SECONDS);
+    }
+
+    @Override
+    protected void stopBackgroundDiscovery() {
+        cancelBackgroundScan();
+    }
+
+    private synchronized void scheduleBackgroundScan(long delaySeconds) {
+        cancelBackgroundScan();
+        backgroundScanDelaySeconds = delaySeconds;
+        backgroundScan = scheduler.schedule(this::runBackgroundScan, delaySeconds, TimeUnit.SECONDS);
+    }
+
+    private synchronized void cancelBackgroundScan() {
+        ScheduledFuture<?> future = backgroundScan;
+        if (future != null) {
+            future.cancel(false);
+            backgroundScan = null;
+        }
+    }
+
+    private void runBackgroundScan() {
+        AccountBridgeHandler handler = accountHandler;
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.getIoExecutor().execute(() -> {
+                int changes = scan();
+                long delay;
+                synchronized (this) {
+                    delay = backgroundScanDelaySeconds;
+                }
+                if (changes > 0) {
+                    delay = BACKGROUND_SCAN_MIN_SECONDS;
+                } else if (changes == 0) {
+                    delay = Math.min(BACKGROUND_SCAN_MAX_SECONDS, delay * 2);
+                }
+                if (accountHandler == handler) {
+                    scheduleBackgroundScan(delay);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Skipping background discovery of {}: account handler is disposed",
+                    handler.getThing().getUID());
         }
     }
 
@@ -139,16 +255,23 @@ public class HyundaiBlueLinkDiscoveryService extends AbstractDiscoveryService im
     public void setThingHandler(ThingHandler handler) {
         if (handler instanceof AccountBridgeHandler accountBridgeHandler) {
             accountHandler = accountBridgeHandler;
+            synchronized (fingerprints) {
+                fingerprints.clear();
+            }
             if (logger.isTraceEnabled()) {
                 logger.trace("Account bridge handler {} injected into discovery service", handler.getThing().getUID());
             }
             triggerScanWhenBridgeOnline(accountBridgeHandler);
+            if (isBackgroundDiscoveryEnabled()) {
+                startBackgroundDiscovery();
+            }
         }
     }
 
     public void unsetThingHandler(ThingHandler handler) {
         if (handler == accountHandler) {
             cancelBridgeOnlineRetry();
+            cancelBackgroundScan();
             accountHandler = null;
         }
     }
@@ -156,6 +279,7 @@ public class HyundaiBlueLinkDiscoveryService extends AbstractDiscoveryService im
     public void thingHandlerDisposed(ThingHandler handler, ThingStatusInfo info) {
         if (handler == accountHandler) {
             cancelBridgeOnlineRetry();
+            cancelBackgroundScan();
             accountHandler = null;
         }
     }
@@ -169,6 +293,7 @@ public class HyundaiBlueLinkDiscoveryService extends AbstractDiscoveryService im
     public void deactivate() {
         super.deactivate();
         cancelBridgeOnlineRetry();
+        cancelBackgroundScan();
         accountHandler = null;
     }
 
@@ -176,13 +301,14 @@ public class HyundaiBlueLinkDiscoveryService extends AbstractDiscoveryService im
         Bridge bridge = handler.getThing();
 
         if (bridge.getStatus() == ThingStatus.ONLINE) {
-            scheduler.execute(this::startScan);
+            handler.getIoExecutor().execute(this::startScan);
             return;
         }
 
         ScheduledFuture<?> future = bridgeOnlineRetry;
         if (future == null || future.isDone()) {
-            bridgeOnlineRetry = scheduler.schedule(this::retryScanWhenBridgeOnline, 2, TimeUnit.SECONDS);
+            bridgeOnlineRetry = scheduler.schedule(
+                    () -> handler.getIoExecutor().execute(this::retryScanWhenBridgeOnline), 2, TimeUnit.SECONDS);
         }
     }
 
@@ -0,0 +1,145 @@
+package org.openhab.binding.hyundaibluelink.internal.model;
+
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * The driving summary of one calendar month, as reported by the monthly report endpoint.
+ * <p>
+ * The report layout differs between regions and protocol versions, so the values are looked up by their known key
+ * names anywhere in the response. Values the report does not carry stay {@code null}.
+ */
+@NonNullByDefault
+public class MonthlyReport {
+    private static final Pattern MONTH = Pattern.compile("^(\\d{4})-?(\\d{2})(?:-?\\d{2})?$");
+    private static final List<String> MONTH_KEYS = List.of("mvrMonthStart", "rptMonth", "reportMonth", "month");
+    private static final List<String> DISTANCE_KEYS = List.of("runDistance", "totalDistance", "distance");
+    private static final List<String> DRIVING_TIME_KEYS = List.of("engineOnTime", "drivingTime", "runTime");
+    private static final List<String> ENERGY_KWH_KEYS = List.of("energyConsumption", "totalEnergyConsumption");
+    private static final String ENERGY_WH_KEY = "totalPwrCsp";
+
+    public final YearMonth month;
+    public final @Nullable Double distanceKm;
+    public final @Nullable Integer drivingMinutes;
+    public final @Nullable Double energyConsumedKwh;
+
+    public MonthlyReport(YearMonth month, @Nullable Double distanceKm, @Nullable Integer drivingMinutes,
+            @Nullable Double energyConsumedKwh) {
+        this.month = month;
+        this.distanceKm = distanceKm;
+        this.drivingMinutes = drivingMinutes;
+        this.energyConsumedKwh = energyConsumedKwh;
+    }
+
+    /**
+     * Parses a monthly report response, or returns {@code null} if it names no month.
+     */
+    public static @Nullable MonthlyReport fromJson(@Nullable JsonElement root) {
+        YearMonth month = null;
+        for (String key : MONTH_KEYS) {
+            JsonPrimitive value = find(root, key);
+            month = value != null ? parseMonth(value.getAsString()) : null;
+            if (month != null) {
+                break;
+            }
+        }
+        if (month == null) {
+            return null;
+        }
+        Double energy = findNumber(root, ENERGY_KWH_KEYS);
+        if (energy == null) {
+            Double wattHours = findNumber(root, List.of(ENERGY_WH_KEY));
+            energy = wattHours != null ? wattHours / 1000 : null;
+        }
+        Double minutes = findNumber(root, DRIVING_TIME_KEYS);
+        return new MonthlyReport(month, findNumber(root, DISTANCE_KEYS),
+                minutes != null ? Integer.valueOf((int) Math.round(minutes)) : null, energy);
+    }
+
+    static @Nullable YearMonth parseMonth(String text) {
+        Matcher matcher = MONTH.matcher(text.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return YearMonth.of(Integer.parseInt(Objects.requireNonNull(matcher.group(1))),
+                    Integer.parseInt(Objects.requireNonNull(matcher.group(2))));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable Double findNumber(@Nullable JsonElement root, List<String> keys) {
+        for (String key : keys) {
+            JsonPrimitive value = find(root, key);
+            if (value != null) {
+                try {
+                    return Double.valueOf(value.getAsDouble());
+                } catch (NumberFormatException e) {
+                    // not a number under this name, try the next one
+                }
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable JsonPrimitive find(@Nullable JsonElement element, String key) {
+        if (element == null) {
+            return null;
+        }
+        if (element.isJsonArray()) {
+            for (JsonElement child : element.getAsJsonArray()) {
+                JsonPrimitive found = find(child, key);
+                if (found != null) {
+                    return found;
+                }
+            }
+            return null;
+        }
+        if (!element.isJsonObject()) {
+            return null;
+        }
+        JsonObject object = element.getAsJsonObject();
+        JsonElement direct = object.get(key);
+        if (direct != null && direct.isJsonPrimitive()) {
+            return direct.getAsJsonPrimitive();
+        }
+        for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+            JsonPrimitive found = find(entry.getValue(), key);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        return obj instanceof MonthlyReport other && month.equals(other.month)
+                && Objects.equals(distanceKm, other.distanceKm) && Objects.equals(drivingMinutes, other.drivingMinutes)
+                && Objects.equals(energyConsumedKwh, other.energyConsumedKwh);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(month, distanceKm, drivingMinutes, energyConsumedKwh);
+    }
+
+    @Override
+    public String toString() {
+        return "MonthlyReport [month=" + month + ", distanceKm=" + distanceKm + ", drivingMinutes=" + drivingMinutes
+                + ", energyConsumedKwh=" + energyConsumedKwh + "]";
+    }
+}
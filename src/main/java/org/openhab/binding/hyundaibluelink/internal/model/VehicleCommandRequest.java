@@ -6,6 +6,7 @@ import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.api.VehicleUriTable;
 
 import com.google.gson.JsonObject;
 
@@ -17,6 +18,8 @@ public class VehicleCommandRequest {
     public final @Nullable JsonObject staticV2Payload;
     public final boolean remoteDoor;
     public final @Nullable String remoteDoorAction;
+    private final @Nullable String v1Suffix;
+    private final @Nullable String v2Suffix;
 
     private VehicleCommandRequest(@Nullable String controlSegmentV1, @Nullable String ccs2Suffix,
             @Nullable JsonObject staticV1Payload, @Nullable JsonObject staticV2Payload, boolean remoteDoor,
@@ -27,6 +30,8 @@ public class VehicleCommandRequest {
         this.staticV2Payload = staticV2Payload;
         this.remoteDoor = remoteDoor;
         this.remoteDoorAction = remoteDoorAction;
+        this.v1Suffix = controlSegmentV1 != null ? "control/" + controlSegmentV1 : null;
+        this.v2Suffix = ccs2Suffix == null || ccs2Suffix.contains("/") ? ccs2Suffix : "control/" + ccs2Suffix;
     }
 
     public static VehicleCommandRequest forV1Only(String controlSegment, JsonObject payload) {
@@ -47,7 +52,10 @@ public class VehicleCommandRequest {
     }
 
     public @Nullable JsonObject getPayload(String baseUrl, @Nullable String deviceId, boolean ccs2Supported) {
-        boolean isV1 = baseUrl.toLowerCase(Locale.ROOT).contains("/api/v1/spa");
+        return getPayload(baseUrl.toLowerCase(Locale.ROOT).contains("/api/v1/spa"), deviceId, ccs2Supported);
+    }
+
+    public @Nullable JsonObject getPayload(boolean isV1, @Nullable String deviceId, boolean ccs2Supported) {
         if (remoteDoor) {
             if (remoteDoorAction == null) {
                 return new JsonObject();
@@ -108,6 +116,20 @@ public class VehicleCommandRequest {
         }
     }
 
+    /**
+     * Looks the command URI up in the vehicle's URI table; {@code isV1} selects the SPA v1 control endpoint.
+     */
+    public URI buildUri(VehicleUriTable table, boolean isV1, boolean ccs2Supported) {
+        if (remoteDoor) {
+            return isV1 ? table.spa(VehicleUriTable.CONTROL_DOOR, false, false)
+                    : table.spa(VehicleUriTable.CCS2_CONTROL_DOOR, true, false);
+        }
+        if (isV1) {
+            return table.spa(Objects.requireNonNull(v1Suffix), false, false);
+        }
+        return table.spa(Objects.requireNonNull(v2Suffix), true, ccs2Supported);
+    }
+
     public boolean requiresCcspToken(boolean isV1, boolean ccs2Supported) {
         if (isV1) {
             return false;
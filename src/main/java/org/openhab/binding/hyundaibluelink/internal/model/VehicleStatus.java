@@ -4,43 +4,169 @@ import java.time.Instant;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.hyundaibluelink.internal.api.DistanceUnit;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
 
+/**
+ * Boxed, read-through view of a {@link VehicleStatusSnapshot}, kept for callers that work with nullable values.
+ * Nothing is copied; every getter reads the snapshot and returns {@code null} for a value that was not reported.
+ */
 @NonNullByDefault
-public class VehicleStatus {
-    public @Nullable String vin;
-    public @Nullable Double batteryLevel;
-    public @Nullable Double range;
-    public @Nullable Double evModeRange;
-    public @Nullable Double gasModeRange;
-    public @Nullable Double odometer;
-    public @Nullable Double fuelLevel;
-
-    public @Nullable DistanceUnit rangeUnit;
-    public @Nullable DistanceUnit odometerUnit;
-    public @Nullable DistanceUnit evModeRangeUnit;
-    public @Nullable DistanceUnit gasModeRangeUnit;
-
-    public @Nullable Double auxiliaryBatteryLevel;
-    public @Nullable Boolean doorsLocked;
-    public @Nullable Boolean engineOn;
-    public @Nullable Boolean trunkOpen;
-    public @Nullable Boolean hoodOpen;
-    public @Nullable Boolean charging;
-    public @Nullable Integer chargingState;
-    public @Nullable Integer remainingChargeTimeMinutes;
-    public @Nullable Boolean connectorFastened;
-    public @Nullable String doorStatusSummary;
-    public @Nullable String windowStatusSummary;
-    public @Nullable Boolean climateOn;
-    public @Nullable Boolean acc;
-    public @Nullable String minorWarnings;
-    public @Nullable Boolean batteryWarning;
-    public @Nullable Boolean lowFuelLight;
-
-    public @Nullable String lastNotification;
-    public @Nullable Instant lastUpdated;
-    public @Nullable Double latitude;
-    public @Nullable Double longitude;
-    public @Nullable Double chargeLimitAC;
-    public @Nullable Double chargeLimitDC;
+public final class VehicleStatus {
+    private final VehicleStatusSnapshot snapshot;
+
+    private VehicleStatus(VehicleStatusSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public static VehicleStatus from(VehicleStatusSnapshot snapshot) {
+        return new VehicleStatus(snapshot);
+    }
+
+    public VehicleStatusSnapshot toSnapshot() {
+        return snapshot;
+    }
+
+    public @Nullable String getVin() {
+        return snapshot.getVin();
+    }
+
+    public @Nullable Double getBatteryLevel() {
+        return optDouble(Field.BATTERY_LEVEL);
+    }
+
+    public @Nullable Double getRange() {
+        return optDouble(Field.RANGE);
+    }
+
+    public @Nullable Double getEvModeRange() {
+        return optDouble(Field.EV_MODE_RANGE);
+    }
+
+    public @Nullable Double getGasModeRange() {
+        return optDouble(Field.GAS_MODE_RANGE);
+    }
+
+    public @Nullable Double getOdometer() {
+        return optDouble(Field.ODOMETER);
+    }
+
+    public @Nullable Double getFuelLevel() {
+        return optDouble(Field.FUEL_LEVEL);
+    }
+
+    public @Nullable DistanceUnit getRangeUnit() {
+        return snapshot.getDistanceUnit(Field.RANGE);
+    }
+
+    public @Nullable DistanceUnit getOdometerUnit() {
+        return snapshot.getDistanceUnit(Field.ODOMETER);
+    }
+
+    public @Nullable DistanceUnit getEvModeRangeUnit() {
+        return snapshot.getDistanceUnit(Field.EV_MODE_RANGE);
+    }
+
+    public @Nullable DistanceUnit getGasModeRangeUnit() {
+        return snapshot.getDistanceUnit(Field.GAS_MODE_RANGE);
+    }
+
+    public @Nullable Double getAuxiliaryBatteryLevel() {
+        return optDouble(Field.AUXILIARY_BATTERY_LEVEL);
+    }
+
+    public @Nullable Boolean getDoorsLocked() {
+        return optBoolean(Field.DOORS_LOCKED);
+    }
+
+    public @Nullable Boolean getEngineOn() {
+        return optBoolean(Field.ENGINE_ON);
+    }
+
+    public @Nullable Boolean getTrunkOpen() {
+        return optBoolean(Field.TRUNK_OPEN);
+    }
+
+    public @Nullable Boolean getHoodOpen() {
+        return optBoolean(Field.HOOD_OPEN);
+    }
+
+    public @Nullable Boolean getCharging() {
+        return optBoolean(Field.CHARGING);
+    }
+
+    public @Nullable Integer getChargingState() {
+        return optInteger(Field.CHARGING_STATE);
+    }
+
+    public @Nullable Integer getRemainingChargeTimeMinutes() {
+        return optInteger(Field.REMAINING_CHARGE_TIME_MINUTES);
+    }
+
+    public @Nullable Boolean getConnectorFastened() {
+        return optBoolean(Field.CONNECTOR_FASTENED);
+    }
+
+    public @Nullable String getDoorStatusSummary() {
+        return snapshot.getDoorStatusSummary();
+    }
+
+    public @Nullable String getWindowStatusSummary() {
+        return snapshot.getWindowStatusSummary();
+    }
+
+    public @Nullable Boolean getClimateOn() {
+        return optBoolean(Field.CLIMATE_ON);
+    }
+
+    public @Nullable Boolean getAcc() {
+        return optBoolean(Field.ACC);
+    }
+
+    public @Nullable String getMinorWarnings() {
+        return snapshot.getMinorWarnings();
+    }
+
+    public @Nullable Boolean getBatteryWarning() {
+        return optBoolean(Field.BATTERY_WARNING);
+    }
+
+    public @Nullable Boolean getLowFuelLight() {
+        return optBoolean(Field.LOW_FUEL_LIGHT);
+    }
+
+    public @Nullable String getLastNotification() {
+        return snapshot.getLastNotification();
+    }
+
+    public @Nullable Instant getLastUpdated() {
+        return snapshot.getLastUpdated();
+    }
+
+    public @Nullable Double getLatitude() {
+        return optDouble(Field.LATITUDE);
+    }
+
+    public @Nullable Double getLongitude() {
+        return optDouble(Field.LONGITUDE);
+    }
+
+    public @Nullable Double getChargeLimitAC() {
+        return optDouble(Field.CHARGE_LIMIT_AC);
+    }
+
+    public @Nullable Double getChargeLimitDC() {
+        return optDouble(Field.CHARGE_LIMIT_DC);
+    }
+
+    private @Nullable Double optDouble(Field field) {
+        return snapshot.has(field) ? Double.valueOf(snapshot.getDouble(field)) : null;
+    }
+
+    private @Nullable Boolean optBoolean(Field field) {
+        return snapshot.has(field) ? Boolean.valueOf(snapshot.getBoolean(field)) : null;
+    }
+
+    private @Nullable Integer optInteger(Field field) {
+        return snapshot.has(field) ? Integer.valueOf(snapshot.getInt(field)) : null;
+    }
 }
@@ -0,0 +1,359 @@
+package org.openhab.binding.hyundaibluelink.internal.model;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.api.DistanceUnit;
+
+/**
+ * Immutable vehicle status snapshot storing scalar values in primitive slots.
+ * <p>
+ * A presence bitmask records which {@link Field}s were reported, so absent values need no boxing or null checks and
+ * two snapshots can be compared field by field without allocation. Text, timestamp and unit values are kept as
+ * references and are absent when {@code null}.
+ */
+@NonNullByDefault
+public final class VehicleStatusSnapshot {
+
+    public enum Kind {
+        DOUBLE,
+        BOOLEAN,
+        INT
+    }
+
+    public enum Field {
+        BATTERY_LEVEL(Kind.DOUBLE, 0),
+        RANGE(Kind.DOUBLE, 1),
+        EV_MODE_RANGE(Kind.DOUBLE, 2),
+        GAS_MODE_RANGE(Kind.DOUBLE, 3),
+        ODOMETER(Kind.DOUBLE, 4),
+        FUEL_LEVEL(Kind.DOUBLE, 5),
+        AUXILIARY_BATTERY_LEVEL(Kind.DOUBLE, 6),
+        LATITUDE(Kind.DOUBLE, 7),
+        LONGITUDE(Kind.DOUBLE, 8),
+        CHARGE_LIMIT_AC(Kind.DOUBLE, 9),
+        CHARGE_LIMIT_DC(Kind.DOUBLE, 10),
+        DOORS_LOCKED(Kind.BOOLEAN, 0),
+        ENGINE_ON(Kind.BOOLEAN, 0),
+        TRUNK_OPEN(Kind.BOOLEAN, 0),
+        HOOD_OPEN(Kind.BOOLEAN, 0),
+        CHARGING(Kind.BOOLEAN, 0),
+        CONNECTOR_FASTENED(Kind.BOOLEAN, 0),
+        CLIMATE_ON(Kind.BOOLEAN, 0),
+        ACC(Kind.BOOLEAN, 0),
+        BATTERY_WARNING(Kind.BOOLEAN, 0),
+        LOW_FUEL_LIGHT(Kind.BOOLEAN, 0),
+        CHARGING_STATE(Kind.INT, 0),
+        REMAINING_CHARGE_TIME_MINUTES(Kind.INT, 1);
+
+        private final Kind kind;
+        private final int slot;
+        private final long bit;
+
+        Field(Kind kind, int slot) {
+            this.kind = kind;
+            this.slot = slot;
+            this.bit = 1L << ordinal();
+        }
+
+        public Kind kind() {
+            return kind;
+        }
+
+        long bit() {
+            return bit;
+        }
+    }
+
+    private static final int DOUBLE_SLOTS = 11;
+    private static final int INT_SLOTS = 2;
+
+    private final long presence;
+    private final long booleans;
+    private final double[] doubles;
+    private final int[] ints;
+    private final @Nullable String vin;
+    private final @Nullable DistanceUnit rangeUnit;
+    private final @Nullable DistanceUnit odometerUnit;
+    private final @Nullable DistanceUnit evModeRangeUnit;
+    private final @Nullable DistanceUnit gasModeRangeUnit;
+    private final @Nullable String doorStatusSummary;
+    private final @Nullable String windowStatusSummary;
+    private final @Nullable String minorWarnings;
+    private final @Nullable String lastNotification;
+    private final @Nullable Instant lastUpdated;
+
+    private VehicleStatusSnapshot(Builder builder) {
+        this.presence = builder.presence;
+        this.booleans = builder.booleans;
+        this.doubles = builder.doubles.clone();
+        this.ints = builder.ints.clone();
+        this.vin = builder.vin;
+        this.rangeUnit = builder.rangeUnit;
+        this.odometerUnit = builder.odometerUnit;
+        this.evModeRangeUnit = builder.evModeRangeUnit;
+        this.gasModeRangeUnit = builder.gasModeRangeUnit;
+        this.doorStatusSummary = builder.doorStatusSummary;
+        this.windowStatusSummary = builder.windowStatusSummary;
+        this.minorWarnings = builder.minorWarnings;
+        this.lastNotification = builder.lastNotification;
+        this.lastUpdated = builder.lastUpdated;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public boolean has(Field field) {
+        return (presence & field.bit()) != 0;
+    }
+
+    /**
+     * Returns the bitmask of reported primitive fields, one bit per {@link Field#ordinal()}.
+     */
+    public long presenceMask() {
+        return presence;
+    }
+
+    public double getDouble(Field field) {
+        requireKind(field, Kind.DOUBLE);
+        return doubles[field.slot];
+    }
+
+    public boolean getBoolean(Field field) {
+        requireKind(field, Kind.BOOLEAN);
+        return (booleans & field.bit()) != 0;
+    }
+
+    public int getInt(Field field) {
+        requireKind(field, Kind.INT);
+        return ints[field.slot];
+    }
+
+    /**
+     * Returns whether the given field differs between this snapshot and {@code other}, including presence.
+     */
+    public boolean differs(Field field, VehicleStatusSnapshot other) {
+        long bit = field.bit();
+        if ((presence & bit) != (other.presence & bit)) {
+            return true;
+        }
+        if ((presence & bit) == 0) {
+            return false;
+        }
+        return switch (field.kind) {
+            case DOUBLE -> Double.compare(doubles[field.slot], other.doubles[field.slot]) != 0;
+            case BOOLEAN -> (booleans & bit) != (other.booleans & bit);
+            case INT -> ints[field.slot] != other.ints[field.slot];
+        };
+    }
+
+    public @Nullable String getVin() {
+        return vin;
+    }
+
+    public @Nullable DistanceUnit getDistanceUnit(Field field) {
+        return switch (field) {
+            case RANGE -> rangeUnit;
+            case ODOMETER -> odometerUnit;
+            case EV_MODE_RANGE -> evModeRangeUnit;
+            case GAS_MODE_RANGE -> gasModeRangeUnit;
+            default -> null;
+        };
+    }
+
+    public @Nullable String getDoorStatusSummary() {
+        return doorStatusSummary;
+    }
+
+    public @Nullable String getWindowStatusSummary() {
+        return windowStatusSummary;
+    }
+
+    public @Nullable String getMinorWarnings() {
+        return minorWarnings;
+    }
+
+    public @Nullable String getLastNotification() {
+        return lastNotification;
+    }
+
+    public @Nullable Instant getLastUpdated() {
+        return lastUpdated;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof VehicleStatusSnapshot other)) {
+            return false;
+        }
+        return presence == other.presence && booleans == other.booleans && Arrays.equals(doubles, other.doubles)
+                && Arrays.equals(ints, other.ints) && Objects.equals(vin, other.vin)
+                && rangeUnit == other.rangeUnit && odometerUnit == other.odometerUnit
+                && evModeRangeUnit == other.evModeRangeUnit && gasModeRangeUnit == other.gasModeRangeUnit
+                && Objects.equals(doorStatusSummary, other.doorStatusSummary)
+                && Objects.equals(windowStatusSummary, other.windowStatusSummary)
+                && Objects.equals(minorWarnings, other.minorWarnings)
+                && Objects.equals(lastNotification, other.lastNotification)
+                && Objects.equals(lastUpdated, other.lastUpdated);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(presence);
+        result = 31 * result + Long.hashCode(booleans);
+        result = 31 * result + Arrays.hashCode(doubles);
+        result = 31 * result + Arrays.hashCode(ints);
+        result = 31 * result + Objects.hash(vin, rangeUnit, odometerUnit, evModeRangeUnit, gasModeRangeUnit,
+                doorStatusSummary, windowStatusSummary, minorWarnings, lastNotification, lastUpdated);
+        return result;
+    }
+
+    private static void requireKind(Field field, Kind kind) {
+        if (field.kind != kind) {
+            throw new IllegalArgumentException(field + " is not a " + kind + " field");
+        }
+    }
+
+    /**
+     * Mutable builder used by the status mappers.
+     */
+    public static final class Builder {
+        private long presence;
+        private long booleans;
+        private final double[] doubles;
+        private final int[] ints;
+        private @Nullable String vin;
+        private @Nullable DistanceUnit rangeUnit;
+        private @Nullable DistanceUnit odometerUnit;
+        private @Nullable DistanceUnit evModeRangeUnit;
+        private @Nullable DistanceUnit gasModeRangeUnit;
+        private @Nullable String doorStatusSummary;
+        private @Nullable String windowStatusSummary;
+        private @Nullable String minorWarnings;
+        private @Nullable String lastNotification;
+        private @Nullable Instant lastUpdated;
+
+        private Builder() {
+            doubles = new double[DOUBLE_SLOTS];
+            ints = new int[INT_SLOTS];
+        }
+
+        private Builder(VehicleStatusSnapshot snapshot) {
+            presence = snapshot.presence;
+            booleans = snapshot.booleans;
+            doubles = snapshot.doubles.clone();
+            ints = snapshot.ints.clone();
+            vin = snapshot.vin;
+            rangeUnit = snapshot.rangeUnit;
+            odometerUnit = snapshot.odometerUnit;
+            evModeRangeUnit = snapshot.evModeRangeUnit;
+            gasModeRangeUnit = snapshot.gasModeRangeUnit;
+            doorStatusSummary = snapshot.doorStatusSummary;
+            windowStatusSummary = snapshot.windowStatusSummary;
+            minorWarnings = snapshot.minorWarnings;
+            lastNotification = snapshot.lastNotification;
+            lastUpdated = snapshot.lastUpdated;
+        }
+
+        public boolean has(Field field) {
+            return (presence & field.bit()) != 0;
+        }
+
+        public boolean getBoolean(Field field) {
+            requireKind(field, Kind.BOOLEAN);
+            return (booleans & field.bit()) != 0;
+        }
+
+        public Builder setDouble(Field field, double value) {
+            requireKind(field, Kind.DOUBLE);
+            doubles[field.slot] = value;
+            presence |= field.bit();
+            return this;
+        }
+
+        public Builder setBoolean(Field field, boolean value) {
+            requireKind(field, Kind.BOOLEAN);
+            if (value) {
+                booleans |= field.bit();
+            } else {
+                booleans &= ~field.bit();
+            }
+            presence |= field.bit();
+            return this;
+        }
+
+        public Builder setInt(Field field, int value) {
+            requireKind(field, Kind.INT);
+            ints[field.slot] = value;
+            presence |= field.bit();
+            return this;
+        }
+
+        public Builder clear(Field field) {
+            presence &= ~field.bit();
+            booleans &= ~field.bit();
+            if (field.kind == Kind.DOUBLE) {
+                doubles[field.slot] = 0;
+            } else if (field.kind == Kind.INT) {
+                ints[field.slot] = 0;
+            }
+            return this;
+        }
+
+        public Builder setVin(@Nullable String vin) {
+            this.vin = vin;
+            return this;
+        }
+
+        public Builder setDistanceUnit(Field field, @Nullable DistanceUnit unit) {
+            switch (field) {
+                case RANGE -> rangeUnit = unit;
+                case ODOMETER -> odometerUnit = unit;
+                case EV_MODE_RANGE -> evModeRangeUnit = unit;
+                case GAS_MODE_RANGE -> gasModeRangeUnit = unit;
+                default -> throw new IllegalArgumentException(field + " is not a distance field");
+            }
+            return this;
+        }
+
+        public Builder setDoorStatusSummary(@Nullable String doorStatusSummary) {
+            this.doorStatusSummary = doorStatusSummary;
+            return this;
+        }
+
+        public Builder setWindowStatusSummary(@Nullable String windowStatusSummary) {
+            this.windowStatusSummary = windowStatusSummary;
+            return this;
+        }
+
+        public Builder setMinorWarnings(@Nullable String minorWarnings) {
+            this.minorWarnings = minorWarnings;
+            return this;
+        }
+
+        public Builder setLastNotification(@Nullable String lastNotification) {
+            this.lastNotification = lastNotification;
+            return this;
+        }
+
+        public Builder setLastUpdated(@Nullable Instant lastUpdated) {
+            this.lastUpdated = lastUpdated;
+            return this;
+        }
+
+        public VehicleStatusSnapshot build() {
+            return new VehicleStatusSnapshot(this);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package org.openhab.binding.hyundaibluelink.internal.util;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hyundaibluelink.internal.util.EndpointResolver.Endpoints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Binding-wide cache of the endpoint definitions.
+ * <p>
+ * Every source, the bundled defaults or an override file, is parsed once and its resolved endpoints are kept per
+ * region and brand; an override file is parsed again when its modification time changes. Override files that
+ * accounts {@link #watch watch} are observed with a {@link WatchService}; when one changes and still parses, the
+ * cache is replaced and the watchers get the new endpoints. A file that cannot be parsed keeps the previous
+ * definitions.
+ */
+@NonNullByDefault
+public class EndpointRegistry {
+    private static final EndpointRegistry SHARED = new EndpointRegistry(
+            Objects.requireNonNull(EndpointRegistry.class.getClassLoader()));
+
+    private final Logger logger = Objects.requireNonNull(LoggerFactory.getLogger(EndpointRegistry.class));
+
+    private final ClassLoader classLoader;
+    private final Map<String, JsonNode> trees = new ConcurrentHashMap<>();
+    // modification time of each source when its tree was parsed; -1 for the bundled defaults
+    private final Map<String, Long> treeStamps = new ConcurrentHashMap<>();
+    private final Map<String, Endpoints> resolved = new ConcurrentHashMap<>();
+    private final Map<Path, List<Watcher>> watchers = new HashMap<>();
+    private final Map<Path, WatchKey> watchKeys = new HashMap<>();
+    private @Nullable WatchService watchService;
+
+    public static EndpointRegistry shared() {
+        return SHARED;
+    }
+
+    EndpointRegistry(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Returns a copy of the endpoints of {@code region} and {@code brand} from the override file, or from the bundled
+     * defaults if {@code overridePath} is blank or does not exist.
+     */
+    public Endpoints resolve(@Nullable String overridePath, String region, String brand) throws Exception {
+        String source = source(overridePath);
+        long stamp = lastModified(source);
+        Long parsedStamp = treeStamps.get(source);
+        if (parsedStamp != null && parsedStamp.longValue() != stamp) {
+            trees.remove(source);
+            treeStamps.remove(source);
+            resolved.keySet().removeIf(cached -> cached.startsWith(source + '\n'));
+        }
+        String key = source + '\n' + region + '\n' + brand;
+        Endpoints endpoints = resolved.get(key);
+        if (endpoints == null) {
+            JsonNode root = trees.get(source);
+            if (root == null) {
+                root = Objects.requireNonNull(EndpointResolver.loadTree(classLoader, source));
+                trees.put(source, root);
+                treeStamps.put(source, stamp);
+            }
+            endpoints = EndpointResolver.resolve(root, region, brand);
+            resolved.put(key, endpoints);
+        }
+        return endpoints.copy();
+    }
+
+    /**
+     * Calls {@code listener} with a fresh copy of the endpoints whenever the override file changes. Nothing is watched
+     * for a blank path or a path whose directory does not exist.
+     *
+     * @return a handle that stops watching when closed
+     */
+    public synchronized AutoCloseable watch(@Nullable String overridePath, String region, String brand,
+            Consumer<Endpoints> listener) throws IOException {
+        String source = source(overridePath);
+        if (source.isEmpty()) {
+            return () -> {
+            };
+        }
+        Path file = Path.of(source).toAbsolutePath().normalize();
+        Path dir = Objects.requireNonNull(file.getParent());
+        if (!Files.isDirectory(dir)) {
+            logger.debug("Not watching {}, the directory {} does not exist", file, dir);
+            return () -> {
+            };
+        }
+        Watcher watcher = new Watcher(file, source, region, brand, listener, trees.get(source));
+        if (!watchKeys.containsKey(dir)) {
+            WatchService service = watchService;
+            if (service == null) {
+                service = FileSystems.getDefault().newWatchService();
+                watchService = service;
+                WatchService started = service;
+                Thread.ofVirtual().name("OH-hyundaibluelink-endpoints").start(() -> watchLoop(started));
+            }
+            watchKeys.put(dir, dir.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+        }
+        watchers.computeIfAbsent(dir, d -> new CopyOnWriteArrayList<>()).add(watcher);
+        return () -> unwatch(dir, watcher);
+    }
+
+    private synchronized void unwatch(Path dir, Watcher watcher) {
+        List<Watcher> list = watchers.get(dir);
+        if (list == null || !list.remove(watcher) || !list.isEmpty()) {
+            return;
+        }
+        watchers.remove(dir);
+        WatchKey key = watchKeys.remove(dir);
+        if (key != null) {
+            key.cancel();
+        }
+        WatchService service = watchService;
+        if (watchKeys.isEmpty() && service != null) {
+            watchService = null;
+            try {
+                service.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close endpoint watch service: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void watchLoop(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path dir = (Path) key.watchable();
+                List<Path> changed = new ArrayList<>();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path name) {
+                        changed.add(dir.resolve(name));
+                    }
+                }
+                key.reset();
+                List<Watcher> list;
+                synchronized (this) {
+                    list = watchers.getOrDefault(dir, List.of());
+                }
+                changed.stream().distinct().forEach(file -> reload(file, list));
+            }
+        } catch (ClosedWatchServiceException e) {
+            // last watcher left
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reload(Path file, List<Watcher> candidates) {
+        List<Watcher> affected = candidates.stream().filter(w -> w.file.equals(file)).toList();
+        if (affected.isEmpty()) {
+            return;
+        }
+        String source = affected.get(0).source;
+        long stamp = lastModified(source);
+        JsonNode root;
+        try {
+            root = Objects.requireNonNull(EndpointResolver.loadTree(classLoader, source));
+        } catch (Exception e) {
+            logger.warn("Keeping the previous endpoints, {} cannot be read: {}", file, e.getMessage());
+            return;
+        }
+        if (!root.equals(trees.get(source))) {
+            trees.put(source, root);
+            treeStamps.put(source, stamp);
+            resolved.keySet().removeIf(key -> key.startsWith(source + '\n'));
+            logger.info("Reloaded endpoints from {}", file);
+        }
+        for (Watcher watcher : affected) {
+            // resolve() may have picked up the change already; watchers still get each definition once
+            if (root.equals(watcher.delivered)) {
+                continue;
+            }
+            watcher.delivered = root;
+            try {
+                watcher.listener.accept(resolve(source, watcher.region, watcher.brand));
+            } catch (Exception e) {
+                logger.warn("Keeping the previous endpoints for {}/{}: {}", watcher.region, watcher.brand,
+                        e.getMessage());
+            }
+        }
+    }
+
+    private static String source(@Nullable String overridePath) {
+        return overridePath == null ? "" : overridePath.trim();
+    }
+
+    private static long lastModified(String source) {
+        if (source.isEmpty()) {
+            return -1;
+        }
+        try {
+            return Files.getLastModifiedTime(Path.of(source)).toMillis();
+        } catch (IOException e) {
+            // a missing override file falls back to the bundled defaults
+            return -1;
+        }
+    }
+
+    private static class Watcher {
+        final Path file;
+        final String source;
+        final String region;
+        final String brand;
+        final Consumer<Endpoints> listener;
+        volatile @Nullable JsonNode delivered;
+
+        Watcher(Path file, String source, String region, String brand, Consumer<Endpoints> listener,
+                @Nullable JsonNode delivered) {
+            this.file = file;
+            this.source = source;
+            this.region = region;
+            this.brand = brand;
+            this.listener = listener;
+            this.delivered = delivered;
+        }
+    }
+}
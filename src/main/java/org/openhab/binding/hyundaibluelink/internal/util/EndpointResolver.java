@@ -8,9 +8,22 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class EndpointResolver {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     public static class Endpoints {
-        public OAuth oauth = new OAuth();
-        public CCAPI ccapi = new CCAPI();
+        // volatile so a reloaded block is seen as a whole by running clients
+        public volatile OAuth oauth = new OAuth();
+        public volatile CCAPI ccapi = new CCAPI();
+
+        /**
+         * Returns a deep copy, so per-account changes such as a configured client id do not leak into the cache.
+         */
+        public Endpoints copy() {
+            Endpoints copy = new Endpoints();
+            copy.oauth = oauth.copy();
+            copy.ccapi = ccapi.copy();
+            return copy;
+        }
 
         public static class OAuth {
             public String clientId;
@@ -23,14 +36,35 @@ public class EndpointResolver {
             public String integrationInfoUrl;
             public String requiredActionUrl;
             public String silentSigninUrl;
+
+            OAuth copy() {
+                OAuth copy = new OAuth();
+                copy.clientId = clientId;
+                copy.applicationId = applicationId;
+                copy.clientSecret = clientSecret;
+                copy.authorizeUrl = authorizeUrl;
+                copy.tokenUrl = tokenUrl;
+                copy.loginUrl = loginUrl;
+                copy.browserFallbackUrl = browserFallbackUrl;
+                copy.integrationInfoUrl = integrationInfoUrl;
+                copy.requiredActionUrl = requiredActionUrl;
+                copy.silentSigninUrl = silentSigninUrl;
+                return copy;
+            }
         }
         public static class CCAPI {
             public String baseUrl;
+
+            CCAPI copy() {
+                CCAPI copy = new CCAPI();
+                copy.baseUrl = baseUrl;
+                return copy;
+            }
         }
     }
 
     public static JsonNode loadTree(ClassLoader cl, String overridePath) throws Exception {
-        ObjectMapper om = new ObjectMapper();
+        ObjectMapper om = MAPPER;
         if (overridePath != null && !overridePath.isBlank()) {
             Path p = Path.of(overridePath);
             if (Files.exists(p)) {
@@ -0,0 +1,55 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class AdaptiveRefreshPolicyTest {
+
+    private static final LocalTime NOON = LocalTime.of(12, 0);
+    private static final long HOUR = 3600;
+
+    @Test
+    void activeVehiclesAreRefreshedFaster() {
+        AdaptiveRefreshPolicy policy = AdaptiveRefreshPolicy.parse(AdaptiveRefreshPolicy.DEFAULT_RULES);
+        VehicleStatusSnapshot.Builder status = VehicleStatusSnapshot.builder().setBoolean(Field.DOORS_LOCKED, true);
+
+        assertEquals(HOUR, policy.decide(status.build(), -1, NOON, HOUR).getDelaySeconds());
+
+        status.setBoolean(Field.CHARGING, true).setInt(Field.REMAINING_CHARGE_TIME_MINUTES, 90);
+        assertEquals(300, policy.decide(status.build(), -1, NOON, HOUR).getDelaySeconds());
+
+        status.setInt(Field.REMAINING_CHARGE_TIME_MINUTES, 10);
+        AdaptiveRefreshPolicy.Decision decision = policy.decide(status.build(), -1, NOON, HOUR);
+        assertEquals(60, decision.getDelaySeconds());
+        assertEquals("chargeFinishing", decision.getRule());
+
+        status.setBoolean(Field.CHARGING, false);
+        assertEquals(120, policy.decide(status.build(), 30, NOON, HOUR).getDelaySeconds());
+    }
+
+    @Test
+    void idleVehiclesAreRefreshedSlowerAtNight() {
+        AdaptiveRefreshPolicy policy = AdaptiveRefreshPolicy.parse("unlocked=10m, night=22-6:3h, bogus");
+        VehicleStatusSnapshot locked = VehicleStatusSnapshot.builder().setBoolean(Field.DOORS_LOCKED, true).build();
+
+        assertEquals(3 * HOUR, policy.decide(locked, -1, LocalTime.of(2, 0), HOUR).getDelaySeconds());
+        assertEquals(HOUR, policy.decide(locked, -1, NOON, HOUR).getDelaySeconds());
+
+        VehicleStatusSnapshot unlocked = locked.toBuilder().setBoolean(Field.DOORS_LOCKED, false).build();
+        assertEquals(600, policy.decide(unlocked, -1, LocalTime.of(2, 0), HOUR).getDelaySeconds());
+    }
+
+    @Test
+    void blankPolicyIsDisabled() {
+        assertFalse(AdaptiveRefreshPolicy.parse(" ").isEnabled());
+    }
+}
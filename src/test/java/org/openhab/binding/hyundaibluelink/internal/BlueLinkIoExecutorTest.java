@@ -0,0 +1,58 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class BlueLinkIoExecutorTest {
+
+    @Test
+    void tasksBeyondTheLimitWaitAndAreCounted() throws Exception {
+        BlueLinkIoExecutor executor = new BlueLinkIoExecutor("test-io", 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(2);
+        try {
+            Future<?> first = executor.submit(() -> block(running, release));
+            Future<?> second = executor.submit(() -> block(running, release));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            Future<String> third = executor.submit(() -> Thread.currentThread().isVirtual() ? "virtual" : "platform");
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (executor.getSaturatedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(2, executor.getActiveCount());
+            assertEquals(1, executor.getQueuedCount());
+            assertEquals(1, executor.getSaturatedCount());
+
+            Thread.sleep(20);
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+            assertEquals("virtual", third.get(5, TimeUnit.SECONDS));
+
+            assertEquals(0, executor.getQueuedCount());
+            assertEquals(2, executor.getPeakActiveCount());
+            assertTrue(executor.getQueueWaitPercentileMillis(1.0) >= 20);
+            assertTrue(executor.format().startsWith("active=0/2 queued=0 peak=2 saturated=1"), executor.format());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static @Nullable Void block(CountDownLatch running, CountDownLatch release)
+            throws InterruptedException {
+        running.countDown();
+        release.await(5, TimeUnit.SECONDS);
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class CommandLatencyModelTest {
+
+    @Test
+    void usesDefaultIntervalUntilEnoughSamples() {
+        CommandLatencyModel model = new CommandLatencyModel();
+        model.recordCompletion("lock", 12_000);
+        model.recordCompletion("lock", 14_000);
+
+        assertEquals(5, model.nextPollDelaySeconds("lock", 0, 5));
+        assertEquals(5, model.nextPollDelaySeconds("start", 0, 5));
+    }
+
+    @Test
+    void schedulesAroundLearnedLatency() {
+        CommandLatencyModel model = new CommandLatencyModel();
+        for (long latency : new long[] { 10_000, 11_000, 12_000, 13_000, 19_000 }) {
+            model.recordCompletion("lock", latency);
+        }
+
+        // first poll at the median, dense until p90, sparse afterwards
+        assertEquals(12, model.nextPollDelaySeconds("lock", 0, 5));
+        assertEquals(3, model.nextPollDelaySeconds("lock", 12_500, 5));
+        assertEquals(10, model.nextPollDelaySeconds("lock", 20_000, 5));
+        assertEquals(0, model.getSampleCount("start"));
+    }
+
+    @Test
+    void learnsTheMiddleOfTheDetectionWindow() {
+        CommandLatencyModel model = new CommandLatencyModel();
+        for (int i = 0; i < CommandLatencyModel.MIN_SAMPLES; i++) {
+            // seen pending at 10 s, completed at the 20 s poll
+            model.recordCompletion("lock", 10_000, 20_000);
+        }
+
+        assertEquals(15, model.nextPollDelaySeconds("lock", 0, 5));
+    }
+}
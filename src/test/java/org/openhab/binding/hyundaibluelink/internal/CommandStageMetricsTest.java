@@ -0,0 +1,48 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hyundaibluelink.internal.api.CommandTiming;
+import org.openhab.binding.hyundaibluelink.internal.api.CommandTiming.Stage;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class CommandStageMetricsTest {
+
+    @Test
+    void nestedStagesAreCountedOnce() throws Exception {
+        CommandTiming timing = new CommandTiming();
+        timing.start();
+        timing.start();
+        Thread.sleep(30);
+        timing.stop(Stage.CONTROL_TOKEN);
+        timing.stop(Stage.SEND);
+
+        assertTrue(timing.getMillis(Stage.CONTROL_TOKEN) >= 30);
+        assertTrue(timing.getMillis(Stage.SEND) < timing.getMillis(Stage.CONTROL_TOKEN),
+                "The control token exchange must not be counted as send time");
+    }
+
+    @Test
+    void percentilesArePerCommandType() {
+        CommandStageMetrics metrics = new CommandStageMetrics();
+        for (int i = 1; i <= 10; i++) {
+            CommandTiming timing = new CommandTiming();
+            timing.setCommandType("lock");
+            timing.add(Stage.POLL, TimeUnit.MILLISECONDS.toNanos(i * 100L));
+            metrics.record(timing);
+        }
+        metrics.record(new CommandTiming());
+
+        assertEquals(10, metrics.getSampleCount("lock"));
+        assertEquals(500, metrics.getPercentileMillis("lock", Stage.POLL, 0.5));
+        assertEquals(900, metrics.getPercentileMillis("lock", Stage.POLL, 0.9));
+        assertEquals(-1, metrics.getPercentileMillis("start", Stage.POLL, 0.5));
+        assertEquals("poll=500/900ms", metrics.format("lock"));
+    }
+}
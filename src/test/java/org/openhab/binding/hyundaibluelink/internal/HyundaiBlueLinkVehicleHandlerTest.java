@@ -16,10 +16,14 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
@@ -29,10 +33,12 @@ import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Test;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.hyundaibluelink.internal.api.BlueLinkApi;
+import org.openhab.binding.hyundaibluelink.internal.api.CommandResults;
 import org.openhab.binding.hyundaibluelink.internal.api.DistanceUnit;
 
 import org.openhab.binding.hyundaibluelink.internal.model.*;
 import org.openhab.binding.hyundaibluelink.internal.api.OAuthClient;
+import org.openhab.binding.hyundaibluelink.internal.api.Reservation;
 import org.openhab.binding.hyundaibluelink.internal.api.StampProvider;
 import org.openhab.binding.hyundaibluelink.internal.util.EndpointResolver.Endpoints;
 import org.openhab.core.config.core.Configuration;
@@ -56,6 +62,7 @@ import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.unit.ImperialUnits;
 import org.openhab.core.library.unit.MetricPrefix;
 import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
 
 @org.eclipse.jdt.annotation.NonNullByDefault
 @SuppressWarnings("null")
@@ -132,6 +139,7 @@ class HyundaiBlueLinkVehicleHandlerTest {
 
         handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_STATUS),
                 RefreshType.REFRESH);
+        awaitIdle(accountHandler.getIoExecutor());
 
         assertEquals(1, accountHandler.listCallCount);
         assertEquals("11111111-2222-3333-4444-555555555555", api.lastStatusVehicleId);
@@ -208,34 +216,34 @@ class HyundaiBlueLinkVehicleHandlerTest {
 
         CapturingVehicleHandler handler = new CapturingVehicleHandler(thing);
 
-        VehicleStatus status = new VehicleStatus();
-        status.vin = "VIN-EU-123";
-        status.doorsLocked = Boolean.TRUE;
-        status.charging = Boolean.FALSE;
-        status.climateOn = Boolean.TRUE;
-        status.batteryWarning = Boolean.FALSE;
-        status.batteryLevel = 54.0;
-        status.range = 235.0;
-        status.rangeUnit = DistanceUnit.KILOMETERS;
-        status.evModeRange = 235.0;
-        status.evModeRangeUnit = DistanceUnit.KILOMETERS;
-        status.gasModeRange = 645.0;
-        status.gasModeRangeUnit = DistanceUnit.KILOMETERS;
-        status.fuelLevel = 73.0;
-        status.odometer = 12345.0;
-        status.odometerUnit = DistanceUnit.KILOMETERS;
-        status.doorStatusSummary = "frontLeft=CLOSED, frontRight=OPEN";
-        status.windowStatusSummary = "rearLeft=CLOSED";
-        status.lastUpdated = Instant.parse("2024-01-01T01:02:03Z");
-        status.lowFuelLight = Boolean.FALSE;
+        VehicleStatusSnapshot.Builder status = VehicleStatusSnapshot.builder();
+        status.setVin("VIN-EU-123");
+        status.setBoolean(VehicleStatusSnapshot.Field.DOORS_LOCKED, true);
+        status.setBoolean(VehicleStatusSnapshot.Field.CHARGING, false);
+        status.setBoolean(VehicleStatusSnapshot.Field.CLIMATE_ON, true);
+        status.setBoolean(VehicleStatusSnapshot.Field.BATTERY_WARNING, false);
+        status.setDouble(VehicleStatusSnapshot.Field.BATTERY_LEVEL, 54.0);
+        status.setDouble(VehicleStatusSnapshot.Field.RANGE, 235.0);
+        status.setDistanceUnit(VehicleStatusSnapshot.Field.RANGE, DistanceUnit.KILOMETERS);
+        status.setDouble(VehicleStatusSnapshot.Field.EV_MODE_RANGE, 235.0);
+        status.setDistanceUnit(VehicleStatusSnapshot.Field.EV_MODE_RANGE, DistanceUnit.KILOMETERS);
+        status.setDouble(VehicleStatusSnapshot.Field.GAS_MODE_RANGE, 645.0);
+        status.setDistanceUnit(VehicleStatusSnapshot.Field.GAS_MODE_RANGE, DistanceUnit.KILOMETERS);
+        status.setDouble(VehicleStatusSnapshot.Field.FUEL_LEVEL, 73.0);
+        status.setDouble(VehicleStatusSnapshot.Field.ODOMETER, 12345.0);
+        status.setDistanceUnit(VehicleStatusSnapshot.Field.ODOMETER, DistanceUnit.KILOMETERS);
+        status.setDoorStatusSummary("frontLeft=CLOSED, frontRight=OPEN");
+        status.setWindowStatusSummary("rearLeft=CLOSED");
+        status.setLastUpdated(Instant.parse("2024-01-01T01:02:03Z"));
+        status.setBoolean(VehicleStatusSnapshot.Field.LOW_FUEL_LIGHT, false);
 
         VehicleLocation location = new VehicleLocation();
         location.latitude = 52.52;
         location.longitude = 13.405;
-        status.latitude = location.latitude;
-        status.longitude = location.longitude;
+        status.setDouble(VehicleStatusSnapshot.Field.LATITUDE, location.latitude);
+        status.setDouble(VehicleStatusSnapshot.Field.LONGITUDE, location.longitude);
 
-        StubStatusApi api = new StubStatusApi(status, location);
+        StubStatusApi api = new StubStatusApi(status.build(), location);
         setApi(handler, api);
 
         handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_STATUS),
@@ -245,7 +253,7 @@ class HyundaiBlueLinkVehicleHandlerTest {
         assertEquals(OnOffType.OFF, handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_STARTCHARGE));
         State lastUpdatedState = handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_LAST_UPDATED);
         assertNotNull(lastUpdatedState);
-        assertEquals(new DateTimeType(status.lastUpdated.atZone(ZoneOffset.UTC)), lastUpdatedState);
+        assertEquals(new DateTimeType(Instant.parse("2024-01-01T01:02:03Z").atZone(ZoneOffset.UTC)), lastUpdatedState);
 
         State doorState = handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_DOOR_STATUS);
         assertNotNull(doorState);
@@ -329,31 +337,31 @@ class HyundaiBlueLinkVehicleHandlerTest {
 
         CapturingVehicleHandler handler = new CapturingVehicleHandler(thing);
 
-        VehicleStatus status = new VehicleStatus();
-        status.vin = "VIN-US-123";
-        status.doorsLocked = Boolean.TRUE;
-        status.charging = Boolean.FALSE;
-        status.climateOn = Boolean.FALSE;
-        status.batteryWarning = Boolean.FALSE;
-        status.batteryLevel = 80.0;
-        status.range = 150.0;
-        status.rangeUnit = DistanceUnit.MILES;
-        status.evModeRange = 120.0;
-        status.evModeRangeUnit = DistanceUnit.MILES;
-        status.gasModeRange = 320.0;
-        status.gasModeRangeUnit = DistanceUnit.MILES;
-        status.fuelLevel = 55.0;
-        status.odometer = 9876.0;
-        status.odometerUnit = DistanceUnit.MILES;
-        status.lastUpdated = Instant.parse("2024-02-02T02:03:04Z");
+        VehicleStatusSnapshot.Builder status = VehicleStatusSnapshot.builder();
+        status.setVin("VIN-US-123");
+        status.setBoolean(VehicleStatusSnapshot.Field.DOORS_LOCKED, true);
+        status.setBoolean(VehicleStatusSnapshot.Field.CHARGING, false);
+        status.setBoolean(VehicleStatusSnapshot.Field.CLIMATE_ON, false);
+        status.setBoolean(VehicleStatusSnapshot.Field.BATTERY_WARNING, false);
+        status.setDouble(VehicleStatusSnapshot.Field.BATTERY_LEVEL, 80.0);
+        status.setDouble(VehicleStatusSnapshot.Field.RANGE, 150.0);
+        status.setDistanceUnit(VehicleStatusSnapshot.Field.RANGE, DistanceUnit.MILES);
+        status.setDouble(VehicleStatusSnapshot.Field.EV_MODE_RANGE, 120.0);
+        status.setDistanceUnit(VehicleStatusSnapshot.Field.EV_MODE_RANGE, DistanceUnit.MILES);
+        status.setDouble(VehicleStatusSnapshot.Field.GAS_MODE_RANGE, 320.0);
+        status.setDistanceUnit(VehicleStatusSnapshot.Field.GAS_MODE_RANGE, DistanceUnit.MILES);
+        status.setDouble(VehicleStatusSnapshot.Field.FUEL_LEVEL, 55.0);
+        status.setDouble(VehicleStatusSnapshot.Field.ODOMETER, 9876.0);
+        status.setDistanceUnit(VehicleStatusSnapshot.Field.ODOMETER, DistanceUnit.MILES);
+        status.setLastUpdated(Instant.parse("2024-02-02T02:03:04Z"));
 
         VehicleLocation location = new VehicleLocation();
         location.latitude = 40.7128;
         location.longitude = -74.0060;
-        status.latitude = location.latitude;
-        status.longitude = location.longitude;
+        status.setDouble(VehicleStatusSnapshot.Field.LATITUDE, location.latitude);
+        status.setDouble(VehicleStatusSnapshot.Field.LONGITUDE, location.longitude);
 
-        StubStatusApi api = new StubStatusApi(status, location);
+        StubStatusApi api = new StubStatusApi(status.build(), location);
         setApi(handler, api);
 
         handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_STATUS),
@@ -392,6 +400,44 @@ class HyundaiBlueLinkVehicleHandlerTest {
         assertNotNull(gasRangeChannel);
         assertEquals(HyundaiBlueLinkBindingConstants.CHANNEL_TYPE_GAS_RANGE_MILES,
                 gasRangeChannel.getChannelTypeUID());
+
+        handler.lastUpdatedThing = null;
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_STATUS),
+                RefreshType.REFRESH);
+        assertNull(handler.lastUpdatedThing);
+    }
+
+    @Test
+    void failedRefreshKeepsServingLastGoodValues() throws Exception {
+        ThingUID bridgeUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_ACCOUNT_BRIDGE, "bridge-stale");
+        ThingUID thingUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridgeUID, "STALEVIN1");
+        Thing thing = ThingBuilder.create(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, thingUID)
+                .withBridge(bridgeUID)
+                .withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_ID, "vehicle-stale-id").build();
+
+        CapturingVehicleHandler handler = new CapturingVehicleHandler(thing);
+        VehicleStatusSnapshot.Builder status = VehicleStatusSnapshot.builder();
+        status.setDouble(VehicleStatusSnapshot.Field.BATTERY_LEVEL, 64.0);
+        status.setDouble(VehicleStatusSnapshot.Field.LATITUDE, 48.1);
+        status.setDouble(VehicleStatusSnapshot.Field.LONGITUDE, 16.3);
+        FlakyStatusApi api = new FlakyStatusApi(status.build(), new VehicleLocation());
+        setApi(handler, api);
+
+        ChannelUID statusChannel = new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_STATUS);
+        handler.handleCommand(statusChannel, RefreshType.REFRESH);
+        State summary = handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_STATUS);
+        assertEquals("FRESH", String.valueOf(handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_DATA_FRESHNESS)));
+
+        api.fail = true;
+        handler.handleCommand(statusChannel, RefreshType.REFRESH);
+        handler.dispose();
+
+        assertEquals(new QuantityType<>(64.0, Units.PERCENT),
+                handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_BATTERY_LEVEL));
+        assertTrue(handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_LOCATION) instanceof PointType);
+        assertEquals(summary, handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_STATUS),
+                "A transient failure must not overwrite the status summary");
+        assertEquals("STALE", String.valueOf(handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_DATA_FRESHNESS)));
     }
 
     @Test
@@ -408,10 +454,10 @@ class HyundaiBlueLinkVehicleHandlerTest {
         LocationFailureRecordingApi api = new LocationFailureRecordingApi();
         setApi(handler, api);
 
-        VehicleStatus firstStatus = new VehicleStatus();
-        firstStatus.latitude = Double.valueOf(48.099894);
-        firstStatus.longitude = Double.valueOf(16.311561);
-        api.nextStatus = firstStatus;
+        VehicleStatusSnapshot.Builder firstStatus = VehicleStatusSnapshot.builder();
+        firstStatus.setDouble(VehicleStatusSnapshot.Field.LATITUDE, 48.099894);
+        firstStatus.setDouble(VehicleStatusSnapshot.Field.LONGITUDE, 16.311561);
+        api.nextStatus = firstStatus.build();
 
         handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_STATUS),
                 RefreshType.REFRESH);
@@ -420,8 +466,7 @@ class HyundaiBlueLinkVehicleHandlerTest {
         assertNotNull(initialLocation);
         assertTrue(initialLocation instanceof PointType);
 
-        VehicleStatus secondStatus = new VehicleStatus();
-        api.nextStatus = secondStatus;
+        api.nextStatus = VehicleStatusSnapshot.builder().build();
         api.returnInvalidLocation = true;
 
         handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_STATUS),
@@ -472,7 +517,7 @@ class HyundaiBlueLinkVehicleHandlerTest {
     }
 
     @Test
-    void pendingCommandBlocksOtherChannelsUntilRefreshCompletes() throws Exception {
+    void pendingCommandQueuesOtherChannelsUntilRefreshCompletes() throws Exception {
         ThingUID bridgeUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_ACCOUNT_BRIDGE, "bridge-block");
         ThingUID thingUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridgeUID,
                 "BLOCKVIN123456");
@@ -494,7 +539,7 @@ class HyundaiBlueLinkVehicleHandlerTest {
 
         handler.handleCommand(climateChannel, OnOffType.ON);
 
-        assertEquals(0, api.climateStartCallCount, "Climate command should be ignored while lock command is pending");
+        assertEquals(0, api.climateStartCallCount, "Climate command should be queued while lock command is pending");
         assertEquals(1, handler.commandRefreshScheduleCount);
 
         ManualScheduledFuture scheduledRefresh = handler.lastScheduledFuture;
@@ -504,15 +549,72 @@ class HyundaiBlueLinkVehicleHandlerTest {
         assertEquals(1, api.statusCallCount, "Refresh should be executed when the delayed job runs");
         assertEquals(1, api.locationCallCount, "Location refresh should occur as part of the delayed job");
 
-        handler.handleCommand(climateChannel, OnOffType.ON);
-
         assertEquals(1, api.climateStartCallCount,
-                "Climate command should succeed after the pending command completes");
+                "Queued climate command should run once the pending command completes");
         assertEquals(2, handler.commandRefreshScheduleCount,
                 "Completed commands should allow a new refresh to be scheduled");
         assertEquals("start", api.lastCommandAction);
     }
 
+    @Test
+    void reservationChangeReleasesTheSlotAfterItsRefresh() throws Exception {
+        ThingUID bridgeUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_ACCOUNT_BRIDGE, "bridge-rsv");
+        ThingUID thingUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridgeUID,
+                "RSVVIN12345678");
+        Thing thing = ThingBuilder.create(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, thingUID)
+                .withBridge(bridgeUID)
+                .withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_ID, "vehicle-rsv-id")
+                .build();
+
+        DelayCapturingVehicleHandler handler = new DelayCapturingVehicleHandler(thing);
+        ReservationApi api = new ReservationApi();
+        setApi(handler, api);
+
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_RESERVATION_ACTIVE),
+                OnOffType.ON);
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE),
+                OnOffType.ON);
+
+        assertEquals(1, api.setReservationCallCount);
+        assertEquals(0, api.lockCallCount, "The lock command waits for the reservation change");
+        ManualScheduledFuture scheduledRefresh = handler.lastScheduledFuture;
+        assertNotNull(scheduledRefresh);
+        scheduledRefresh.run();
+
+        assertEquals(1, api.lockCallCount, "The reservation refresh releases the queued lock command");
+    }
+
+    @Test
+    void failedCommandReleasesTheSlotOnlyOnce() throws Exception {
+        ThingUID bridgeUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_ACCOUNT_BRIDGE, "bridge-fail");
+        ThingUID thingUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridgeUID,
+                "FAILVIN1234567");
+        Thing thing = ThingBuilder.create(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, thingUID)
+                .withBridge(bridgeUID)
+                .withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_ID, "vehicle-fail-id")
+                .build();
+
+        DelayCapturingVehicleHandler handler = new DelayCapturingVehicleHandler(thing);
+        BlockingLockApi api = new BlockingLockApi();
+        setApi(handler, api);
+
+        Thread lockThread = new Thread(() -> handler
+                .handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE),
+                        OnOffType.ON));
+        lockThread.start();
+        assertTrue(api.lockEntered.await(5, TimeUnit.SECONDS));
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL),
+                OnOffType.ON);
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_STARTCHARGE),
+                OnOffType.ON);
+        api.releaseLock.countDown();
+        lockThread.join(5000);
+
+        assertEquals(1, api.climateStartCallCount, "The first queued command runs once the failed one is released");
+        assertEquals("start", api.lastCommandAction,
+                "The second queued command has to wait for the first one to complete");
+    }
+
     @Test
     void commandResultPollTriggersRefreshAfterCompletion() throws Exception {
         ThingUID bridgeUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_ACCOUNT_BRIDGE, "bridge-poll");
@@ -563,7 +665,10 @@ class HyundaiBlueLinkVehicleHandlerTest {
         assertFalse(postPollRefresh.isCancelled());
         postPollRefresh.run();
         assertEquals(1, api.statusCallCount);
-        assertEquals(1, api.locationCallCount);
+        assertEquals(0, api.locationCallCount, "A confirmed lock command only needs the vehicle status");
+        assertEquals(1, handler.getCommandStageMetrics().getSampleCount("lock"));
+        assertNotNull(handler.getThing().getProperties()
+                .get(HyundaiBlueLinkBindingConstants.PROPERTY_COMMAND_LATENCY_PREFIX + "lock"));
         assertEquals(0, handler.remainingPollFutures());
 
         ChannelUID climateChannel = new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL);
@@ -577,6 +682,48 @@ class HyundaiBlueLinkVehicleHandlerTest {
         assertFalse(handler.lastScheduledFuture.isCancelled());
     }
 
+    @Test
+    void outstandingCommandsAreResolvedByOnePoll() throws Exception {
+        ThingUID bridgeUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_ACCOUNT_BRIDGE, "bridge-multi");
+        ThingUID thingUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridgeUID,
+                "MULTIVIN123456");
+        Thing thing = ThingBuilder.create(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, thingUID)
+                .withBridge(bridgeUID)
+                .withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_ID, "vehicle-multi-id")
+                .build();
+
+        PollControlledVehicleHandler handler = new PollControlledVehicleHandler(thing);
+        ResolvingCommandApi api = new ResolvingCommandApi();
+        api.returnMessageIdForStart = true;
+        setApi(handler, api);
+
+        ChannelUID lockChannel = new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE);
+        ChannelUID climateChannel = new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL);
+
+        handler.handleCommand(lockChannel, OnOffType.ON);
+        handler.handleCommand(climateChannel, OnOffType.ON);
+
+        assertEquals(1, api.lockCallCount);
+        assertEquals(1, api.climateStartCallCount, "A tracked command should not block the next one");
+        assertEquals(2, handler.getOutstandingCommandCount());
+        assertEquals(1, handler.remainingPollFutures());
+
+        api.failed.add("job-42");
+        api.ready.add("job-start");
+        ManualScheduledFuture poll = handler.nextPollFuture();
+        assertNotNull(poll);
+        poll.run();
+
+        assertEquals(0, handler.getOutstandingCommandCount());
+        assertEquals(0, handler.remainingPollFutures());
+        assertEquals(1, api.pollCallCount, "Both commands are resolved from one notifications request");
+        assertEquals(1, api.rotationCount, "The device is rotated once after the table is drained");
+        assertEquals(UnDefType.UNDEF, handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE),
+                "The failed lock command should restore its own previous state");
+        assertEquals(OnOffType.ON, handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL));
+        assertEquals(1, handler.commandRefreshScheduleCount);
+    }
+
     @Test
     public void handleCommandChargeLimitAC() throws Exception {
         HyundaiBlueLinkVehicleHandler handler = setupHandler(true);
@@ -616,6 +763,98 @@ class HyundaiBlueLinkVehicleHandlerTest {
         assertEquals(1, api.setTargetTemperatureCallCount);
     }
 
+    @Test
+    void relatedCommandsAreCoalescedWithinWindow() throws Exception {
+        ThingUID bridgeUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_ACCOUNT_BRIDGE, "bridge-merge");
+        ThingUID thingUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridgeUID, "MERGEVIN");
+        Configuration configuration = new Configuration();
+        configuration.put(HyundaiBlueLinkBindingConstants.CONFIG_COMMAND_COALESCING_WINDOW, 2000);
+        Thing thing = ThingBuilder.create(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, thingUID)
+                .withBridge(bridgeUID).withConfiguration(configuration)
+                .withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_ID, "vehicle-merge-id").build();
+        DelayCapturingVehicleHandler handler = new DelayCapturingVehicleHandler(thing);
+        CommandRecordingApi api = new CommandRecordingApi();
+        setApi(handler, api);
+
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC),
+                new DecimalType(80));
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC),
+                new DecimalType(90));
+        assertEquals(0, api.setChargeLimitCallCount);
+        assertEquals(new DecimalType(80), handler.state(HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC));
+        assertEquals(1, handler.coalescedFutures.size());
+
+        handler.coalescedFutures.get(0).run();
+        assertEquals(1, api.setChargeLimitCallCount);
+        assertEquals(80, api.lastLimitAC);
+        assertEquals(90, api.lastLimitDC);
+
+        handler.lastScheduledFuture.run();
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_TARGET_TEMPERATURE),
+                new DecimalType(22));
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL),
+                OnOffType.ON);
+        assertEquals(0, api.setTargetTemperatureCallCount);
+        assertEquals(1, api.climateStartCallCount);
+        assertEquals(22.0, api.lastStartTemperature);
+        assertTrue(handler.coalescedFutures.get(1).isCancelled());
+    }
+
+    @Test
+    void coalescedChargeLimitsQueuedBehindACommandAreSentAsOneRequest() throws Exception {
+        ThingUID bridgeUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_ACCOUNT_BRIDGE, "bridge-pair");
+        ThingUID thingUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridgeUID, "PAIRVIN");
+        Configuration configuration = new Configuration();
+        configuration.put(HyundaiBlueLinkBindingConstants.CONFIG_COMMAND_COALESCING_WINDOW, 2000);
+        Thing thing = ThingBuilder.create(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, thingUID)
+                .withBridge(bridgeUID).withConfiguration(configuration)
+                .withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_ID, "vehicle-pair-id").build();
+        DelayCapturingVehicleHandler handler = new DelayCapturingVehicleHandler(thing);
+        CommandRecordingApi api = new CommandRecordingApi();
+        setApi(handler, api);
+
+        // the lock has no message ID and holds the slot until its refresh
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE),
+                OnOffType.ON);
+        ManualScheduledFuture lockRefresh = handler.lastScheduledFuture;
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC),
+                new DecimalType(80));
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_DC),
+                new DecimalType(90));
+        handler.coalescedFutures.get(0).run();
+        assertEquals(0, api.setChargeLimitCallCount);
+
+        lockRefresh.run();
+        assertEquals(1, api.setChargeLimitCallCount);
+        assertEquals(80, api.lastLimitAC);
+        assertEquals(90, api.lastLimitDC);
+    }
+
+    @Test
+    void climateStopLeavesThePendingTemperatureToItsFlush() throws Exception {
+        ThingUID bridgeUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_ACCOUNT_BRIDGE, "bridge-stop");
+        ThingUID thingUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridgeUID, "STOPVIN");
+        Configuration configuration = new Configuration();
+        configuration.put(HyundaiBlueLinkBindingConstants.CONFIG_COMMAND_COALESCING_WINDOW, 2000);
+        Thing thing = ThingBuilder.create(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, thingUID)
+                .withBridge(bridgeUID).withConfiguration(configuration)
+                .withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_ID, "vehicle-stop-id").build();
+        DelayCapturingVehicleHandler handler = new DelayCapturingVehicleHandler(thing);
+        CommandRecordingApi api = new CommandRecordingApi();
+        setApi(handler, api);
+
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_TARGET_TEMPERATURE),
+                new DecimalType(22));
+        handler.handleCommand(new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL),
+                OnOffType.OFF);
+        assertEquals("stop", api.lastCommandAction);
+        assertFalse(handler.coalescedFutures.get(0).isCancelled());
+
+        handler.lastScheduledFuture.run();
+        handler.coalescedFutures.get(0).run();
+        assertEquals(1, api.setTargetTemperatureCallCount, "The temperature is still sent after the stop");
+    }
+
     @Test
     public void handleCommandExtendedHeatingOptions() throws Exception {
         HyundaiBlueLinkVehicleHandler handler = setupHandler(true);
@@ -799,7 +1038,47 @@ class HyundaiBlueLinkVehicleHandlerTest {
         postPollRefresh.run();
 
         assertEquals(1, api.statusCallCount);
-        assertEquals(1, api.locationCallCount);
+        assertEquals(0, api.locationCallCount, "A confirmed lock command only needs the vehicle status");
+    }
+
+    @Test
+    void refreshAfterPolledCommandDoesNotReleaseTheSlotOfALaterCommand() throws Exception {
+        ThingUID bridgeUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_ACCOUNT_BRIDGE, "bridge-slot");
+        ThingUID thingUID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridgeUID,
+                "SLOTVIN123456");
+        Thing thing = ThingBuilder.create(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, thingUID)
+                .withBridge(bridgeUID)
+                .withProperty(HyundaiBlueLinkBindingConstants.PROPERTY_VEHICLE_ID, "vehicle-slot-id").build();
+        PollControlledVehicleHandler handler = new PollControlledVehicleHandler(thing);
+        CompletingCommandApi api = new CompletingCommandApi();
+        setApi(handler, api);
+        ChannelUID lockChannel = new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE);
+        ChannelUID climateChannel = new ChannelUID(thingUID, HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL);
+
+        // command A is tracked by the poller and releases its slot
+        handler.handleCommand(lockChannel, OnOffType.ON);
+        api.nextReady = true;
+        ManualScheduledFuture poll = handler.nextPollFuture();
+        assertNotNull(poll);
+        poll.run();
+        ManualScheduledFuture refreshForA = handler.lastScheduledFuture;
+        assertNotNull(refreshForA);
+
+        VehicleCommandManager manager = commandManager(handler);
+        long slotForB = manager.beginCommandExecution(climateChannel, OnOffType.ON);
+        assertNotEquals(VehicleCommandManager.NO_SLOT, slotForB);
+
+        refreshForA.run();
+
+        assertEquals(VehicleCommandManager.NO_SLOT, manager.beginCommandExecution(climateChannel, OnOffType.OFF),
+                "Command B still holds the slot after the refresh for command A");
+        manager.completeCommandExecution(slotForB);
+    }
+
+    private static VehicleCommandManager commandManager(HyundaiBlueLinkVehicleHandler handler) throws Exception {
+        Field field = HyundaiBlueLinkVehicleHandler.class.getDeclaredField("commandManager");
+        field.setAccessible(true);
+        return (VehicleCommandManager) field.get(handler);
     }
 
     private static long commandRefreshDelaySeconds() throws Exception {
@@ -834,6 +1113,14 @@ class HyundaiBlueLinkVehicleHandlerTest {
         return handler;
     }
 
+    private static void awaitIdle(BlueLinkIoExecutor executor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((executor.getCompletedCount() == 0 || executor.getActiveCount() + executor.getQueuedCount() > 0)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
     private void waitForPolling(HyundaiBlueLinkVehicleHandler handler) {
         if (handler instanceof PollControlledVehicleHandler pollHandler) {
             ManualScheduledFuture poll = pollHandler.nextPollFuture();
@@ -911,12 +1198,10 @@ class HyundaiBlueLinkVehicleHandlerTest {
         }
 
         @Override
-        public VehicleStatus getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported) {
+        public VehicleStatusSnapshot getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported) {
             lastStatusVehicleId = vehicleId;
             lastStatusVin = vinHint;
-            VehicleStatus status = new VehicleStatus();
-            status.vin = vinHint;
-            return status;
+            return VehicleStatusSnapshot.builder().setVin(vinHint).build();
         }
 
         @Override
@@ -934,10 +1219,15 @@ class HyundaiBlueLinkVehicleHandlerTest {
         int statusCallCount;
         int locationCallCount;
         int pollCallCount;
+        int rotationCount;
         int lockCallCount;
         int unlockCallCount;
         int climateStartCallCount;
         int setChargeLimitCallCount;
+        int lastLimitAC;
+        int lastLimitDC;
+        @Nullable
+        Double lastStartTemperature;
         int setTargetTemperatureCallCount;
 
         boolean lastStartDefrost;
@@ -956,11 +1246,9 @@ class HyundaiBlueLinkVehicleHandlerTest {
         }
 
         @Override
-        public VehicleStatus getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported) {
+        public VehicleStatusSnapshot getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported) {
             statusCallCount++;
-            VehicleStatus status = new VehicleStatus();
-            status.vin = vinHint;
-            return status;
+            return VehicleStatusSnapshot.builder().setVin(vinHint).build();
         }
 
         @Override
@@ -999,6 +1287,7 @@ class HyundaiBlueLinkVehicleHandlerTest {
                 boolean heating, boolean steeringWheel, boolean sideMirror, boolean rearWindow, boolean ccs2Supported) {
             lastCommandAction = "start";
             climateStartCallCount++;
+            lastStartTemperature = temperature;
             lastStartDefrost = defrost;
             lastStartHeating = heating;
             lastStartSteering = steeringWheel;
@@ -1034,6 +1323,8 @@ class HyundaiBlueLinkVehicleHandlerTest {
                 boolean ccs2Supported) {
             lastCommandAction = "setChargeLimit";
             setChargeLimitCallCount++;
+            lastLimitAC = limitAC;
+            lastLimitDC = limitDC;
             return new VehicleCommandResponse("charge", "setChargeLimit", null, null, false, null);
         }
 
@@ -1054,9 +1345,15 @@ class HyundaiBlueLinkVehicleHandlerTest {
         }
 
         @Override
-        public boolean pollVehicleCommandResult(String vehicleId, String vin, String messageId) throws Exception {
+        public CommandResults pollVehicleCommandResults(String vehicleId, String vin, Collection<String> messageIds)
+                throws Exception {
             pollCallCount++;
-            return false;
+            return new CommandResults();
+        }
+
+        @Override
+        public void rotateDeviceAfterCommandResults() {
+            rotationCount++;
         }
 
         @Override
@@ -1085,27 +1382,82 @@ class HyundaiBlueLinkVehicleHandlerTest {
         }
 
         @Override
-        public boolean pollVehicleCommandResult(String vehicleId, String vin, String messageId) throws Exception {
+        public CommandResults pollVehicleCommandResults(String vehicleId, String vin, Collection<String> messageIds)
+                throws Exception {
             pollCallCount++;
+            CommandResults results = new CommandResults();
             if (nextReady) {
                 nextReady = false;
-                return true;
+                messageIds.forEach(results::succeeded);
+            }
+            return results;
+        }
+    }
+
+    private static class ResolvingCommandApi extends CompletingCommandApi {
+        final Set<String> ready = new HashSet<>();
+        final Set<String> failed = new HashSet<>();
+
+        @Override
+        public CommandResults pollVehicleCommandResults(String vehicleId, String vin,
+                Collection<String> messageIds) {
+            pollCallCount++;
+            CommandResults results = new CommandResults();
+            for (String messageId : messageIds) {
+                if (failed.contains(messageId)) {
+                    results.failed(messageId, "Command failed according to notification: fail");
+                } else if (ready.contains(messageId)) {
+                    results.succeeded(messageId);
+                }
             }
-            return false;
+            return results;
         }
     }
 
     private static class FailingCommandApi extends CompletingCommandApi {
         @Override
-        public boolean pollVehicleCommandResult(String vehicleId, String vin, String messageId)
-                throws java.io.IOException {
+        public CommandResults pollVehicleCommandResults(String vehicleId, String vin,
+                Collection<String> messageIds) throws java.io.IOException {
             pollCallCount++;
             throw new java.io.IOException("Bad request (4000)");
         }
     }
 
+    private static class ReservationApi extends CommandRecordingApi {
+        int setReservationCallCount;
+
+        @Override
+        public @Nullable Reservation getReservation(String vehicleId, String vin, boolean ccs2Supported) {
+            return null;
+        }
+
+        @Override
+        public VehicleCommandResponse setReservation(String vehicleId, String vin, Reservation reservation,
+                boolean ccs2Supported) {
+            setReservationCallCount++;
+            return new VehicleCommandResponse("temperature", "reservation", null, null, false, null);
+        }
+    }
+
+    private static class BlockingLockApi extends CommandRecordingApi {
+        final CountDownLatch lockEntered = new CountDownLatch(1);
+        final CountDownLatch releaseLock = new CountDownLatch(1);
+
+        @Override
+        public VehicleCommandResponse lock(String vehicleId, String vin, boolean ccs2Supported) {
+            lockEntered.countDown();
+            try {
+                releaseLock.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("lock rejected");
+        }
+    }
+
     private static class DelayCapturingVehicleHandler extends HyundaiBlueLinkVehicleHandler {
         protected final Map<String, @Nullable State> states = new HashMap<>();
+        final List<ManualScheduledFuture> coalescedFutures = new ArrayList<>();
         int commandRefreshScheduleCount;
         long lastCommandRefreshDelaySeconds = -1;
         @Nullable
@@ -1124,6 +1476,13 @@ class HyundaiBlueLinkVehicleHandlerTest {
             return states.get(channelId);
         }
 
+        @Override
+        public java.util.concurrent.ScheduledFuture<?> scheduleCoalescedCommandTask(Runnable task, long delayMillis) {
+            ManualScheduledFuture future = new ManualScheduledFuture(task);
+            coalescedFutures.add(future);
+            return future;
+        }
+
         @Override
         public java.util.concurrent.ScheduledFuture<?> scheduleCommandRefreshTask(Runnable task, long delaySeconds) {
             commandRefreshScheduleCount++;
@@ -1238,18 +1597,18 @@ class HyundaiBlueLinkVehicleHandlerTest {
     }
 
     private static class StubStatusApi extends BlueLinkApi {
-        private final VehicleStatus status;
+        private final VehicleStatusSnapshot status;
         private final VehicleLocation location;
         int locationCallCount;
 
-        StubStatusApi(VehicleStatus status, VehicleLocation location) {
+        StubStatusApi(VehicleStatusSnapshot status, VehicleLocation location) {
             super(dummyEndpoints(), mock(OAuthClient.class), new StampProvider(), "1234");
             this.status = status;
             this.location = location;
         }
 
         @Override
-        public VehicleStatus getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported) {
+        public VehicleStatusSnapshot getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported) {
             return status;
         }
 
@@ -1260,6 +1619,22 @@ class HyundaiBlueLinkVehicleHandlerTest {
         }
     }
 
+    private static class FlakyStatusApi extends StubStatusApi {
+        boolean fail;
+
+        FlakyStatusApi(VehicleStatusSnapshot status, VehicleLocation location) {
+            super(status, location);
+        }
+
+        @Override
+        public VehicleStatusSnapshot getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported) {
+            if (fail) {
+                throw new IllegalStateException("HTTP 502");
+            }
+            return super.getVehicleStatus(vehicleId, vinHint, ccs2Supported);
+        }
+    }
+
     private static class DynamicIntervalAccountBridgeHandler extends AccountBridgeHandler {
         private volatile int refreshIntervalMinutes;
         private BlueLinkApi api;
@@ -1323,7 +1698,7 @@ class HyundaiBlueLinkVehicleHandlerTest {
     }
 
     private static class LocationFailureRecordingApi extends BlueLinkApi {
-        VehicleStatus nextStatus = new VehicleStatus();
+        VehicleStatusSnapshot nextStatus = VehicleStatusSnapshot.builder().build();
         VehicleLocation nextLocation = new VehicleLocation();
         boolean returnInvalidLocation;
         int locationCallCount;
@@ -1335,7 +1710,7 @@ class HyundaiBlueLinkVehicleHandlerTest {
         }
 
         @Override
-        public VehicleStatus getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported) {
+        public VehicleStatusSnapshot getVehicleStatus(String vehicleId, String vinHint, boolean ccs2Supported) {
             return nextStatus;
         }
 
@@ -1384,7 +1759,7 @@ class HyundaiBlueLinkVehicleHandlerTest {
         }
 
         @Override
-        public List<VehicleSummary> listVehicles() throws Exception {
+        protected List<VehicleSummary> fetchVehicleList() throws Exception {
             listCallCount++;
             return vehicles;
         }
@@ -0,0 +1,85 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.hyundaibluelink.internal.model.MonthlyReport;
+
+import com.google.gson.JsonParser;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class MonthlyReportStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void monthsAreAppendedOnceAndSurviveARestart() throws Exception {
+        Path file = tempDir.resolve("hyundaibluelink").resolve("vehicle.monthly");
+        MonthlyReport august = new MonthlyReport(YearMonth.of(2026, 8), 1234.5, 1800, 187.2);
+        MonthlyReport september = new MonthlyReport(YearMonth.of(2026, 9), 640.0, null, null);
+
+        MonthlyReportStore store = new MonthlyReportStore(file);
+        assertTrue(store.append(august));
+        assertTrue(store.append(september));
+        assertFalse(store.append(new MonthlyReport(YearMonth.of(2026, 8), 1.0, 1, 1.0)));
+        assertEquals(5 + 2 * MonthlyReportStore.RECORD_SIZE, Files.size(file));
+
+        MonthlyReportStore restarted = new MonthlyReportStore(file);
+        assertEquals(List.of(august, september), restarted.load());
+        assertTrue(restarted.contains(YearMonth.of(2026, 9)));
+        assertEquals(september, restarted.latest());
+    }
+
+    @Test
+    void tornRecordIsDroppedOnTheNextAppend() throws Exception {
+        Path file = tempDir.resolve("torn.monthly");
+        MonthlyReport july = new MonthlyReport(YearMonth.of(2026, 7), 900.0, 1500, 150.0);
+        new MonthlyReportStore(file).append(july);
+        Files.write(file, new byte[] { 0, 0, 7 }, StandardOpenOption.APPEND);
+
+        MonthlyReportStore store = new MonthlyReportStore(file);
+        assertEquals(List.of(july), store.load());
+        MonthlyReport august = new MonthlyReport(YearMonth.of(2026, 8), 800.0, 1400, 140.0);
+        assertTrue(store.append(august));
+        assertEquals(List.of(july, august), new MonthlyReportStore(file).load());
+    }
+
+    @Test
+    void unreadableFilesAreIgnored() throws Exception {
+        Path file = tempDir.resolve("broken.monthly");
+        assertNull(new MonthlyReportStore(file).latest());
+
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6 });
+        assertTrue(new MonthlyReportStore(file).load().isEmpty());
+    }
+
+    @Test
+    void reportIsParsedFromNestedResponse() {
+        String body = "{\"retCode\":\"S\",\"resMsg\":{\"monthlyReport\":{\"ifo\":{\"mvrMonthStart\":\"20260901\","
+                + "\"mvrMonthEnd\":\"20260930\"},\"driving\":{\"runDistance\":812,\"engineOnTime\":1263.6},"
+                + "\"energy\":{\"totalPwrCsp\":120500}}}}";
+
+        MonthlyReport report = MonthlyReport.fromJson(JsonParser.parseString(body));
+
+        assertNotNull(report);
+        assertEquals(YearMonth.of(2026, 9), report.month);
+        assertEquals(812.0, report.distanceKm);
+        assertEquals(1264, report.drivingMinutes);
+        assertEquals(120.5, report.energyConsumedKwh);
+        assertNull(MonthlyReport.fromJson(JsonParser.parseString("{\"resMsg\":{}}")));
+    }
+}
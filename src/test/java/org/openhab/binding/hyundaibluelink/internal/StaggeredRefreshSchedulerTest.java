@@ -0,0 +1,68 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class StaggeredRefreshSchedulerTest {
+
+    private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void vehiclesAreSpreadOverTheInterval() {
+        StaggeredRefreshScheduler scheduler = new StaggeredRefreshScheduler(executor, new NoJitter());
+        ScheduledFuture<?> first = scheduler.register("a", () -> {
+        }, 60);
+        ScheduledFuture<?> second = scheduler.register("b", () -> {
+        }, 60);
+        ScheduledFuture<?> third = scheduler.register("c", () -> {
+        }, 60);
+
+        assertEquals(0, scheduler.getOffsetMillis(first));
+        assertEquals(TimeUnit.MINUTES.toMillis(20), scheduler.getOffsetMillis(second));
+        assertEquals(TimeUnit.MINUTES.toMillis(40), scheduler.getOffsetMillis(third));
+
+        second.cancel(false);
+
+        assertEquals(2, scheduler.getSlotCount());
+        assertEquals(0, scheduler.getOffsetMillis(first));
+        assertEquals(TimeUnit.MINUTES.toMillis(30), scheduler.getOffsetMillis(third));
+    }
+
+    @Test
+    void startupWorkIsSpacedOut() {
+        StaggeredRefreshScheduler scheduler = new StaggeredRefreshScheduler(executor, new NoJitter());
+        ScheduledFuture<?> first = scheduler.runAtStartup(() -> {
+        });
+        ScheduledFuture<?> second = scheduler.runAtStartup(() -> {
+        });
+
+        long gap = second.getDelay(TimeUnit.MILLISECONDS) - first.getDelay(TimeUnit.MILLISECONDS);
+        assertTrue(gap > StaggeredRefreshScheduler.STARTUP_SPACING_MILLIS - 1000,
+                "Startup tasks must not hit the API at the same instant");
+    }
+
+    private static class NoJitter extends Random {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public double nextDouble() {
+            return 0;
+        }
+    }
+}
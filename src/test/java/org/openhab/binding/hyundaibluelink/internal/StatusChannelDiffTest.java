@@ -0,0 +1,61 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hyundaibluelink.internal.api.DistanceUnit;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class StatusChannelDiffTest {
+
+    private static final VehicleStatusSnapshot FIRST = VehicleStatusSnapshot.builder()
+            .setDouble(Field.ODOMETER, 100.0).setDistanceUnit(Field.ODOMETER, DistanceUnit.KILOMETERS)
+            .setDouble(Field.BATTERY_LEVEL, 80.0).build();
+
+    @Test
+    void onlyChangedFieldsArePublishedAfterFirstPass() {
+        StatusChannelDiff diff = new StatusChannelDiff();
+        StatusChannelDiff.Pass first = diff.begin(FIRST);
+        assertTrue(first.changed("odometer", Field.ODOMETER));
+        assertTrue(first.changed("batteryLevel", Field.BATTERY_LEVEL));
+        first.complete();
+
+        VehicleStatusSnapshot unitChanged = FIRST.toBuilder().setDistanceUnit(Field.ODOMETER, DistanceUnit.MILES)
+                .build();
+        StatusChannelDiff.Pass second = diff.begin(unitChanged);
+        assertTrue(second.changed("odometer", Field.ODOMETER));
+        assertFalse(second.changed("batteryLevel", Field.BATTERY_LEVEL));
+        assertTrue(second.changedAny("status"));
+        second.complete();
+
+        assertEquals(1, diff.getSuppressedCount());
+        assertEquals(0.2, diff.getSuppressionRate(), 1e-9);
+    }
+
+    @Test
+    void fullPublishAndInvalidationOverrideSuppression() {
+        StatusChannelDiff diff = new StatusChannelDiff();
+        diff.begin(FIRST).complete();
+
+        diff.invalidate("batteryLevel");
+        StatusChannelDiff.Pass invalidated = diff.begin(FIRST);
+        assertFalse(invalidated.changed("odometer", Field.ODOMETER));
+        assertTrue(invalidated.changed("batteryLevel", Field.BATTERY_LEVEL));
+        invalidated.complete();
+
+        diff.requestFullPublish();
+        StatusChannelDiff.Pass full = diff.begin(FIRST);
+        assertTrue(full.isFull());
+        assertTrue(full.changed("odometer", Field.ODOMETER));
+        full.complete();
+
+        diff.setAlwaysPublishFull(true);
+        assertTrue(diff.begin(FIRST).isFull());
+    }
+}
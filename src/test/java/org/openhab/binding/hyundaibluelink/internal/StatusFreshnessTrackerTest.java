@@ -0,0 +1,52 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class StatusFreshnessTrackerTest {
+
+    @Test
+    void unchangedSnapshotsStretchTheDelayUntilNewDataArrives() {
+        StatusFreshnessTracker tracker = new StatusFreshnessTracker();
+        VehicleStatusSnapshot status = VehicleStatusSnapshot.builder()
+                .setLastUpdated(Instant.parse("2024-01-01T10:00:00Z")).build();
+
+        assertTrue(tracker.observe(status));
+        assertEquals(600, tracker.stretch(600));
+
+        assertFalse(tracker.observe(status));
+        assertEquals(1200, tracker.stretch(600));
+        tracker.observe(status);
+        tracker.observe(status);
+        tracker.observe(status);
+        assertEquals(600 * StatusFreshnessTracker.MAX_BACKOFF_FACTOR, tracker.stretch(600));
+        assertEquals(StatusFreshnessTracker.MAX_DELAY_SECONDS, tracker.stretch(3600));
+
+        status = status.toBuilder().setLastUpdated(Instant.parse("2024-01-01T11:00:00Z")).build();
+        assertTrue(tracker.observe(status));
+        assertEquals(600, tracker.stretch(600));
+    }
+
+    @Test
+    void commandResetsTheBackoff() {
+        StatusFreshnessTracker tracker = new StatusFreshnessTracker();
+        VehicleStatusSnapshot status = VehicleStatusSnapshot.builder().setDouble(Field.BATTERY_LEVEL, 80.0).build();
+
+        tracker.observe(status);
+        tracker.observe(status);
+        assertEquals(1, tracker.getUnchangedCount());
+
+        tracker.reset();
+        assertEquals(600, tracker.stretch(600));
+    }
+}
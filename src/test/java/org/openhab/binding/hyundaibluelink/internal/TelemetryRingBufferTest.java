@@ -0,0 +1,92 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.hyundaibluelink.internal.TelemetryRingBuffer.Sample;
+import org.openhab.binding.hyundaibluelink.internal.api.DistanceUnit;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class TelemetryRingBufferTest {
+    private static final Instant T0 = Instant.parse("2026-10-01T08:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void samplesSurviveAReopen() throws Exception {
+        Path file = tempDir.resolve("hyundaibluelink").resolve("vehicle.telemetry");
+        TelemetryRingBuffer buffer = TelemetryRingBuffer.open(file, 16);
+        assertTrue(buffer.append(snapshot(T0, 80.5, true), 0));
+        assertTrue(buffer.append(snapshot(T0.plusSeconds(300), 81.0, false), 0));
+        assertFalse(buffer.append(snapshot(T0.plusSeconds(300), 81.0, false), 0));
+        buffer.close();
+        assertEquals(TelemetryRingBuffer.HEADER_SIZE + 16 * TelemetryRingBuffer.RECORD_SIZE, Files.size(file));
+
+        TelemetryRingBuffer reopened = TelemetryRingBuffer.open(file, 16);
+        List<Sample> samples = reopened.query(T0, T0.plusSeconds(3600));
+        assertEquals(2, samples.size());
+        Sample first = samples.get(0);
+        assertEquals(T0, first.time);
+        assertEquals(80.5, first.batteryLevel);
+        assertEquals(312.0, first.range);
+        assertEquals(DistanceUnit.KILOMETERS, first.rangeUnit);
+        assertNull(first.odometer);
+        assertEquals(2, first.chargingState);
+        assertEquals(Boolean.TRUE, first.charging);
+        assertEquals(Boolean.FALSE, samples.get(1).charging);
+        assertEquals("2026-10-01T08:00:00Z battery=80.5 range=312.0 km chargingState=2 charging=true",
+                first.toString());
+        reopened.close();
+    }
+
+    @Test
+    void fullRingOverwritesTheOldestSamples() throws Exception {
+        TelemetryRingBuffer buffer = TelemetryRingBuffer.open(tempDir.resolve("ring.telemetry"), 4);
+        for (int i = 0; i < 10; i++) {
+            buffer.append(snapshot(T0.plusSeconds(60L * i), i, false), 0);
+        }
+
+        assertEquals(4, buffer.size());
+        List<Sample> all = buffer.query(Instant.EPOCH, T0.plusSeconds(3600));
+        assertEquals(List.of(6.0, 7.0, 8.0, 9.0), all.stream().map(sample -> sample.batteryLevel).toList());
+        List<Sample> range = buffer.query(T0.plusSeconds(420), T0.plusSeconds(540));
+        assertEquals(List.of(7.0, 8.0), range.stream().map(sample -> sample.batteryLevel).toList());
+        assertEquals(T0.plusSeconds(540), buffer.getLatestTime());
+        buffer.close();
+    }
+
+    @Test
+    void changedCapacityStartsEmpty() throws Exception {
+        Path file = tempDir.resolve("resized.telemetry");
+        TelemetryRingBuffer buffer = TelemetryRingBuffer.open(file, 8);
+        buffer.append(snapshot(T0, 50, false), 0);
+        buffer.close();
+
+        TelemetryRingBuffer resized = TelemetryRingBuffer.open(file, 4);
+        assertEquals(0, resized.size());
+        assertEquals(TelemetryRingBuffer.HEADER_SIZE + 4 * TelemetryRingBuffer.RECORD_SIZE, Files.size(file));
+        resized.delete();
+        assertFalse(Files.exists(file));
+    }
+
+    private static VehicleStatusSnapshot snapshot(Instant lastUpdated, double batteryLevel, boolean charging) {
+        return VehicleStatusSnapshot.builder().setDouble(Field.BATTERY_LEVEL, batteryLevel)
+                .setDouble(Field.RANGE, 312.0).setDistanceUnit(Field.RANGE, DistanceUnit.KILOMETERS)
+                .setInt(Field.CHARGING_STATE, 2).setBoolean(Field.CHARGING, charging).setLastUpdated(lastUpdated)
+                .build();
+    }
+}
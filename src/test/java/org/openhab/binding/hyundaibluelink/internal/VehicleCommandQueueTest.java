@@ -0,0 +1,71 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hyundaibluelink.internal.VehicleCommandQueue.OfferResult;
+import org.openhab.binding.hyundaibluelink.internal.VehicleCommandQueue.QueuedCommand;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingUID;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class VehicleCommandQueueTest {
+
+    private static final ThingUID THING_UID = new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE,
+            "QUEUEVIN");
+    private static final ChannelUID LOCK = new ChannelUID(THING_UID,
+            HyundaiBlueLinkBindingConstants.CHANNEL_LOCK_STATE);
+    private static final ChannelUID TEMPERATURE = new ChannelUID(THING_UID,
+            HyundaiBlueLinkBindingConstants.CHANNEL_TARGET_TEMPERATURE);
+    private static final ChannelUID CLIMATE = new ChannelUID(THING_UID,
+            HyundaiBlueLinkBindingConstants.CHANNEL_CLIMATE_CONTROL);
+    private static final ChannelUID CHARGE_LIMIT_AC = new ChannelUID(THING_UID,
+            HyundaiBlueLinkBindingConstants.CHANNEL_CHARGE_LIMIT_AC);
+
+    @Test
+    void commandsForTheSameChannelAreCoalescedInPlace() {
+        VehicleCommandQueue queue = new VehicleCommandQueue(4);
+
+        assertEquals(OfferResult.QUEUED, queue.offer(LOCK, OnOffType.ON, 1));
+        assertEquals(OfferResult.QUEUED, queue.offer(TEMPERATURE, new DecimalType(20), 2));
+        assertEquals(OfferResult.COALESCED, queue.offer(LOCK, OnOffType.OFF, 3));
+        assertEquals(OfferResult.COALESCED, queue.offer(TEMPERATURE, new DecimalType(22), 4));
+        assertEquals(2, queue.size());
+
+        QueuedCommand first = queue.poll();
+        assertEquals(LOCK, first.getChannelUID());
+        assertEquals(OnOffType.OFF, first.getCommand());
+        assertEquals(1, first.getEnqueuedNanos());
+        QueuedCommand second = queue.poll();
+        assertEquals(new DecimalType(22), second.getCommand());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void rejectsNewChannelsWhenFull() {
+        VehicleCommandQueue queue = new VehicleCommandQueue(1);
+
+        assertEquals(OfferResult.QUEUED, queue.offer(LOCK, OnOffType.ON, 1));
+        assertEquals(OfferResult.REJECTED, queue.offer(CLIMATE, OnOffType.ON, 2));
+        assertEquals(OfferResult.COALESCED, queue.offer(LOCK, OnOffType.OFF, 3));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void chargeLimitKeepsItsCompanionWhenSuperseded() {
+        VehicleCommandQueue queue = new VehicleCommandQueue(4);
+
+        assertEquals(OfferResult.QUEUED, queue.offer(CHARGE_LIMIT_AC, new DecimalType(80), 90, 1));
+        assertEquals(OfferResult.COALESCED, queue.offer(CHARGE_LIMIT_AC, new DecimalType(70), 2));
+        assertEquals(1, queue.size());
+
+        QueuedCommand pair = queue.poll();
+        assertEquals(new DecimalType(70), pair.getCommand());
+        assertEquals(90, pair.getCompanionChargeLimit());
+    }
+}
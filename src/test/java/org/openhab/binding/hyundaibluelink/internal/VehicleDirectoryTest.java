@@ -0,0 +1,126 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleSummary;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class VehicleDirectoryTest {
+
+    @Test
+    void lookupsShareOneDownloadUntilTheTtlExpires() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        AtomicLong now = new AtomicLong();
+        VehicleSummary summary = summary("kmhvin0001", "id-1");
+        VehicleDirectory directory = new VehicleDirectory(() -> {
+            loads.incrementAndGet();
+            return List.of(summary);
+        }, Duration.ofMinutes(15), now::get);
+
+        assertSame(summary, directory.findByVin("KMHVIN0001"));
+        assertSame(summary, directory.findByVehicleId("id-1"));
+        assertNull(directory.findByVin("OTHER"));
+        assertEquals(1, loads.get());
+
+        now.addAndGet(Duration.ofMinutes(16).toNanos());
+        directory.getVehicles();
+        assertEquals(2, loads.get());
+
+        directory.invalidate();
+        directory.getVehicles();
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void concurrentCallersWaitForTheRunningDownload() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        VehicleDirectory directory = new VehicleDirectory(() -> {
+            loads.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(summary("VIN1", "id-1"));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<VehicleSummary>>> results = List.of(executor.submit(directory::getVehicles),
+                    executor.submit(directory::getVehicles), executor.submit(directory::getVehicles));
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<List<VehicleSummary>> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS).size());
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedDownloadsAreNotCached() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        VehicleDirectory directory = new VehicleDirectory(() -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IOException("Vehicle list request failed: 500");
+            }
+            return List.of(summary("VIN1", "id-1"));
+        });
+
+        assertThrows(IOException.class, directory::getVehicles);
+        assertTrue(directory.findByVin("VIN1") != null);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateDiscardsTheListOfADownloadInFlight() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        VehicleDirectory directory = new VehicleDirectory(() -> {
+            if (loads.incrementAndGet() == 1) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return List.of(summary("STALEVIN", "id-stale"));
+            }
+            return List.of(summary("FRESHVIN", "id-fresh"));
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<VehicleSummary>> stale = executor.submit(directory::getVehicles);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            directory.invalidate();
+            release.countDown();
+            assertEquals("STALEVIN", stale.get(5, TimeUnit.SECONDS).get(0).vin);
+
+            assertNull(directory.findByVin("STALEVIN"));
+            assertEquals("id-fresh", directory.findByVin("FRESHVIN").vehicleId);
+            assertEquals(2, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static VehicleSummary summary(String vin, String vehicleId) {
+        VehicleSummary summary = new VehicleSummary();
+        summary.vin = vin;
+        summary.vehicleId = vehicleId;
+        return summary;
+    }
+}
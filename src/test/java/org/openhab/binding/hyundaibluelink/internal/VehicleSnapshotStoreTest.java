@@ -0,0 +1,50 @@
+package org.openhab.binding.hyundaibluelink.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.hyundaibluelink.internal.api.DistanceUnit;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class VehicleSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void snapshotSurvivesARestart() {
+        VehicleStatusSnapshot snapshot = VehicleStatusSnapshot.builder().setVin("VIN123")
+                .setDouble(Field.BATTERY_LEVEL, 81.5).setDouble(Field.RANGE, 312.0)
+                .setDistanceUnit(Field.RANGE, DistanceUnit.KILOMETERS).setBoolean(Field.DOORS_LOCKED, false)
+                .setInt(Field.CHARGING_STATE, 2).setDoorStatusSummary("all closed")
+                .setLastUpdated(Instant.parse("2024-03-01T08:15:30Z")).build();
+
+        Path file = tempDir.resolve("hyundaibluelink").resolve("vehicle.snapshot");
+        new VehicleSnapshotStore(file).save(snapshot);
+
+        VehicleStatusSnapshot restored = new VehicleSnapshotStore(file).load();
+        assertNotNull(restored);
+        assertEquals(snapshot, restored);
+        assertEquals(Instant.parse("2024-03-01T08:15:30Z"), restored.getLastUpdated());
+    }
+
+    @Test
+    void unreadableFilesAreIgnored() throws Exception {
+        Path file = tempDir.resolve("broken.snapshot");
+        assertNull(new VehicleSnapshotStore(file).load());
+
+        Files.write(file, new byte[] { 1, 2, 3 });
+        assertNull(new VehicleSnapshotStore(file).load());
+    }
+}
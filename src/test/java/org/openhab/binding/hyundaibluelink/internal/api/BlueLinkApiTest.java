@@ -237,8 +237,8 @@ class BlueLinkApiTest {
 
             ctx.api.login();
 
-            VehicleStatus status = ctx.api.getVehicleStatus(vehicleId, "VIN-NO-PIN", false);
-            assertEquals(42.0, status.batteryLevel);
+            VehicleStatus status = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN-NO-PIN", false));
+            assertEquals(42.0, status.getBatteryLevel());
 
             IllegalStateException ex = assertThrows(IllegalStateException.class,
                     () -> ctx.api.lock(vehicleId, "VIN-NO-PIN", false));
@@ -275,28 +275,28 @@ class BlueLinkApiTest {
         server.start();
         try {
             TestContext ctx = createApiForPort(server.getAddress().getPort());
-            VehicleStatus status = ctx.api.getVehicleStatus(vehicleId, "VIN-EU", false);
+            VehicleStatus status = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN-EU", false));
 
             assertNotNull(status);
-            assertEquals("VIN-EU", status.vin);
-            assertEquals(87.0, status.batteryLevel);
-            assertEquals(320.5, status.range);
-            assertEquals(DistanceUnit.KILOMETERS, status.rangeUnit);
-            assertEquals(312.0, status.evModeRange);
-            assertEquals(DistanceUnit.KILOMETERS, status.evModeRangeUnit);
-            assertEquals(645.7, status.gasModeRange);
-            assertEquals(DistanceUnit.MILES, status.gasModeRangeUnit);
-            assertEquals(73.0, status.fuelLevel);
-            assertEquals(12345.0, status.odometer);
-            assertEquals(Boolean.TRUE, status.doorsLocked);
-            assertEquals(Boolean.FALSE, status.charging);
-            assertEquals(Boolean.TRUE, status.climateOn);
-            assertEquals(Boolean.FALSE, status.batteryWarning);
-            assertEquals(Boolean.FALSE, status.lowFuelLight);
-            assertEquals("frontLeft=CLOSED, frontRight=OPEN", status.doorStatusSummary);
-            assertEquals("rearLeft=CLOSED", status.windowStatusSummary);
-            assertNotNull(status.lastUpdated);
-            assertEquals(Instant.parse("2024-01-01T01:02:03Z"), status.lastUpdated);
+            assertEquals("VIN-EU", status.getVin());
+            assertEquals(87.0, status.getBatteryLevel());
+            assertEquals(320.5, status.getRange());
+            assertEquals(DistanceUnit.KILOMETERS, status.getRangeUnit());
+            assertEquals(312.0, status.getEvModeRange());
+            assertEquals(DistanceUnit.KILOMETERS, status.getEvModeRangeUnit());
+            assertEquals(645.7, status.getGasModeRange());
+            assertEquals(DistanceUnit.MILES, status.getGasModeRangeUnit());
+            assertEquals(73.0, status.getFuelLevel());
+            assertEquals(12345.0, status.getOdometer());
+            assertEquals(Boolean.TRUE, status.getDoorsLocked());
+            assertEquals(Boolean.FALSE, status.getCharging());
+            assertEquals(Boolean.TRUE, status.getClimateOn());
+            assertEquals(Boolean.FALSE, status.getBatteryWarning());
+            assertEquals(Boolean.FALSE, status.getLowFuelLight());
+            assertEquals("frontLeft=CLOSED, frontRight=OPEN", status.getDoorStatusSummary());
+            assertEquals("rearLeft=CLOSED", status.getWindowStatusSummary());
+            assertNotNull(status.getLastUpdated());
+            assertEquals(Instant.parse("2024-01-01T01:02:03Z"), status.getLastUpdated());
 
         } finally {
             server.stop(0);
@@ -327,11 +327,11 @@ class BlueLinkApiTest {
         server.start();
         try {
             TestContext ctx = createApiForPort(server.getAddress().getPort());
-            VehicleStatus status = ctx.api.getVehicleStatus(vehicleId, "VIN-CAPITAL", false);
+            VehicleStatus status = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN-CAPITAL", false));
 
             assertNotNull(status);
-            assertEquals(54413.3, status.odometer);
-            assertEquals(DistanceUnit.KILOMETERS, status.odometerUnit);
+            assertEquals(54413.3, status.getOdometer());
+            assertEquals(DistanceUnit.KILOMETERS, status.getOdometerUnit());
         } finally {
             server.stop(0);
         }
@@ -368,12 +368,12 @@ class BlueLinkApiTest {
         server.start();
         try {
             TestContext ctx = createApiForPort(server.getAddress().getPort());
-            VehicleStatus status = ctx.api.getVehicleStatus(vehicleId, "VIN-CCS2", true);
+            VehicleStatus status = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN-CCS2", true));
 
             assertNotNull(status);
-            assertEquals(54455.7, status.odometer);
-            assertEquals(Boolean.TRUE, status.doorsLocked);
-            assertEquals(Boolean.FALSE, status.charging);
+            assertEquals(54455.7, status.getOdometer());
+            assertEquals(Boolean.TRUE, status.getDoorsLocked());
+            assertEquals(Boolean.FALSE, status.getCharging());
             assertEquals(0, legacyRequests.get());
             assertEquals(1, ccs2Requests.get());
         } finally {
@@ -408,20 +408,20 @@ class BlueLinkApiTest {
         server.start();
         try {
             TestContext ctx = createApiForPort(server.getAddress().getPort());
-            VehicleStatus status = ctx.api.getVehicleStatus(vehicleId, "VIN-EU-FALLBACK", false);
+            VehicleStatus status = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN-EU-FALLBACK", false));
 
             assertNotNull(status);
-            assertEquals(54.0, status.batteryLevel);
-            assertEquals(235.0, status.range);
-            assertEquals(DistanceUnit.KILOMETERS, status.rangeUnit);
-            assertEquals(235.0, status.evModeRange);
-            assertEquals(DistanceUnit.KILOMETERS, status.evModeRangeUnit);
-            assertEquals(12345.0, status.odometer);
-            assertEquals(91.0, status.auxiliaryBatteryLevel);
-            assertEquals(Boolean.TRUE, status.doorsLocked);
-            assertEquals(Boolean.FALSE, status.charging);
-            assertEquals(Boolean.TRUE, status.climateOn);
-            assertEquals(Instant.parse("2020-07-18T19:21:40Z"), status.lastUpdated);
+            assertEquals(54.0, status.getBatteryLevel());
+            assertEquals(235.0, status.getRange());
+            assertEquals(DistanceUnit.KILOMETERS, status.getRangeUnit());
+            assertEquals(235.0, status.getEvModeRange());
+            assertEquals(DistanceUnit.KILOMETERS, status.getEvModeRangeUnit());
+            assertEquals(12345.0, status.getOdometer());
+            assertEquals(91.0, status.getAuxiliaryBatteryLevel());
+            assertEquals(Boolean.TRUE, status.getDoorsLocked());
+            assertEquals(Boolean.FALSE, status.getCharging());
+            assertEquals(Boolean.TRUE, status.getClimateOn());
+            assertEquals(Instant.parse("2020-07-18T19:21:40Z"), status.getLastUpdated());
         } finally {
             server.stop(0);
         }
@@ -455,11 +455,11 @@ class BlueLinkApiTest {
         server.start();
         try {
             TestContext ctx = createApiForPort(server.getAddress().getPort());
-            VehicleStatus status = ctx.api.getVehicleStatus(vehicleId, "VIN-RANGE-MI", false);
+            VehicleStatus status = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN-RANGE-MI", false));
 
             assertNotNull(status);
-            assertEquals(180.5, status.range);
-            assertEquals(DistanceUnit.MILES, status.rangeUnit);
+            assertEquals(180.5, status.getRange());
+            assertEquals(DistanceUnit.MILES, status.getRangeUnit());
         } finally {
             server.stop(0);
         }
@@ -490,11 +490,11 @@ class BlueLinkApiTest {
         server.start();
         try {
             TestContext ctx = createApiForPort(server.getAddress().getPort());
-            VehicleStatus status = ctx.api.getVehicleStatus(vehicleId, "VIN-LOCATION", false);
+            VehicleStatus status = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN-LOCATION", false));
 
             assertNotNull(status);
-            assertEquals(48.099894, status.latitude);
-            assertEquals(16.311561, status.longitude);
+            assertEquals(48.099894, status.getLatitude());
+            assertEquals(16.311561, status.getLongitude());
         } finally {
             server.stop(0);
         }
@@ -681,15 +681,15 @@ class BlueLinkApiTest {
         try {
             TestContext ctx = createApiForPort(server.getAddress().getPort());
 
-            VehicleStatus first = ctx.api.getVehicleStatus(vehicleId, "VIN", false);
+            VehicleStatus first = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN", false));
             assertEquals(1, postCalls.get(), "Initial call should attempt POST");
             assertEquals(1, getCalls.get(), "Initial fallback should perform GET");
-            assertEquals(64.0, first.batteryLevel);
+            assertEquals(64.0, first.getBatteryLevel());
 
-            VehicleStatus second = ctx.api.getVehicleStatus(vehicleId, "VIN", false);
+            VehicleStatus second = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN", false));
             assertEquals(1, postCalls.get(), "Subsequent calls should skip POST");
             assertEquals(2, getCalls.get(), "Subsequent calls should use GET directly");
-            assertEquals(64.0, second.batteryLevel);
+            assertEquals(64.0, second.getBatteryLevel());
         } finally {
             server.stop(0);
         }
@@ -736,12 +736,12 @@ class BlueLinkApiTest {
         try {
             TestContext ctx = createApiForPort(server.getAddress().getPort());
 
-            VehicleStatus status = ctx.api.getVehicleStatus(vehicleId, "VIN", false);
+            VehicleStatus status = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN", false));
 
             assertEquals(1, postCalls.get(), "Expected a single POST attempt");
             assertEquals(1, getCalls.get(), "Expected SPA v2 GET then SPA v1 GET");
             assertEquals(1, fallbackCalls.get(), "Expected a single /status/latest fallback call");
-            assertEquals(54.0, status.batteryLevel);
+            assertEquals(54.0, status.getBatteryLevel());
         } finally {
             server.stop(0);
         }
@@ -794,18 +794,18 @@ class BlueLinkApiTest {
             oauth.setAccessToken("access-token");
             BlueLinkApi api = new BlueLinkApi(endpoints, oauth, provider, "1234");
 
-            VehicleStatus status = api.getVehicleStatus(vehicleId, "VIN-SPA-V2", false);
+            VehicleStatus status = VehicleStatus.from(api.getVehicleStatus(vehicleId, "VIN-SPA-V2", false));
 
             assertEquals(1, legacyCalls.get(), "Expected a single SPA v2 /status attempt");
             assertEquals(1, spaV2FallbackCalls.get(), "Expected a single SPA v2 status/latest fallback call");
-            assertEquals(Boolean.TRUE, status.charging);
-            assertEquals(2, status.chargingState);
-            assertEquals(Integer.valueOf(37), status.remainingChargeTimeMinutes);
-            assertEquals(Boolean.TRUE, status.connectorFastened);
-            assertEquals(Boolean.FALSE, status.climateOn);
-            assertEquals(83.0, status.batteryLevel);
-            assertEquals(51234.5, status.odometer);
-            assertEquals(DistanceUnit.KILOMETERS, status.odometerUnit);
+            assertEquals(Boolean.TRUE, status.getCharging());
+            assertEquals(2, status.getChargingState());
+            assertEquals(Integer.valueOf(37), status.getRemainingChargeTimeMinutes());
+            assertEquals(Boolean.TRUE, status.getConnectorFastened());
+            assertEquals(Boolean.FALSE, status.getClimateOn());
+            assertEquals(83.0, status.getBatteryLevel());
+            assertEquals(51234.5, status.getOdometer());
+            assertEquals(DistanceUnit.KILOMETERS, status.getOdometerUnit());
         } finally {
             server.stop(0);
         }
@@ -851,19 +851,19 @@ class BlueLinkApiTest {
         try {
             TestContext ctx = createApiForPort(server.getAddress().getPort());
 
-            VehicleStatus status = ctx.api.getVehicleStatus(vehicleId, "VIN-SPA-V1", false);
+            VehicleStatus status = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN-SPA-V1", false));
 
             assertEquals(2, legacyCalls.get(), "Expected POST + GET attempts before SPA fallback");
             assertEquals(1, spaV1FallbackCalls.get(), "Expected a single SPA v1 status/latest fallback call");
-            assertEquals(Boolean.FALSE, status.charging);
-            assertEquals(1, status.chargingState);
-            assertEquals(Integer.valueOf(22), status.remainingChargeTimeMinutes);
-            assertEquals(Boolean.TRUE, status.connectorFastened);
-            assertEquals(Boolean.TRUE, status.climateOn);
-            assertEquals(67.0, status.batteryLevel);
-            assertEquals(Boolean.TRUE, status.doorsLocked);
-            assertEquals(44567.8, status.odometer);
-            assertEquals(DistanceUnit.MILES, status.odometerUnit);
+            assertEquals(Boolean.FALSE, status.getCharging());
+            assertEquals(1, status.getChargingState());
+            assertEquals(Integer.valueOf(22), status.getRemainingChargeTimeMinutes());
+            assertEquals(Boolean.TRUE, status.getConnectorFastened());
+            assertEquals(Boolean.TRUE, status.getClimateOn());
+            assertEquals(67.0, status.getBatteryLevel());
+            assertEquals(Boolean.TRUE, status.getDoorsLocked());
+            assertEquals(44567.8, status.getOdometer());
+            assertEquals(DistanceUnit.MILES, status.getOdometerUnit());
         } finally {
             server.stop(0);
         }
@@ -958,11 +958,11 @@ class BlueLinkApiTest {
         try {
             TestContext ctx = createApiForPort(server.getAddress().getPort());
 
-            VehicleStatus status = ctx.api.getVehicleStatus(vehicleId, "VIN", false);
+            VehicleStatus status = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN", false));
 
             assertEquals(1, fallbackCalls.get(), "Expected a single /status/latest fallback call");
-            assertEquals(54507.1, status.odometer);
-            assertEquals(DistanceUnit.KILOMETERS, status.odometerUnit);
+            assertEquals(54507.1, status.getOdometer());
+            assertEquals(DistanceUnit.KILOMETERS, status.getOdometerUnit());
         } finally {
             server.stop(0);
         }
@@ -1009,10 +1009,10 @@ class BlueLinkApiTest {
             localOauth.setAccessToken("access-token");
             BlueLinkApi apiWithSpaBase = new BlueLinkApi(localEndpoints, localOauth, provider, "1234");
 
-            VehicleStatus status = apiWithSpaBase.getVehicleStatus(vehicleId, "VIN", false);
+            VehicleStatus status = VehicleStatus.from(apiWithSpaBase.getVehicleStatus(vehicleId, "VIN", false));
             assertEquals(0, postCalls.get(), "POST should not be attempted for SPA v2 base URLs");
             assertEquals(1, getCalls.get(), "GET should be used immediately");
-            assertEquals(70.0, status.batteryLevel);
+            assertEquals(70.0, status.getBatteryLevel());
         } finally {
             server.stop(0);
         }
@@ -1292,7 +1292,7 @@ class BlueLinkApiTest {
             assertEquals(1, pinCalls.get());
 
             String expectedId = ctx.oauth.getDeviceId();
-            VehicleStatus status = ctx.api.getVehicleStatus(vehicleId, "VIN", false);
+            VehicleStatus status = VehicleStatus.from(ctx.api.getVehicleStatus(vehicleId, "VIN", false));
             assertEquals(2, statusCalls.get(), "Expected POST followed by GET fallback");
             assertEquals("Bearer refreshed-access-token", firstStatusAuth.get());
             assertEquals("Bearer refreshed-access-token", secondStatusAuth.get());
@@ -1302,7 +1302,7 @@ class BlueLinkApiTest {
             assertEquals("", secondStatusBody.get());
             assertEquals(sha512Hex("1234"), firstStatusPinHeader.get());
             assertEquals(sha512Hex("1234"), secondStatusPinHeader.get());
-            assertEquals(50.0, status.batteryLevel);
+            assertEquals(50.0, status.getBatteryLevel());
 
             ctx.api.lock(vehicleId, "VIN", false);
             assertEquals("Bearer control-token", doorAuth.get());
@@ -1546,6 +1546,50 @@ class BlueLinkApiTest {
         }
     }
 
+    @Test
+    void pollVehicleCommandResultsResolvesAllIdsFromOneRequest() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        String vehicleId = "66666666-7777-8888-9999-aaaaaaaaaaaa";
+        AtomicInteger pollCalls = new AtomicInteger();
+        server.createContext("/api/v1/user/pin", exchange -> {
+            Instant expiry = Instant.now().plusSeconds(120);
+            String body = "{\"controlToken\":\"control-token\",\"controlTokenExpiry\":\"" + expiry.toString() + "\"}";
+            byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, payload.length);
+            exchange.getResponseBody().write(payload);
+            exchange.getResponseBody().close();
+        });
+        server.createContext("/api/v1/spa/notifications/" + vehicleId + "/records", exchange -> {
+            pollCalls.incrementAndGet();
+            byte[] payload = ("{\"resMsg\":[{\"messageId\":\"job-1\",\"result\":\"success\"},"
+                    + "{\"messageId\":\"job-2\",\"result\":\"fail\"},"
+                    + "{\"messageId\":\"job-3\",\"result\":\"pending\"}]}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, payload.length);
+            exchange.getResponseBody().write(payload);
+            exchange.getResponseBody().close();
+        });
+
+        server.start();
+        try {
+            TestContext ctx = createApiForPort(server.getAddress().getPort());
+            ctx.oauth.setRefreshToken(null);
+
+            ctx.api.login();
+            String deviceId = ctx.oauth.getDeviceId();
+            CommandResults results = ctx.api.pollVehicleCommandResults(vehicleId, "VIN",
+                    List.of("job-1", "job-2", "job-3"));
+
+            assertEquals(1, pollCalls.get());
+            assertTrue(results.isSucceeded("job-1"));
+            assertNotNull(results.getFailure("job-2"));
+            assertTrue(results.isPending("job-3"));
+            assertEquals(deviceId, ctx.oauth.getDeviceId(), "The caller rotates the device once per poll");
+        } finally {
+            server.stop(0);
+        }
+    }
+
     @Test
     void pollVehicleCommandResultReturnsFalseWhenNotFoundOrPending() throws Exception {
         HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
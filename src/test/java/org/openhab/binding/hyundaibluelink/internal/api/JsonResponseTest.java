@@ -0,0 +1,52 @@
+package org.openhab.binding.hyundaibluelink.internal.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class JsonResponseTest {
+
+    @Test
+    void bodyIsParsedOnceAndShared() {
+        JsonResponse response = new JsonResponse(200, "{\"a\":1}", "{\"a\":1}");
+
+        JsonObject first = response.getBodyAsJson();
+        JsonObject second = response.getBodyAsJson();
+
+        assertSame(first, second);
+        assertSame(first, response.getBodyAsJsonElement());
+        assertEquals(1, first.get("a").getAsInt());
+    }
+
+    @Test
+    void invalidBodyYieldsEmptyObject() {
+        JsonResponse response = new JsonResponse(200, "not json", "not json");
+
+        assertNull(response.getBodyAsJsonElement());
+        assertTrue(response.getBodyAsJson().isEmpty());
+    }
+
+    @Test
+    void bodyForLogIsFormattedLazilyOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        JsonResponse response = new JsonResponse(200, "{}", r -> {
+            calls.incrementAndGet();
+            return "formatted";
+        });
+
+        assertEquals(0, calls.get());
+        assertEquals("formatted", response.getBodyForLog());
+        assertEquals("formatted", response.getBodyForLog());
+        assertEquals(1, calls.get());
+    }
+}
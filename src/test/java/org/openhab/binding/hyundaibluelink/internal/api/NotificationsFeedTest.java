@@ -0,0 +1,100 @@
+package org.openhab.binding.hyundaibluelink.internal.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class NotificationsFeedTest {
+
+    private static final String BODY = "{\"resMsg\":[{\"messageId\":\"job-1\",\"result\":\"success\"}]}";
+
+    @Test
+    void servesCachedRecordsWithinTtlAndRefetchesAfterInvalidate() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        NotificationsFeed feed = new NotificationsFeed(Duration.ofMinutes(1), () -> {
+            fetches.incrementAndGet();
+            return new NotificationsFeed.Records(200, BODY);
+        });
+
+        NotificationsFeed.Records first = feed.get();
+        assertSame(first, feed.get());
+        assertNotNull(first.getMessages());
+        assertEquals(1, first.getMessages().size());
+        assertEquals(1, fetches.get());
+
+        feed.invalidate();
+        feed.get();
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void concurrentReadersShareOneRequest() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        NotificationsFeed feed = new NotificationsFeed(Duration.ZERO, () -> {
+            fetches.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return new NotificationsFeed.Records(200, BODY);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<NotificationsFeed.Records> first = executor.submit(feed::get);
+            while (fetches.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<NotificationsFeed.Records> second = executor.submit(feed::get);
+            Thread.sleep(100);
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, fetches.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidateDiscardsTheResponseOfARequestInFlight() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        NotificationsFeed feed = new NotificationsFeed(Duration.ofMinutes(1), () -> {
+            if (fetches.incrementAndGet() == 1) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return new NotificationsFeed.Records(200, BODY);
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<NotificationsFeed.Records> stale = executor.submit(feed::get);
+            while (fetches.get() == 0) {
+                Thread.onSpinWait();
+            }
+            feed.invalidate();
+            release.countDown();
+            NotificationsFeed.Records staleRecords = stale.get(5, TimeUnit.SECONDS);
+
+            NotificationsFeed.Records fresh = feed.get();
+            assertEquals(2, fetches.get());
+            assertNotSame(staleRecords, fresh);
+            assertSame(fresh, feed.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.openhab.binding.hyundaibluelink.internal.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleCommandRequest;
+
+import com.google.gson.JsonObject;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class VehicleUriTableTest {
+
+    private static final String BASE = "https://prd.eu-ccapi.hyundai.com:8080/api/v2/spa";
+
+    @Test
+    void tableMatchesTheUriBuilders() {
+        VehicleUriTable table = new VehicleUriTable(BASE, "vid");
+        for (boolean v2 : new boolean[] { false, true }) {
+            for (boolean ccs2 : new boolean[] { false, true }) {
+                assertEquals(BlueLinkApi.buildSpaVehicleUri(BASE, "vid", "status/latest", v2, ccs2),
+                        table.spa("status/latest", v2, ccs2));
+                assertEquals(BlueLinkApi.buildSpaVehicleUri(BASE, "vid", "unlisted/suffix", v2, ccs2),
+                        table.spa("unlisted/suffix", v2, ccs2));
+            }
+        }
+        assertSame(table.spa("status/latest", true, true), table.spa("status/latest", true, true));
+        assertEquals(URI.create("https://prd.eu-ccapi.hyundai.com:8080/api/v1/spa/notifications/vid/records"),
+                table.notificationRecords());
+        assertTrue(table.isBuiltFrom(BASE));
+        assertFalse(table.isBuiltFrom("https://other.example/api/v2/spa"));
+    }
+
+    @Test
+    void commandUrisMatchTheStringBasedBuilder() {
+        VehicleUriTable v2Table = new VehicleUriTable(BASE, "vid");
+        String v1Base = "https://prd.eu-ccapi.hyundai.com:8080/api/v1/spa";
+        VehicleCommandRequest climate = VehicleCommandRequest.forV1AndV2("temperature", "control/temperature",
+                new JsonObject(), new JsonObject());
+        VehicleCommandRequest charge = VehicleCommandRequest.forControlSegment("charge", new JsonObject());
+        VehicleCommandRequest door = VehicleCommandRequest.forRemoteDoor("close");
+
+        for (VehicleCommandRequest request : new VehicleCommandRequest[] { climate, charge, door }) {
+            for (boolean ccs2 : new boolean[] { false, true }) {
+                assertEquals(request.buildUri(BASE, "vid", ccs2), request.buildUri(v2Table, false, ccs2));
+                assertEquals(request.buildUri(v1Base, "vid", ccs2), request.buildUri(v2Table, true, ccs2));
+            }
+        }
+    }
+}
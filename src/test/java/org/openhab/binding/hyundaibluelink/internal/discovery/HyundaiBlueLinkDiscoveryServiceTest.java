@@ -0,0 +1,109 @@
+package org.openhab.binding.hyundaibluelink.internal.discovery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hyundaibluelink.internal.AccountBridgeHandler;
+import org.openhab.binding.hyundaibluelink.internal.HyundaiBlueLinkBindingConstants;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleSummary;
+import org.openhab.core.config.discovery.DiscoveryResult;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.ThingStatusInfo;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.builder.BridgeBuilder;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class HyundaiBlueLinkDiscoveryServiceTest {
+
+    @Test
+    void scansPublishOnlyAddedChangedAndRemovedVehicles() throws Exception {
+        Bridge bridge = BridgeBuilder.create(HyundaiBlueLinkBindingConstants.THING_TYPE_ACCOUNT_BRIDGE, "account")
+                .build();
+        bridge.setStatusInfo(new ThingStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, null));
+        ListingAccountBridgeHandler bridgeHandler = new ListingAccountBridgeHandler(bridge);
+        bridgeHandler.vehicles = List.of(summary("VIN1", "Ioniq"), summary("VIN2", "Kona"));
+        RecordingDiscoveryService service = new RecordingDiscoveryService();
+        try {
+            service.setThingHandler(bridgeHandler);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (service.published().size() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, service.published().size());
+
+            service.clear();
+            bridgeHandler.getVehicleDirectory().invalidate();
+            service.startScan();
+            assertEquals(0, service.published().size());
+            assertEquals(0, service.removedUIDs().size());
+
+            bridgeHandler.vehicles = List.of(summary("VIN1", "Ioniq 5"), summary("VIN3", "EV6"));
+            bridgeHandler.getVehicleDirectory().invalidate();
+            service.startScan();
+            assertEquals(List.of("Ioniq 5", "EV6"),
+                    service.published().stream().map(DiscoveryResult::getLabel).toList());
+            assertEquals(List.of(new ThingUID(HyundaiBlueLinkBindingConstants.THING_TYPE_VEHICLE, bridge.getUID(),
+                    "VIN2")), service.removedUIDs());
+        } finally {
+            service.deactivate();
+            bridgeHandler.getIoExecutor().shutdown();
+        }
+    }
+
+    private static VehicleSummary summary(String vin, String label) {
+        VehicleSummary summary = new VehicleSummary();
+        summary.vin = vin;
+        summary.vehicleId = "id-" + vin;
+        summary.label = label;
+        return summary;
+    }
+
+    private static class ListingAccountBridgeHandler extends AccountBridgeHandler {
+        volatile List<VehicleSummary> vehicles = List.of();
+
+        ListingAccountBridgeHandler(Bridge bridge) {
+            super(bridge);
+        }
+
+        @Override
+        protected List<VehicleSummary> fetchVehicleList() {
+            return vehicles;
+        }
+    }
+
+    private static class RecordingDiscoveryService extends HyundaiBlueLinkDiscoveryService {
+        private final List<DiscoveryResult> published = new ArrayList<>();
+        private final List<ThingUID> removed = new ArrayList<>();
+
+        @Override
+        protected synchronized void thingDiscovered(DiscoveryResult result) {
+            published.add(result);
+        }
+
+        @Override
+        protected synchronized void thingRemoved(ThingUID thingUID) {
+            removed.add(thingUID);
+        }
+
+        synchronized List<DiscoveryResult> published() {
+            return new ArrayList<>(published);
+        }
+
+        synchronized List<ThingUID> removedUIDs() {
+            return new ArrayList<>(removed);
+        }
+
+        synchronized void clear() {
+            published.clear();
+            removed.clear();
+        }
+    }
+}
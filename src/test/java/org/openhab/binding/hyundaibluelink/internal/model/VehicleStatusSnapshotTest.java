@@ -0,0 +1,54 @@
+package org.openhab.binding.hyundaibluelink.internal.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hyundaibluelink.internal.api.DistanceUnit;
+import org.openhab.binding.hyundaibluelink.internal.model.VehicleStatusSnapshot.Field;
+
+@NonNullByDefault
+@SuppressWarnings("null")
+class VehicleStatusSnapshotTest {
+
+    @Test
+    void viewReadsThroughTheSnapshot() {
+        VehicleStatusSnapshot snapshot = VehicleStatusSnapshot.builder().setVin("VIN1")
+                .setDouble(Field.BATTERY_LEVEL, 54.0).setDouble(Field.RANGE, 235.0)
+                .setDistanceUnit(Field.RANGE, DistanceUnit.KILOMETERS).setBoolean(Field.DOORS_LOCKED, false)
+                .setInt(Field.CHARGING_STATE, 1).setLastUpdated(Instant.parse("2024-01-01T00:00:00Z")).build();
+        assertTrue(snapshot.has(Field.BATTERY_LEVEL));
+        assertTrue(snapshot.has(Field.DOORS_LOCKED));
+        assertFalse(snapshot.getBoolean(Field.DOORS_LOCKED));
+        assertFalse(snapshot.has(Field.ODOMETER));
+
+        VehicleStatus view = VehicleStatus.from(snapshot);
+        assertEquals("VIN1", view.getVin());
+        assertEquals(54.0, view.getBatteryLevel());
+        assertEquals(DistanceUnit.KILOMETERS, view.getRangeUnit());
+        assertEquals(Boolean.FALSE, view.getDoorsLocked());
+        assertEquals(1, view.getChargingState());
+        assertNull(view.getOdometer());
+        assertNull(view.getEngineOn());
+        assertSame(snapshot, view.toSnapshot());
+    }
+
+    @Test
+    void differsComparesValueAndPresence() {
+        VehicleStatusSnapshot first = VehicleStatusSnapshot.builder().setDouble(Field.ODOMETER, 100.0)
+                .setBoolean(Field.CHARGING, true).build();
+        VehicleStatusSnapshot second = first.toBuilder().setDouble(Field.ODOMETER, 101.0).clear(Field.CHARGING)
+                .build();
+
+        assertTrue(first.differs(Field.ODOMETER, second));
+        assertTrue(first.differs(Field.CHARGING, second));
+        assertFalse(first.differs(Field.RANGE, second));
+        assertFalse(first.differs(Field.ODOMETER, first.toBuilder().build()));
+    }
+}
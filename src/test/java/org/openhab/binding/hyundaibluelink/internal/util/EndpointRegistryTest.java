@@ -0,0 +1,92 @@
+package org.openhab.binding.hyundaibluelink.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.hyundaibluelink.internal.util.EndpointResolver.Endpoints;
+
+/**
+ * Tests for {@link EndpointRegistry}.
+ */
+@NonNullByDefault
+@SuppressWarnings("null")
+class EndpointRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void resolvedEndpointsAreCopies() throws Exception {
+        EndpointRegistry registry = new EndpointRegistry(EndpointRegistryTest.class.getClassLoader());
+        Endpoints first = registry.resolve(null, "eu", "hyundai");
+        first.oauth.clientId = "configured";
+        Endpoints second = registry.resolve("", "eu", "hyundai");
+
+        assertNotSame(first, second);
+        assertEquals("https://prd.eu-ccapi.hyundai.com:8080/api/v2/spa", second.ccapi.baseUrl);
+        assertNotNull(second.oauth.clientId);
+        assertNotEquals("configured", second.oauth.clientId);
+    }
+
+    @Test
+    void changedOverrideFileIsDeliveredToWatchers() throws Exception {
+        Path file = tempDir.resolve("endpoints.json");
+        Files.writeString(file, overrides("https://one.example/api"));
+        EndpointRegistry registry = new EndpointRegistry(EndpointRegistryTest.class.getClassLoader());
+        BlockingQueue<Endpoints> reloaded = new LinkedBlockingQueue<>();
+
+        assertEquals("https://one.example/api", registry.resolve(file.toString(), "eu", "kia").ccapi.baseUrl);
+        try (AutoCloseable watch = registry.watch(file.toString(), "eu", "kia", reloaded::add)) {
+            Files.writeString(file, "{ not json");
+            Files.writeString(file, overrides("https://two.example/api"));
+
+            Endpoints update = reloaded.poll(20, TimeUnit.SECONDS);
+            assertNotNull(update, "watcher should be notified");
+            assertEquals("https://two.example/api", update.ccapi.baseUrl);
+            assertEquals("https://two.example/api", registry.resolve(file.toString(), "eu", "kia").ccapi.baseUrl);
+        }
+    }
+
+    @Test
+    void overrideInAMissingDirectoryIsNotWatched() throws Exception {
+        String file = tempDir.resolve("missing").resolve("endpoints.json").toString();
+        EndpointRegistry registry = new EndpointRegistry(EndpointRegistryTest.class.getClassLoader());
+
+        assertEquals("https://prd.eu-ccapi.hyundai.com:8080/api/v2/spa",
+                registry.resolve(file, "eu", "hyundai").ccapi.baseUrl);
+        try (AutoCloseable watch = registry.watch(file, "eu", "hyundai", endpoints -> {
+        })) {
+            assertNotNull(watch);
+        }
+    }
+
+    @Test
+    void resolveRereadsAnOverrideFileThatChanged() throws Exception {
+        Path file = tempDir.resolve("endpoints.json");
+        Files.writeString(file, overrides("https://one.example/api"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+        EndpointRegistry registry = new EndpointRegistry(EndpointRegistryTest.class.getClassLoader());
+        assertEquals("https://one.example/api", registry.resolve(file.toString(), "eu", "kia").ccapi.baseUrl);
+
+        Files.writeString(file, overrides("https://two.example/api"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000));
+
+        assertEquals("https://two.example/api", registry.resolve(file.toString(), "eu", "kia").ccapi.baseUrl);
+    }
+
+    private static String overrides(String baseUrl) {
+        return "{\"eu\":{\"kia\":{\"oauth\":{\"clientId\":\"id\"},\"ccapi\":{\"baseUrl\":\"" + baseUrl + "\"}}}}";
+    }
+}